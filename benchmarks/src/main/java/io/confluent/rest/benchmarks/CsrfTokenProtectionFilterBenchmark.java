@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.benchmarks;
+
+import io.confluent.rest.RestConfig;
+import io.confluent.rest.filters.CsrfTokenProtectionFilter;
+import io.confluent.rest.filters.CsrfTokenProtectionFilter.Headers;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link CsrfTokenProtectionFilter#doFilter} for a safe method, which skips the token
+ * check, and for a state-changing method carrying a valid token.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsrfTokenProtectionFilterBenchmark {
+
+  private static final String SESSION_ID = "benchmark-session";
+
+  private CsrfTokenProtectionFilter filter;
+  private ServletStubs.Request getRequest;
+  private ServletStubs.Request postRequest;
+  private ServletStubs.Response response;
+
+  @Setup
+  public void setUp() throws Exception {
+    filter = new CsrfTokenProtectionFilter();
+    filter.init(ServletStubs.filterConfig("csrf", Collections.emptyMap()));
+
+    // Fetch a token the way a client would before sending state-changing requests.
+    ServletStubs.Response tokenResponse = new ServletStubs.Response();
+    filter.doFilter(new ServletStubs.Request()
+            .requestUri(RestConfig.CSRF_PREVENTION_TOKEN_FETCH_ENDPOINT_DEFAULT)
+            .header(Headers.REQUESTED_BY, SESSION_ID),
+        tokenResponse, ServletStubs.NOOP_CHAIN);
+    String token = tokenResponse.getHeader(Headers.CSRF_TOKEN);
+
+    getRequest = new ServletStubs.Request()
+        .method("GET")
+        .requestUri("/v3/clusters");
+    postRequest = new ServletStubs.Request()
+        .method("POST")
+        .requestUri("/v3/clusters/lkc-6787w2/topics")
+        .header(Headers.REQUESTED_BY, SESSION_ID)
+        .header(Headers.REQUESTED_WITH, token);
+    response = new ServletStubs.Response();
+  }
+
+  @Benchmark
+  public ServletStubs.Response safeMethod() throws Exception {
+    filter.doFilter(getRequest, response, ServletStubs.NOOP_CHAIN);
+    return response;
+  }
+
+  @Benchmark
+  public ServletStubs.Response validToken() throws Exception {
+    filter.doFilter(postRequest, response, ServletStubs.NOOP_CHAIN);
+    return response;
+  }
+}
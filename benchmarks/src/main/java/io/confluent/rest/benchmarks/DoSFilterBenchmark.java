@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.benchmarks;
+
+import io.confluent.rest.jetty.DoSFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link DoSFilter#doFilter} for each rate tracker, with requests coming from a single
+ * client or spread over many.
+ *
+ * <p>Clients send far more requests than the limit allows, so most requests are over the limit;
+ * the listener lets them through, so every request pays for the same tracking work and none of
+ * them waits.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DoSFilterBenchmark {
+
+  @Param({"sliding_window", "token_bucket", "gcra", "sliding_window_counter"})
+  public String rateTracker;
+
+  @Param({"1", "1024"})
+  public int clients;
+
+  private DoSFilter filter;
+  private ServletStubs.Request[] requests;
+  private ServletStubs.Response response;
+  private int next;
+
+  @Setup
+  public void setUp() throws Exception {
+    Map<String, String> initParameters = new HashMap<>();
+    initParameters.put("maxRequestsPerSec", "100");
+    initParameters.put("rateTracker", rateTracker);
+    filter = new DoSFilter();
+    filter.setListener(new DoSFilter.Listener() {
+      @Override
+      public DoSFilter.Action onRequestOverLimit(HttpServletRequest request,
+          DoSFilter.OverLimit overlimit, DoSFilter dosFilter) {
+        return DoSFilter.Action.NO_ACTION;
+      }
+    });
+    filter.init(ServletStubs.filterConfig("dos-filter-benchmark", initParameters));
+
+    requests = new ServletStubs.Request[clients];
+    for (int i = 0; i < clients; i++) {
+      requests[i] = new ServletStubs.Request()
+          .remoteAddr("10." + (i >> 16 & 0xff) + "." + (i >> 8 & 0xff) + "." + (i & 0xff));
+    }
+    response = new ServletStubs.Response();
+  }
+
+  @TearDown
+  public void tearDown() {
+    filter.destroy();
+  }
+
+  @Benchmark
+  public ServletStubs.Response doFilter() throws Exception {
+    ServletStubs.Request request = requests[next].recycle();
+    next = next + 1 == requests.length ? 0 : next + 1;
+    filter.doFilter(request, response, ServletStubs.NOOP_CHAIN);
+    return response;
+  }
+}
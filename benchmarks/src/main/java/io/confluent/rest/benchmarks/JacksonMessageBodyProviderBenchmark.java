@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.confluent.rest.entities.ErrorMessage;
+import io.confluent.rest.validation.JacksonMessageBodyProvider;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link JacksonMessageBodyProvider#readFrom} and
+ * {@link JacksonMessageBodyProvider#writeTo} for a small entity and for a batch of records, the
+ * typical bodies of an error and of a produce request, with and without the Blackbird module of
+ * {@code json.blackbird.enable}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JacksonMessageBodyProviderBenchmark {
+
+  private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+  private static final Type RECORD_LIST_TYPE = new TypeReference<List<Record>>() { }.getType();
+
+  @Param({"100"})
+  public int batchSize;
+
+  @Param({"false", "true"})
+  public boolean blackbird;
+
+  private JacksonMessageBodyProvider provider;
+  private MultivaluedMap<String, String> headers;
+  private MultivaluedMap<String, Object> responseHeaders;
+  private byte[] errorMessageBody;
+  private byte[] recordBatchBody;
+  private ErrorMessage errorMessage;
+  private List<Record> recordBatch;
+  private ByteArrayOutputStream output;
+
+  public static class Record {
+
+    @JsonProperty
+    public String key;
+
+    @JsonProperty
+    public String value;
+
+    @JsonProperty
+    public Integer partition;
+
+    @JsonProperty
+    public long timestamp;
+  }
+
+  @Setup
+  public void setUp() {
+    ObjectMapper mapper = new ObjectMapper();
+    if (blackbird) {
+      mapper.registerModule(new BlackbirdModule());
+    }
+    provider = new JacksonMessageBodyProvider(mapper);
+    headers = new MultivaluedHashMap<>();
+    responseHeaders = new MultivaluedHashMap<>();
+    output = new ByteArrayOutputStream();
+    errorMessageBody = "{\"error_code\":40401,\"message\":\"Topic not found.\"}"
+        .getBytes(StandardCharsets.UTF_8);
+
+    StringBuilder batch = new StringBuilder("[");
+    for (int i = 0; i < batchSize; i++) {
+      if (i > 0) {
+        batch.append(',');
+      }
+      batch.append("{\"key\":\"key-").append(i)
+          .append("\",\"value\":\"").append("v".repeat(64))
+          .append("\",\"partition\":").append(i % 6)
+          .append(",\"timestamp\":").append(1_700_000_000_000L + i)
+          .append('}');
+    }
+    recordBatchBody = batch.append(']').toString().getBytes(StandardCharsets.UTF_8);
+
+    errorMessage = new ErrorMessage(40401, "Topic not found.");
+    recordBatch = new ArrayList<>();
+    for (int i = 0; i < batchSize; i++) {
+      Record record = new Record();
+      record.key = "key-" + i;
+      record.value = "v".repeat(64);
+      record.partition = i % 6;
+      record.timestamp = 1_700_000_000_000L + i;
+      recordBatch.add(record);
+    }
+  }
+
+  @Benchmark
+  @SuppressWarnings("unchecked")
+  public Object readErrorMessage() throws Exception {
+    return provider.readFrom((Class<Object>) (Class<?>) ErrorMessage.class, ErrorMessage.class,
+        NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE, headers,
+        new ByteArrayInputStream(errorMessageBody));
+  }
+
+  @Benchmark
+  @SuppressWarnings("unchecked")
+  public Object readRecordBatch() throws Exception {
+    return provider.readFrom((Class<Object>) (Class<?>) List.class, RECORD_LIST_TYPE,
+        NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE, headers,
+        new ByteArrayInputStream(recordBatchBody));
+  }
+
+  @Benchmark
+  public int writeErrorMessage() throws Exception {
+    output.reset();
+    provider.writeTo(errorMessage, ErrorMessage.class, ErrorMessage.class, NO_ANNOTATIONS,
+        MediaType.APPLICATION_JSON_TYPE, responseHeaders, output);
+    return output.size();
+  }
+
+  @Benchmark
+  public int writeRecordBatch() throws Exception {
+    output.reset();
+    provider.writeTo(recordBatch, List.class, RECORD_LIST_TYPE, NO_ANNOTATIONS,
+        MediaType.APPLICATION_JSON_TYPE, responseHeaders, output);
+    return output.size();
+  }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.benchmarks;
+
+import io.confluent.rest.RestConfig;
+import io.confluent.rest.annotations.PerformanceMetric;
+import io.confluent.rest.metrics.MetricsResourceMethodApplicationListener;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.metrics.Metrics;
+import org.glassfish.jersey.internal.MapPropertiesDelegate;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.ExtendedUriInfo;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.model.ResourceModel;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures what {@link MetricsResourceMethodApplicationListener} allocates to record the metrics
+ * of a request, by feeding it the events Jersey sends for a request that reads and writes an
+ * entity, without the rest of Jersey. Run with {@code -prof gc} and compare
+ * {@code gc.alloc.rate.norm}, the bytes allocated per request, of {@link #request} to that of
+ * {@link #baseline}, which does the same work on the request and response without the listener.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricsRequestEventListenerAllocationBenchmark {
+
+  private static final byte[] REQUEST_BODY = new byte[512];
+  private static final byte[] RESPONSE_BODY = new byte[2048];
+
+  @Param({"false", "true"})
+  public boolean requestTags;
+
+  private Metrics metrics;
+  private MetricsResourceMethodApplicationListener listener;
+  private ContainerRequest request;
+  private ContainerResponse response;
+  private ByteArrayInputStream requestBody;
+  private StubRequestEvent start;
+  private StubRequestEvent matchingStart;
+  private StubRequestEvent resourceMethodStart;
+  private StubRequestEvent responseFiltersStart;
+  private StubRequestEvent finished;
+
+  @Path("/benchmark")
+  public static class BenchmarkResource {
+
+    @GET
+    @PerformanceMetric("benchmark.get")
+    public String get() {
+      return "";
+    }
+  }
+
+  @Setup
+  public void setUp() {
+    RestConfig restConfig =
+        new RestConfig(RestConfig.baseConfigDef(), new HashMap<>(), false);
+    metrics = new Metrics();
+    listener = new MetricsResourceMethodApplicationListener(metrics, "jersey",
+        Collections.emptyMap(), restConfig.getTime(),
+        restConfig.getBoolean(RestConfig.METRICS_LATENCY_SLO_SLA_ENABLE_CONFIG),
+        restConfig.getLong(RestConfig.METRICS_LATENCY_SLO_MS_CONFIG),
+        restConfig.getLong(RestConfig.METRICS_LATENCY_SLA_MS_CONFIG),
+        restConfig.getDouble(RestConfig.PERCENTILE_MAX_LATENCY_MS_CONFIG),
+        true,
+        restConfig.getDisableResponseSizeMetricsCollection());
+
+    Resource resource = Resource.from(BenchmarkResource.class);
+    ResourceModel resourceModel = new ResourceModel.Builder(false).addResource(resource).build();
+    listener.onEvent(new StubApplicationEvent(resourceModel));
+    ResourceMethod resourceMethod = resource.getResourceMethods().get(0);
+
+    request = new ContainerRequest(URI.create("http://localhost:8080/"),
+        URI.create("http://localhost:8080/benchmark"), "GET", null,
+        new MapPropertiesDelegate(), new ResourceConfig());
+    if (requestTags) {
+      Map<String, String> tags = new HashMap<>();
+      tags.put("tenant", "lkc-abc123");
+      tags.put("principal", "u-xyz789");
+      request.setProperty(MetricsResourceMethodApplicationListener.REQUEST_TAGS_PROP_KEY, tags);
+    }
+    // Creating a response ends the request phase of its request, after which the request entity
+    // stream can no longer be replaced, so build it from a request of its own.
+    ContainerRequest responseRequest = new ContainerRequest(URI.create("http://localhost:8080/"),
+        URI.create("http://localhost:8080/benchmark"), "GET", null,
+        new MapPropertiesDelegate(), new ResourceConfig());
+    response = new ContainerResponse(responseRequest, Response.ok().build());
+    requestBody = new ByteArrayInputStream(REQUEST_BODY);
+
+    ExtendedUriInfo uriInfo = (ExtendedUriInfo) Proxy.newProxyInstance(
+        ExtendedUriInfo.class.getClassLoader(), new Class<?>[] {ExtendedUriInfo.class},
+        (proxy, method, args) -> {
+          if (method.getName().equals("getMatchedResourceMethod")) {
+            return resourceMethod;
+          }
+          throw new UnsupportedOperationException(method.getName());
+        });
+    start = new StubRequestEvent(RequestEvent.Type.START, request, null, uriInfo);
+    matchingStart = new StubRequestEvent(RequestEvent.Type.MATCHING_START, request, null, uriInfo);
+    resourceMethodStart =
+        new StubRequestEvent(RequestEvent.Type.RESOURCE_METHOD_START, request, null, uriInfo);
+    responseFiltersStart =
+        new StubRequestEvent(RequestEvent.Type.RESP_FILTERS_START, request, response, uriInfo);
+    finished = new StubRequestEvent(RequestEvent.Type.FINISHED, request, response, uriInfo);
+  }
+
+  @TearDown
+  public void tearDown() {
+    metrics.close();
+  }
+
+  @Benchmark
+  public void baseline() throws IOException {
+    resetEntities();
+    readRequestEntity();
+    writeResponseEntity();
+  }
+
+  @Benchmark
+  public void request() throws IOException {
+    resetEntities();
+    RequestEventListener requestListener = listener.onRequest(start);
+    requestListener.onEvent(matchingStart);
+    readRequestEntity();
+    requestListener.onEvent(resourceMethodStart);
+    requestListener.onEvent(responseFiltersStart);
+    writeResponseEntity();
+    requestListener.onEvent(finished);
+  }
+
+  private void resetEntities() {
+    requestBody.reset();
+    request.setEntityStream(requestBody);
+    response.setEntityStream(OutputStream.nullOutputStream());
+  }
+
+  private void readRequestEntity() throws IOException {
+    InputStream entity = request.getEntityStream();
+    while (entity.read(REQUEST_BODY) > 0) {
+      // read the whole entity, as the message body reader would
+    }
+  }
+
+  private void writeResponseEntity() throws IOException {
+    response.getEntityStream().write(RESPONSE_BODY);
+  }
+
+  private static final class StubApplicationEvent implements ApplicationEvent {
+
+    private final ResourceModel resourceModel;
+
+    StubApplicationEvent(ResourceModel resourceModel) {
+      this.resourceModel = resourceModel;
+    }
+
+    @Override
+    public Type getType() {
+      return Type.INITIALIZATION_FINISHED;
+    }
+
+    @Override
+    public ResourceConfig getResourceConfig() {
+      return null;
+    }
+
+    @Override
+    public Set<Class<?>> getRegisteredClasses() {
+      return Collections.emptySet();
+    }
+
+    @Override
+    public Set<Object> getRegisteredInstances() {
+      return Collections.emptySet();
+    }
+
+    @Override
+    public Set<Class<?>> getProviders() {
+      return Collections.emptySet();
+    }
+
+    @Override
+    public ResourceModel getResourceModel() {
+      return resourceModel;
+    }
+  }
+
+  private static final class StubRequestEvent implements RequestEvent {
+
+    private final Type type;
+    private final ContainerRequest request;
+    private final ContainerResponse response;
+    private final ExtendedUriInfo uriInfo;
+
+    StubRequestEvent(Type type, ContainerRequest request, ContainerResponse response,
+        ExtendedUriInfo uriInfo) {
+      this.type = type;
+      this.request = request;
+      this.response = response;
+      this.uriInfo = uriInfo;
+    }
+
+    @Override
+    public Type getType() {
+      return type;
+    }
+
+    @Override
+    public ContainerRequest getContainerRequest() {
+      return request;
+    }
+
+    @Override
+    public ContainerResponse getContainerResponse() {
+      return response;
+    }
+
+    @Override
+    public Throwable getException() {
+      return null;
+    }
+
+    @Override
+    public ExceptionCause getExceptionCause() {
+      return null;
+    }
+
+    @Override
+    public ExtendedUriInfo getUriInfo() {
+      return uriInfo;
+    }
+
+    @Override
+    public ExceptionMapper<?> getExceptionMapper() {
+      return null;
+    }
+
+    @Override
+    public Iterable<ContainerRequestFilter> getContainerRequestFilters() {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public Iterable<ContainerResponseFilter> getContainerResponseFilters() {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isSuccess() {
+      return true;
+    }
+
+    @Override
+    public boolean isResponseSuccessfullyMapped() {
+      return false;
+    }
+
+    @Override
+    public boolean isResponseWritten() {
+      return true;
+    }
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.benchmarks;
+
+import io.confluent.rest.RestConfig;
+import io.confluent.rest.annotations.PerformanceMetric;
+import io.confluent.rest.entities.ErrorMessage;
+import io.confluent.rest.metrics.MetricsResourceMethodApplicationListener;
+import io.confluent.rest.validation.JacksonMessageBodyProvider;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.metrics.Metrics;
+import org.glassfish.jersey.internal.MapPropertiesDelegate;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.spi.Container;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the request event handling of {@link MetricsResourceMethodApplicationListener} by
+ * dispatching requests through an in-memory Jersey application, configured the way
+ * {@code Application} configures it, with and without the listener registered. The difference
+ * between the two is the cost of the listener.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricsResourceMethodApplicationListenerBenchmark {
+
+  private static final URI BASE_URI = URI.create("http://localhost:8080/");
+  private static final URI REQUEST_URI = URI.create("http://localhost:8080/benchmark/echo");
+  private static final byte[] BODY =
+      "{\"error_code\":40401,\"message\":\"Topic not found.\"}".getBytes(StandardCharsets.UTF_8);
+
+  @Param({"true", "false"})
+  public boolean metricsEnabled;
+
+  private Metrics metrics;
+  private ApplicationHandler handler;
+
+  @Path("/benchmark")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Consumes(MediaType.APPLICATION_JSON)
+  public static class BenchmarkResource {
+
+    @POST
+    @Path("/echo")
+    @PerformanceMetric("benchmark.echo")
+    public ErrorMessage echo(ErrorMessage message) {
+      return message;
+    }
+  }
+
+  @Setup
+  public void setUp() {
+    RestConfig restConfig =
+        new RestConfig(RestConfig.baseConfigDef(), new HashMap<>(), false);
+    metrics = new Metrics();
+
+    ResourceConfig resourceConfig = new ResourceConfig();
+    resourceConfig.register(new JacksonMessageBodyProvider());
+    resourceConfig.register(BenchmarkResource.class);
+    if (metricsEnabled) {
+      resourceConfig.register(new MetricsResourceMethodApplicationListener(metrics, "jersey",
+          Collections.emptyMap(), restConfig.getTime(),
+          restConfig.getBoolean(RestConfig.METRICS_LATENCY_SLO_SLA_ENABLE_CONFIG),
+          restConfig.getLong(RestConfig.METRICS_LATENCY_SLO_MS_CONFIG),
+          restConfig.getLong(RestConfig.METRICS_LATENCY_SLA_MS_CONFIG),
+          restConfig.getDouble(RestConfig.PERCENTILE_MAX_LATENCY_MS_CONFIG),
+          restConfig.getBoolean(RestConfig.METRICS_GLOBAL_STATS_REQUEST_TAGS_ENABLE_CONFIG),
+          restConfig.getDisableResponseSizeMetricsCollection()));
+    }
+    handler = new ApplicationHandler(resourceConfig);
+    // The listener only registers its sensors once the container reports the application started.
+    handler.onStartup(new InMemoryContainer());
+  }
+
+  @TearDown
+  public void tearDown() {
+    handler.onShutdown(new InMemoryContainer());
+    metrics.close();
+  }
+
+  private final class InMemoryContainer implements Container {
+
+    @Override
+    public ResourceConfig getConfiguration() {
+      return handler.getConfiguration();
+    }
+
+    @Override
+    public ApplicationHandler getApplicationHandler() {
+      return handler;
+    }
+
+    @Override
+    public void reload() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void reload(ResourceConfig configuration) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  @Benchmark
+  public ContainerResponse post() throws Exception {
+    ContainerRequest request = new ContainerRequest(
+        BASE_URI, REQUEST_URI, "POST", null, new MapPropertiesDelegate(), null);
+    request.header("Content-Type", MediaType.APPLICATION_JSON);
+    request.setEntityStream(new ByteArrayInputStream(BODY));
+    return handler.apply(request, OutputStream.nullOutputStream()).get();
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.benchmarks;
+
+import io.confluent.rest.RestConfig;
+import io.confluent.rest.ratelimit.NetworkTrafficRateLimiter;
+import io.confluent.rest.ratelimit.NetworkTrafficRateLimiterFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the cost of charging bytes to each {@link NetworkTrafficRateLimiter} backend when
+ * 1, 8 and 64 threads share the same limiter, as the selector threads of a connector do.
+ *
+ * <p>Every call charges two bytes out of a budget of a billion bytes per second, i.e. exactly
+ * two nanoseconds of the token bucket, so that each call really takes from the budget. Exhausting
+ * it would still take 500 million calls per second, and the limiter is created again for each
+ * iteration. The scores therefore measure the limiter's own synchronization rather than the time
+ * spent waiting for the budget. All backends are called
+ * through {@link NetworkTrafficRateLimiter#rateLimit(int)}, which they all implement.
+ *
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar NetworkTrafficRateLimiterBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NetworkTrafficRateLimiterBenchmark {
+
+  private static final int BYTES_PER_SECOND = 1_000_000_000;
+  private static final int COST = 2;
+
+  @Param({"guava", "resilience4j", "token_bucket"})
+  public String backend;
+
+  private NetworkTrafficRateLimiter rateLimiter;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    Map<String, Object> props = new HashMap<>();
+    props.put("network.traffic.rate.limit.enable", true);
+    props.put("network.traffic.rate.limit.backend", backend);
+    props.put("network.traffic.rate.limit.bytes.per.sec", BYTES_PER_SECOND);
+    rateLimiter = NetworkTrafficRateLimiterFactory.create(
+        new RestConfig(RestConfig.baseConfigDef(), props, false));
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void rateLimitOneThread() {
+    rateLimiter.rateLimit(COST);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void rateLimitEightThreads() {
+    rateLimiter.rateLimit(COST);
+  }
+
+  @Benchmark
+  @Threads(64)
+  public void rateLimitSixtyFourThreads() {
+    rateLimiter.rateLimit(COST);
+  }
+}
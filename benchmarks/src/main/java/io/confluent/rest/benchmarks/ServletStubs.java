@@ -0,0 +1,222 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.benchmarks;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import jakarta.servlet.http.HttpSession;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Minimal servlet objects for driving filters outside of a container.
+ *
+ * <p>Only the methods the benchmarked code calls are implemented, directly on the wrapper so
+ * that they cost a plain virtual call. Any other method fails, so a benchmark notices when the
+ * code under test starts depending on more of the servlet API.
+ */
+final class ServletStubs {
+
+  static final FilterChain NOOP_CHAIN = (request, response) -> { };
+
+  private ServletStubs() {
+    // prevent instantiation
+  }
+
+  static FilterConfig filterConfig(String filterName, Map<String, String> initParameters) {
+    return new FilterConfig() {
+      @Override
+      public String getFilterName() {
+        return filterName;
+      }
+
+      @Override
+      public ServletContext getServletContext() {
+        return null;
+      }
+
+      @Override
+      public String getInitParameter(String name) {
+        return initParameters.get(name);
+      }
+
+      @Override
+      public Enumeration<String> getInitParameterNames() {
+        return Collections.enumeration(initParameters.keySet());
+      }
+    };
+  }
+
+  private static <T> T unsupported(Class<T> type) {
+    return type.cast(Proxy.newProxyInstance(ServletStubs.class.getClassLoader(),
+        new Class<?>[] {type}, (proxy, method, args) -> {
+          throw new UnsupportedOperationException(
+              type.getSimpleName() + "." + method.getName() + " is not stubbed");
+        }));
+  }
+
+  static final class Request extends HttpServletRequestWrapper {
+
+    private final Map<String, String> headers = new HashMap<>();
+    private final Map<String, Object> attributes = new HashMap<>();
+    private String method = "GET";
+    private String requestUri = "/";
+    private String serverName = "localhost";
+    private String remoteAddr = "127.0.0.1";
+    private int remotePort = 40000;
+
+    Request() {
+      super(unsupported(HttpServletRequest.class));
+    }
+
+    Request method(String method) {
+      this.method = method;
+      return this;
+    }
+
+    Request requestUri(String requestUri) {
+      this.requestUri = requestUri;
+      return this;
+    }
+
+    Request serverName(String serverName) {
+      this.serverName = serverName;
+      return this;
+    }
+
+    Request remoteAddr(String remoteAddr) {
+      this.remoteAddr = remoteAddr;
+      return this;
+    }
+
+    Request header(String name, String value) {
+      headers.put(name, value);
+      return this;
+    }
+
+    /**
+     * Forgets the attributes set while the request was last filtered, as a new request would.
+     */
+    Request recycle() {
+      attributes.clear();
+      return this;
+    }
+
+    @Override
+    public String getMethod() {
+      return method;
+    }
+
+    @Override
+    public String getRequestURI() {
+      return requestUri;
+    }
+
+    @Override
+    public String getServerName() {
+      return serverName;
+    }
+
+    @Override
+    public String getRemoteAddr() {
+      return remoteAddr;
+    }
+
+    @Override
+    public int getRemotePort() {
+      return remotePort;
+    }
+
+    @Override
+    public String getHeader(String name) {
+      return headers.get(name);
+    }
+
+    @Override
+    public HttpSession getSession(boolean create) {
+      return null;
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+      return attributes.get(name);
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+      attributes.put(name, value);
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+      attributes.remove(name);
+    }
+  }
+
+  static final class Response extends HttpServletResponseWrapper {
+
+    private final Map<String, String> headers = new HashMap<>();
+    private int status = 200;
+
+    Response() {
+      super(unsupported(HttpServletResponse.class));
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+      headers.put(name, value);
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+      headers.put(name, value);
+    }
+
+    @Override
+    public String getHeader(String name) {
+      return headers.get(name);
+    }
+
+    @Override
+    public void setStatus(int status) {
+      this.status = status;
+    }
+
+    @Override
+    public int getStatus() {
+      return status;
+    }
+
+    @Override
+    public void sendError(int status) {
+      this.status = status;
+    }
+
+    @Override
+    public void sendError(int status, String message) {
+      this.status = status;
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.benchmarks;
+
+import io.confluent.rest.TenantUtils;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link TenantUtils#extractTenantId} for each way a tenant can be found: from the
+ * hostname (V4 networking), from the path (V3 networking), or not at all.
+ *
+ * <p>The tenant ID is kept in a request attribute once extracted, so the requests are recycled
+ * before each call, as new requests would be. {@link #cached()} measures the calls that follow
+ * the first one for the same request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TenantUtilsBenchmark {
+
+  private ServletStubs.Request hostnameRequest;
+  private ServletStubs.Request pathRequest;
+  private ServletStubs.Request unknownRequest;
+
+  @Setup
+  public void setUp() {
+    hostnameRequest = new ServletStubs.Request()
+        .serverName("lkc-6787w2-env5qj75n.us-west-2.aws.private.glb.stag.cpdev.cloud")
+        .requestUri("/kafka/v3/clusters/lkc-6787w2/topics/orders/records");
+    pathRequest = new ServletStubs.Request()
+        .serverName("pkc-00000.us-west-2.aws.confluent.cloud")
+        .requestUri("/kafka/v3/clusters/lkc-6787w2/topics/orders/records");
+    unknownRequest = new ServletStubs.Request()
+        .serverName("localhost")
+        .requestUri("/v1/metadata/id");
+  }
+
+  @Benchmark
+  public String fromHostname() {
+    return TenantUtils.extractTenantId(hostnameRequest.recycle());
+  }
+
+  @Benchmark
+  public String fromPath() {
+    return TenantUtils.extractTenantId(pathRequest.recycle());
+  }
+
+  @Benchmark
+  public String unknown() {
+    return TenantUtils.extractTenantId(unknownRequest.recycle());
+  }
+
+  @Benchmark
+  public String cached() {
+    return TenantUtils.extractTenantId(hostnameRequest);
+  }
+}
@@ -21,6 +21,7 @@ import static io.confluent.rest.RestConfig.WEBSOCKET_SERVLET_INITIALIZERS_CLASSE
 import static java.util.Collections.emptyMap;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import io.confluent.rest.auth.AuthUtil;
 import io.confluent.rest.exceptions.ConstraintViolationExceptionMapper;
 import io.confluent.rest.exceptions.GenericExceptionMapper;
@@ -28,15 +29,25 @@ import io.confluent.rest.exceptions.WebApplicationExceptionMapper;
 import io.confluent.rest.exceptions.JsonMappingExceptionMapper;
 import io.confluent.rest.exceptions.JsonParseExceptionMapper;
 import io.confluent.rest.extension.ResourceExtension;
+import io.confluent.rest.filters.AdaptiveConcurrencyLimit;
+import io.confluent.rest.filters.AdaptiveConcurrencyLimitFilter;
 import io.confluent.rest.filters.CsrfTokenProtectionFilter;
 import io.confluent.rest.handlers.ExpectedSniHandler;
+import io.confluent.rest.handlers.PriorityRequestHandler;
 import io.confluent.rest.handlers.RequestTimeoutHandler;
 import io.confluent.rest.handlers.SniHandler;
+import io.confluent.rest.handlers.TenantFairQueueHandler;
 import io.confluent.rest.handlers.PrefixSniHandler;
 import io.confluent.rest.jetty.DoSFilter;
+import io.confluent.rest.metrics.DosFilterTrackerMetrics;
 import io.confluent.rest.metrics.Jetty429MetricsDosFilterListener;
 import io.confluent.rest.metrics.JettyRequestMetricsFilter;
 import io.confluent.rest.metrics.MetricsResourceMethodApplicationListener;
+import io.confluent.rest.metrics.RequestPhaseTimingFilter;
+import io.confluent.rest.ratelimit.NetworkTrafficTenantFilter;
+import io.confluent.rest.ratelimit.PerClientNetworkTrafficRateLimiter;
+import io.confluent.rest.tenant.TenantResolver;
+import io.confluent.rest.tenant.TenantResolverFactory;
 import io.confluent.rest.validation.JacksonMessageBodyProvider;
 import io.spiffe.workloadapi.X509Source;
 import java.io.IOException;
@@ -74,7 +85,9 @@ import org.eclipse.jetty.security.authentication.BasicAuthenticator;
 import org.eclipse.jetty.security.authentication.LoginAuthenticator;
 import org.eclipse.jetty.server.CustomRequestLog;
 import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
 import org.eclipse.jetty.server.RequestLog;
+import org.eclipse.jetty.server.Response;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.Slf4jRequestLogWriter;
 import org.eclipse.jetty.server.Handler.Sequence;
@@ -114,6 +127,7 @@ public abstract class Application<T extends RestConfig> {
   protected Metrics metrics;
   protected final RequestLog requestLog;
   protected final DoSFilter.Listener jetty429MetricsListener;
+  private final TenantResolver tenantResolver;
 
   protected CountDownLatch shutdownLatch = new CountDownLatch(1);
   @SuppressWarnings("unchecked")
@@ -127,6 +141,8 @@ public abstract class Application<T extends RestConfig> {
 
   private final List<DoSFilter.Listener> tenantDosfilterListeners = new ArrayList<>();
 
+  private PerClientNetworkTrafficRateLimiter perClientNetworkTrafficRateLimiter;
+
   public Application(T config) {
     this(config, "/", null, null, null);
   }
@@ -168,11 +184,39 @@ public abstract class Application<T extends RestConfig> {
         this.getMetricsTags(),
         config.getString(RestConfig.METRICS_JMX_PREFIX_CONFIG));
 
+    tenantResolver = TenantResolverFactory.create(config);
+
     if (customRequestLog == null) {
       Slf4jRequestLogWriter logWriter = new Slf4jRequestLogWriter();
       logWriter.setLoggerName(config.getString(RestConfig.REQUEST_LOGGER_NAME_CONFIG));
-      // %{ms}T logs request time in milliseconds
-      requestLog = new CustomRequestLog(logWriter, requestLogFormat());
+      RequestLog.Writer writer = logWriter;
+      if (config.isRequestLoggerAsyncEnabled()) {
+        writer = new AsyncRequestLogWriter(logWriter, config.getRequestLoggerAsyncQueueSize(),
+            config.isRequestLoggerAsyncBlockWhenFull(), metrics, getMetricsTags());
+      }
+      RequestLogSampler sampler = RequestLogSampler.create(config, tenantResolver);
+      boolean logTenant = config.isRequestLoggerTenantEnabled();
+      if (config.isRequestLoggerJson()) {
+        requestLog = new JsonRequestLog(writer, config.getRequestLoggerLatencyUnit(), logTenant,
+            tenantResolver, sampler);
+      } else if (logTenant || sampler != null) {
+        // %{ms}T or %{us}T logs request time in milliseconds or microseconds
+        requestLog = new CustomRequestLog(writer, requestLogFormat()) {
+          @Override
+          public void log(Request request, Response response) {
+            if (sampler != null && !sampler.sample(request, response)) {
+              return;
+            }
+            if (logTenant) {
+              // Extracts the tenant of requests no tenant filter looked at.
+              TenantUtils.extractTenantId(request, tenantResolver);
+            }
+            super.log(request, response);
+          }
+        };
+      } else {
+        requestLog = new CustomRequestLog(writer, requestLogFormat());
+      }
     } else {
       requestLog = customRequestLog;
     }
@@ -206,7 +250,14 @@ public abstract class Application<T extends RestConfig> {
   }
 
   protected String requestLogFormat() {
-    return CustomRequestLog.EXTENDED_NCSA_FORMAT + " %{ms}T";
+    return CustomRequestLog.EXTENDED_NCSA_FORMAT
+        + " %{" + config.getRequestLoggerLatencyUnit() + "}T"
+        + (config.isMetricsLatencyPhasesEnabled()
+            ? " %{" + MetricsResourceMethodApplicationListener.REQUEST_PHASES_ATTRIBUTE + "}attr"
+            : "")
+        + (config.isRequestLoggerTenantEnabled()
+            ? " %{" + TenantUtils.TENANT_ID_ATTRIBUTE + "}attr"
+            : "");
   }
 
   public final String getPath() {
@@ -366,6 +417,7 @@ public abstract class Application<T extends RestConfig> {
 
     ServletContextHandler context = new ServletContextHandler(ServletContextHandler.SESSIONS);
     context.setContextPath(path);
+    context.setAttribute(TenantResolver.ATTRIBUTE, tenantResolver);
 
     // Allow Jetty 12 servlet to decode ambiguous URIs
     configureServletWithDecodeAmbiguousURIs(context);
@@ -387,6 +439,15 @@ public abstract class Application<T extends RestConfig> {
 
     configureSecurityHandler(context);
 
+    if (config.isMetricsLatencyPhasesEnabled()) {
+      // Must be the first filter, to tell the time spent in the security handler from the time
+      // spent in the filters.
+      FilterHolder filterHolder =
+          new FilterHolder(new RequestPhaseTimingFilter(config.getTime()));
+      filterHolder.setName("request-phase-timing");
+      context.addFilter(filterHolder, "/*", EnumSet.of(DispatcherType.REQUEST));
+    }
+
     if (isCorsEnabled()) {
       String allowedOrigins = config.getString(RestConfig.ACCESS_CONTROL_ALLOW_ORIGIN_CONFIG);
       FilterHolder filterHolder = new FilterHolder(CrossOriginFilter.class);
@@ -442,8 +503,12 @@ public abstract class Application<T extends RestConfig> {
 
     configureJettyRequestMetricsFilter(context);
 
+    configureNetworkTrafficTenantFilter(context);
+
     configureDosFilters(context);
 
+    configureAdaptiveConcurrencyLimitFilter(context);
+
     configurePreResourceHandling(context);
 
     applyCustomConfiguration(context, REST_SERVLET_INITIALIZERS_CLASSES_CONFIG);
@@ -465,6 +530,10 @@ public abstract class Application<T extends RestConfig> {
           new ExpectedSniHandler(expectedSniHeaders, config.getRejectInvalidSniHeaders()));
     }
 
+    configureTenantFairQueueHandler(context);
+
+    configureRequestPriorityHandler(context);
+
     // Enforce a blanket request timeout (returns 504) when configured. Inserted last so it is
     // the outermost wrapper and measures total in-context processing time.
     long requestTimeoutMs = config.getLong(RestConfig.REQUEST_TIMEOUT_MS_CONFIG);
@@ -716,9 +785,13 @@ public abstract class Application<T extends RestConfig> {
     config.register(new MetricsResourceMethodApplicationListener(getMetrics(), "jersey",
         metricTags, restConfig.getTime(),
         restConfig.getBoolean(RestConfig.METRICS_LATENCY_SLO_SLA_ENABLE_CONFIG),
-        restConfig.getLong(RestConfig.METRICS_LATENCY_SLO_MS_CONFIG),
-        restConfig.getLong(RestConfig.METRICS_LATENCY_SLA_MS_CONFIG),
+        restConfig.getMetricsLatencySloMicros(),
+        restConfig.getMetricsLatencySlaMicros(),
         restConfig.getDouble(RestConfig.PERCENTILE_MAX_LATENCY_MS_CONFIG),
+        restConfig.getBoolean(RestConfig.METRICS_LATENCY_PERCENTILES_HDR_ENABLE_CONFIG),
+        restConfig.isMetricsLatencyHighResolutionEnabled(),
+        restConfig.getInt(RestConfig.METRICS_REQUEST_TAGS_MAX_CARDINALITY_CONFIG),
+        restConfig.isMetricsLatencyPhasesEnabled(),
         restConfig.getBoolean(RestConfig.METRICS_GLOBAL_STATS_REQUEST_TAGS_ENABLE_CONFIG),
         restConfig.getDisableResponseSizeMetricsCollection()));
 
@@ -740,8 +813,19 @@ public abstract class Application<T extends RestConfig> {
       boolean registerExceptionMapper
   ) {
     ObjectMapper jsonMapper = getJsonMapper();
-    JacksonMessageBodyProvider jsonProvider = new JacksonMessageBodyProvider(jsonMapper);
+    if (restConfig.isJsonBlackbirdEnabled()) {
+      jsonMapper.registerModule(new BlackbirdModule());
+    }
+    if (restConfig.getJsonWriteBufferSize() > 0) {
+      jsonMapper.getFactory().setRecyclerPool(
+          new JsonWriteBufferRecyclerPool(restConfig.getJsonWriteBufferSize()));
+    }
+    JacksonMessageBodyProvider jsonProvider =
+        new JacksonMessageBodyProvider(jsonMapper, restConfig.getJsonRequestMaxSize());
     config.register(jsonProvider);
+    if (restConfig.isJsonPrewarmEnabled()) {
+      config.register(new JacksonPrewarmListener(jsonMapper));
+    }
     if (registerExceptionMapper) {
       config.register(JsonParseExceptionMapper.class);
       config.register(JsonMappingExceptionMapper.class);
@@ -792,6 +876,29 @@ public abstract class Application<T extends RestConfig> {
     context.addFilter(filterHolder, "/*", EnumSet.of(DispatcherType.REQUEST));
   }
 
+  /**
+   * Returns the per-client network traffic limiters shared by the connectors of this
+   * application, or {@code null} if network traffic is not rate-limited per client.
+   */
+  synchronized PerClientNetworkTrafficRateLimiter getPerClientNetworkTrafficRateLimiter() {
+    if (perClientNetworkTrafficRateLimiter == null
+        && config.getNetworkTrafficRateLimitEnable()
+        && config.getNetworkTrafficRateLimitPerClientEnable()) {
+      perClientNetworkTrafficRateLimiter = PerClientNetworkTrafficRateLimiter.create(config);
+    }
+    return perClientNetworkTrafficRateLimiter;
+  }
+
+  private void configureNetworkTrafficTenantFilter(ServletContextHandler context) {
+    PerClientNetworkTrafficRateLimiter perClientLimiter = getPerClientNetworkTrafficRateLimiter();
+    if (perClientLimiter != null && config.getNetworkTrafficRateLimitPerClientTenantEnable()) {
+      FilterHolder filterHolder =
+          new FilterHolder(new NetworkTrafficTenantFilter(perClientLimiter));
+      filterHolder.setName("network-traffic-tenant-filter");
+      context.addFilter(filterHolder, "/*", EnumSet.of(DispatcherType.REQUEST));
+    }
+  }
+
   private void configureDosFilters(ServletContextHandler context) {
     // TODO: This is temporary code to be removed after tenant rate limit testing
     // Configure tenant dry-run classifier if enabled
@@ -816,6 +923,7 @@ public abstract class Application<T extends RestConfig> {
   private void configureNonGlobalDosFilter(ServletContextHandler context) {
     DoSFilter dosFilter = new DoSFilter();
     nonGlobalDosfilterListeners.add(jetty429MetricsListener);
+    nonGlobalDosfilterListeners.add(newDosFilterTrackerMetrics("connection", dosFilter));
     JettyDosFilterMultiListener multiListener = new JettyDosFilterMultiListener(
         nonGlobalDosfilterListeners);
     dosFilter.setListener(multiListener);
@@ -827,6 +935,7 @@ public abstract class Application<T extends RestConfig> {
   private void configureTenantDosFilter(ServletContextHandler context) {
     TenantDosFilter dosFilter = new TenantDosFilter();
     tenantDosfilterListeners.add(jetty429MetricsListener);
+    tenantDosfilterListeners.add(newDosFilterTrackerMetrics("tenant", dosFilter));
     JettyDosFilterMultiListener multiListener = new JettyDosFilterMultiListener(
         tenantDosfilterListeners);
     dosFilter.setListener(multiListener);
@@ -850,6 +959,7 @@ public abstract class Application<T extends RestConfig> {
   private void configureGlobalDosFilter(ServletContextHandler context) {
     DoSFilter dosFilter = new GlobalDosFilter();
     globalDosfilterListeners.add(jetty429MetricsListener);
+    globalDosfilterListeners.add(newDosFilterTrackerMetrics("global", dosFilter));
     JettyDosFilterMultiListener multiListener = new JettyDosFilterMultiListener(
         globalDosfilterListeners);
     dosFilter.setListener(multiListener);
@@ -858,6 +968,67 @@ public abstract class Application<T extends RestConfig> {
     context.addFilter(filterHolder, "/*", EnumSet.of(DispatcherType.REQUEST));
   }
 
+  private void configureAdaptiveConcurrencyLimitFilter(ServletContextHandler context) {
+    if (!config.isAdaptiveConcurrencyLimitEnabled()) {
+      return;
+    }
+    // After the DoS filters, so that requests they delay do not count as in flight.
+    AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.create(
+        config.getAdaptiveConcurrencyLimitAlgorithm(),
+        config.getAdaptiveConcurrencyLimitInitial(),
+        config.getAdaptiveConcurrencyLimitMin(),
+        config.getAdaptiveConcurrencyLimitMax());
+    FilterHolder filterHolder = new FilterHolder(new AdaptiveConcurrencyLimitFilter(limit,
+        config.getTime(), config.getAdaptiveConcurrencyLimitRejectionStatus(), metrics,
+        getMetricsTags()));
+    filterHolder.setName("adaptive-concurrency-limit-filter");
+    context.addFilter(filterHolder, "/*", EnumSet.of(DispatcherType.REQUEST));
+    log.info("Adaptive concurrency limit enabled with the {} algorithm",
+        config.getAdaptiveConcurrencyLimitAlgorithm());
+  }
+
+  private void configureTenantFairQueueHandler(ServletContextHandler context) {
+    if (!config.isRequestFairQueueEnabled()) {
+      return;
+    }
+    // In front of the servlet filters, so that waiting requests do not hold a thread.
+    context.insertHandler(new TenantFairQueueHandler(
+        TenantUtils::extractTenantId,
+        config.getRequestFairQueueMaxConcurrentRequests(),
+        config.getRequestFairQueueMaxQueuedRequests(),
+        config.getRequestFairQueueMaxQueuedRequestsPerTenant(),
+        config.getRequestFairQueueMaxWaitMs(),
+        config.getRequestFairQueueTenantWeights(),
+        config.getRequestFairQueueMetricsMaxTenants(),
+        config.getTime(), metrics, getMetricsTags()));
+    log.info("Tenant fair queuing enabled with at most {} requests handled at once",
+        config.getRequestFairQueueMaxConcurrentRequests());
+  }
+
+  private void configureRequestPriorityHandler(ServletContextHandler context) {
+    if (!config.isRequestPriorityEnabled()) {
+      return;
+    }
+    // In front of the servlet filters, so that waiting requests do not hold a thread.
+    context.insertHandler(new PriorityRequestHandler(
+        PriorityRequestHandler.pathAndListenerClassifier(
+            config.getRequestPriorityHighPathPrefixes(),
+            config.getRequestPriorityLowPathPrefixes(),
+            config.getRequestPriorityHighListeners(),
+            config.getRequestPriorityLowListeners()),
+        config.getRequestPriorityMaxConcurrentRequests(),
+        config.getRequestPriorityMaxQueuedRequests(),
+        config.getRequestPriorityMaxWaitMs(),
+        config.getRequestPriorityStarvationMs(),
+        config.getTime(), metrics, getMetricsTags()));
+    log.info("Request priority scheduling enabled with at most {} requests handled at once",
+        config.getRequestPriorityMaxConcurrentRequests());
+  }
+
+  private DoSFilter.Listener newDosFilterTrackerMetrics(String filterType, DoSFilter dosFilter) {
+    return new DosFilterTrackerMetrics(metrics, getMetricsTags(), filterType, dosFilter);
+  }
+
   private FilterHolder configureDosFilter(DoSFilter dosFilter, String rate) {
 
     FilterHolder filterHolder = new FilterHolder(dosFilter);
@@ -884,6 +1055,8 @@ public abstract class Application<T extends RestConfig> {
         "ipWhitelist", String.valueOf(config.getDosFilterIpWhitelist()));
     filterHolder.setInitParameter(
         "managedAttr", String.valueOf(config.getDosFilterManagedAttr()));
+    filterHolder.setInitParameter(
+        "rateTracker", config.getDosFilterRateTracker().name());
     return filterHolder;
 
   }
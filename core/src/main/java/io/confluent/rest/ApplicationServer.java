@@ -23,6 +23,10 @@ import com.google.common.collect.Maps;
 import io.confluent.rest.customizer.CidrRange;
 import io.confluent.rest.customizer.ProxyCustomizer;
 import io.confluent.rest.errorhandlers.StackTraceErrorHandler;
+import io.confluent.rest.metrics.HdrPercentiles;
+import io.confluent.rest.ratelimit.NetworkTrafficRateLimiterFactory;
+import io.confluent.rest.ratelimit.PerClientNetworkTrafficRateLimiter;
+import io.confluent.rest.ratelimit.RateLimitNetworkTrafficServerConnector;
 import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -31,12 +35,17 @@ import java.util.Map;
 import java.util.Set;
 import java.util.Objects;
 import java.util.StringTokenizer;
-import java.util.concurrent.BlockingQueue;
 
 import io.spiffe.workloadapi.X509Source;
 import org.apache.kafka.common.MetricName;
 import org.apache.kafka.common.metrics.Gauge;
 import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.metrics.stats.Avg;
+import org.apache.kafka.common.metrics.stats.CumulativeCount;
+import org.apache.kafka.common.metrics.stats.Max;
+import org.apache.kafka.common.metrics.stats.Percentile;
+import org.apache.kafka.common.metrics.stats.Rate;
 import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
 import org.eclipse.jetty.http.HttpCompliance;
 import org.eclipse.jetty.http.HttpVersion;
@@ -52,7 +61,6 @@ import org.eclipse.jetty.server.ForwardedRequestCustomizer;
 import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.server.HttpConfiguration;
 import org.eclipse.jetty.server.HttpConnectionFactory;
-import org.eclipse.jetty.server.NetworkTrafficServerConnector;
 import org.eclipse.jetty.server.ProxyConnectionFactory;
 import org.eclipse.jetty.server.SecureRequestCustomizer;
 import org.eclipse.jetty.server.Server;
@@ -61,7 +69,7 @@ import org.eclipse.jetty.server.handler.ContextHandlerCollection;
 import org.eclipse.jetty.server.handler.DefaultHandler;
 import org.eclipse.jetty.server.handler.StatisticsHandler;
 import org.eclipse.jetty.server.handler.gzip.GzipHandler;
-import org.eclipse.jetty.util.BlockingArrayQueue;
+import org.eclipse.jetty.util.VirtualThreads;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
 import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.eclipse.jetty.util.thread.ThreadPool;
@@ -77,7 +85,7 @@ public final class ApplicationServer<T extends RestConfig> extends Server {
 
   private static volatile int threadPoolRequestQueueCapacity;
 
-  private final List<NetworkTrafficServerConnector> connectors = new ArrayList<>();
+  private final List<RateLimitNetworkTrafficServerConnector> connectors = new ArrayList<>();
   private final List<NamedURI> listeners;
 
   private static final Logger log = LoggerFactory.getLogger(ApplicationServer.class);
@@ -164,17 +172,29 @@ public final class ApplicationServer<T extends RestConfig> extends Server {
   private void attachNetworkTrafficListener(RestConfig appConfig,
                                             String appListenerName,
                                             Metrics metrics,
-                                            Map<String, String> tags) {
+                                            Map<String, String> tags,
+                                            PerClientNetworkTrafficRateLimiter perClientLimiter) {
     // if the application listener name is not specified (unnamed), attach NetworkTrafficListener
     // to all connectors of the application,
     // otherwise attach to the specified connector with the name
     // matching the application listener name
-    for (NetworkTrafficServerConnector connector : connectors) {
+    for (RateLimitNetworkTrafficServerConnector connector : connectors) {
       if (appListenerName == null || Objects.equals(connector.getName(), appListenerName)) {
         List<NetworkTrafficListener> listeners = new ArrayList<>();
         listeners.add(new MetricsListener(metrics, "jetty", tags));
         if (appConfig.getNetworkTrafficRateLimitEnable()) {
-          listeners.add(new RateLimitNetworkTrafficListener(appConfig));
+          if (appConfig.getNetworkTrafficRateLimitNonBlockingEnable()) {
+            if (perClientLimiter != null) {
+              connector.setPerClientNetworkTrafficRateLimiter(perClientLimiter);
+            } else {
+              connector.setNetworkTrafficRateLimiter(
+                  NetworkTrafficRateLimiterFactory.create(appConfig));
+            }
+          } else if (perClientLimiter != null) {
+            listeners.add(new RateLimitNetworkTrafficListener(perClientLimiter));
+          } else {
+            listeners.add(new RateLimitNetworkTrafficListener(appConfig));
+          }
         }
         NetworkTrafficListener combinedListener = new CombinedNetworkTrafficListener(listeners);
         connector.setNetworkTrafficListener(combinedListener);
@@ -212,8 +232,38 @@ public final class ApplicationServer<T extends RestConfig> extends Server {
     final MetricName threadPoolUsageMetricName = metrics.metricName(threadPoolUsageName,
         metricGroupName,  " jetty thread pool usage.",
         Collections.emptyMap());
-    Gauge<Double> threadPoolUsage = (config, now) -> (getBusyThreads() / (double) getMaxThreads());
+    Gauge<Double> threadPoolUsage = (config, now) -> getThreadPoolUsage();
     metrics.addMetric(threadPoolUsageMetricName, threadPoolUsage);
+
+    // the time jobs wait in the queue and jobs rejected when it is full, if the queue is ours
+    TimedRequestQueue requestQueue = getThreadPool() instanceof QueuedThreadPool
+        ? ((QueuedThreadPool) getThreadPool()).getBean(TimedRequestQueue.class) : null;
+    if (requestQueue != null) {
+      Sensor waitTimeSensor = metrics.sensor(metricGroupName + ":request-queue-wait-time");
+      waitTimeSensor.add(metrics.metricName("request-queue-wait-time-avg", metricGroupName,
+          "The average time in ms requests waited in the jetty thread pool queue.", tags),
+          new Avg());
+      waitTimeSensor.add(metrics.metricName("request-queue-wait-time-max", metricGroupName,
+          "The maximum time in ms requests waited in the jetty thread pool queue.", tags),
+          new Max());
+      waitTimeSensor.add(new HdrPercentiles(
+          new Percentile(metrics.metricName("request-queue-wait-time-95", metricGroupName,
+              "The 95th percentile of the time in ms requests waited in the jetty thread pool "
+                  + "queue.", tags), 95),
+          new Percentile(metrics.metricName("request-queue-wait-time-99", metricGroupName,
+              "The 99th percentile of the time in ms requests waited in the jetty thread pool "
+                  + "queue.", tags), 99)));
+
+      Sensor rejectedSensor = metrics.sensor(metricGroupName + ":request-queue-rejected");
+      rejectedSensor.add(metrics.metricName("request-queue-rejected-rate", metricGroupName,
+          "The average number of requests per second rejected because the jetty thread pool "
+              + "queue was full.", tags), new Rate());
+      rejectedSensor.add(metrics.metricName("request-queue-rejected-total", metricGroupName,
+          "A cumulative count of requests rejected because the jetty thread pool queue was "
+              + "full.", tags), new CumulativeCount());
+
+      requestQueue.addSensors(waitTimeSensor, rejectedSensor);
+    }
   }
 
   private void finalizeHandlerCollection(Sequence handlers, Sequence wsHandlers) {
@@ -251,7 +301,8 @@ public final class ApplicationServer<T extends RestConfig> extends Server {
     Sequence wsHandlers = new Sequence();
     for (Application<?> app : applications) {
       attachNetworkTrafficListener(app.getConfiguration(), app.getListenerName(),
-                                   app.getMetrics(), app.getMetricsTags());
+                                   app.getMetrics(), app.getMetricsTags(),
+                                   app.getPerClientNetworkTrafficRateLimiter());
       addJettyThreadPoolMetrics(app.getMetrics(), app.getMetricsTags());
       handlers.addHandler(app.configureHandler());
       wsHandlers.addHandler(app.configureWebSocketHandler());
@@ -357,8 +408,8 @@ public final class ApplicationServer<T extends RestConfig> extends Server {
                                        boolean proxyProtocolEnabled) {
     ConnectionFactory[] connectionFactories = getConnectionFactories(httpConfiguration,
         httpConnectionFactory, listener, http2Enabled, proxyProtocolEnabled);
-    NetworkTrafficServerConnector connector = new NetworkTrafficServerConnector(this, null, null,
-        null, 0, 0, connectionFactories);
+    RateLimitNetworkTrafficServerConnector connector = new RateLimitNetworkTrafficServerConnector(
+        this, null, null, null, 0, 0, connectionFactories);
     if (http2Enabled) {
       // In Jetty 9.4.37, there was a change in behaviour to implement RFC 7230 more
       // rigorously and remove support for ambiguous URIs, such as escaping
@@ -476,10 +527,27 @@ public final class ApplicationServer<T extends RestConfig> extends Server {
   }
 
   /**
-   * @return number of busy threads in the pool.
+   * @return number of busy threads in the pool, plus the number of virtual threads handling
+   *     requests if virtual threads are enabled.
    */
   public int getBusyThreads() {
-    return ((QueuedThreadPool)getThreadPool()).getBusyThreads();
+    QueuedThreadPool threadPool = (QueuedThreadPool) getThreadPool();
+    int busyThreads = threadPool.getBusyThreads();
+    if (threadPool.getVirtualThreadsExecutor() instanceof VirtualThreadsExecutor) {
+      busyThreads +=
+          ((VirtualThreadsExecutor) threadPool.getVirtualThreadsExecutor()).getActiveTasks();
+    }
+    return busyThreads;
+  }
+
+  /**
+   * Virtual threads are not bounded by the pool, so only the threads of the pool count towards
+   * its usage.
+   *
+   * @return the fraction of the maximum number of threads in the pool that are busy.
+   */
+  double getThreadPoolUsage() {
+    return ((QueuedThreadPool) getThreadPool()).getBusyThreads() / (double) getMaxThreads();
   }
 
   /**
@@ -492,6 +560,9 @@ public final class ApplicationServer<T extends RestConfig> extends Server {
   }
 
   /**
+   * Requests handled on virtual threads never wait in the queue, so if virtual threads are enabled
+   * this only counts the connectors' tasks waiting for a thread of the pool.
+   *
    * @return the size of the queue in the pool.
    */
   public int getQueueSize() {
@@ -542,11 +613,28 @@ public final class ApplicationServer<T extends RestConfig> extends Server {
       threadPoolRequestQueueCapacity = maxCapacity;
     }
 
-    BlockingQueue<Runnable> requestQueue =
-            new BlockingArrayQueue<>(initialCapacity, growBy, threadPoolRequestQueueCapacity);
-    
-    return new QueuedThreadPool(config.getInt(RestConfig.THREAD_POOL_MAX_CONFIG),
-            config.getInt(RestConfig.THREAD_POOL_MIN_CONFIG),
-            requestQueue);
+    TimedRequestQueue requestQueue = new TimedRequestQueue(
+        initialCapacity, growBy, threadPoolRequestQueueCapacity, config.getTime());
+
+    QueuedThreadPool threadPool = new QueuedThreadPool(
+        config.getInt(RestConfig.THREAD_POOL_MAX_CONFIG),
+        config.getInt(RestConfig.THREAD_POOL_MIN_CONFIG),
+        requestQueue);
+    // So the queue can be found to register its metrics, and shows in dumps of the pool.
+    threadPool.addBean(requestQueue, false);
+
+    if (config.getBoolean(RestConfig.THREAD_POOL_VIRTUAL_THREADS_ENABLE_CONFIG)) {
+      if (VirtualThreads.areSupported()) {
+        // Jetty runs the blocking tasks, i.e. request handling, on this executor and keeps the
+        // selectors and other non-blocking tasks on the threads of the pool.
+        threadPool.setVirtualThreadsExecutor(new VirtualThreadsExecutor(
+            VirtualThreads.getNamedVirtualThreadsExecutor("rest-utils-virtual-")));
+        log.info("Handling requests on virtual threads.");
+      } else {
+        log.warn("{} is enabled but virtual threads are not supported by this JVM, handling "
+            + "requests on the thread pool.", RestConfig.THREAD_POOL_VIRTUAL_THREADS_ENABLE_CONFIG);
+      }
+    }
+    return threadPool;
   }
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest;
+
+import static io.confluent.rest.metrics.JettyMetricsUtil.GROUP_NAME;
+import static io.confluent.rest.metrics.JettyMetricsUtil.SENSOR_EXPIRY_SECONDS;
+import static io.confluent.rest.metrics.JettyMetricsUtil.addGauge;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.metrics.Sensor.RecordingLevel;
+import org.apache.kafka.common.metrics.stats.CumulativeCount;
+import org.apache.kafka.common.metrics.stats.Rate;
+import org.eclipse.jetty.server.RequestLog;
+import org.eclipse.jetty.util.component.ContainerLifeCycle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes request log entries with another writer on a thread of its own, so that requests do not
+ * wait for the logging backend, e.g. while it flushes to disk.
+ *
+ * <p>Entries are handed over in a bounded lock-free ring buffer, which the writer thread drains
+ * in batches: each time it wakes up, it writes all the entries waiting. When the buffer is full,
+ * entries are dropped and counted, or, with {@code blockWhenFull}, requests wait for room.
+ */
+final class AsyncRequestLogWriter extends ContainerLifeCycle implements RequestLog.Writer {
+
+  private static final Logger log = LoggerFactory.getLogger(AsyncRequestLogWriter.class);
+
+  // How long requests wait between checks for room, with blockWhenFull.
+  private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+  private final RequestLog.Writer delegate;
+  private final boolean blockWhenFull;
+  private final Sensor droppedSensor;
+
+  private final AtomicReferenceArray<String> entries;
+  private final int mask;
+  // The number of entries ever claimed by writers, and taken by the writer thread.
+  private final AtomicLong tail = new AtomicLong();
+  private final AtomicLong head = new AtomicLong();
+
+  private volatile Thread thread;
+  private volatile boolean running;
+  private volatile boolean waiting;
+
+  AsyncRequestLogWriter(RequestLog.Writer delegate, int capacity, boolean blockWhenFull,
+      Metrics metrics, Map<String, String> metricTags) {
+    this.delegate = delegate;
+    this.blockWhenFull = blockWhenFull;
+    // Round up to a power of two, to find slots by masking.
+    int slots = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+    this.entries = new AtomicReferenceArray<>(slots);
+    this.mask = slots - 1;
+    addBean(delegate);
+
+    if (metrics != null) {
+      SortedMap<String, String> tags = new TreeMap<>(metricTags);
+      addGauge(metrics, metrics.metricName("request-log-queue-size", GROUP_NAME,
+              "The number of request log entries waiting to be written.", tags),
+          (config, now) -> getQueuedEntries());
+      droppedSensor = metrics.sensor(GROUP_NAME + ":request-log-dropped:" + tags.values(),
+          null, SENSOR_EXPIRY_SECONDS, RecordingLevel.INFO, (Sensor[]) null);
+      droppedSensor.add(metrics.metricName("request-log-dropped-rate", GROUP_NAME,
+          "The average number of request log entries per second dropped because too many "
+              + "were waiting to be written.", tags), new Rate());
+      droppedSensor.add(metrics.metricName("request-log-dropped-total", GROUP_NAME,
+          "A cumulative count of request log entries dropped because too many were waiting to "
+              + "be written.", tags), new CumulativeCount());
+    } else {
+      droppedSensor = null;
+    }
+  }
+
+  int getQueuedEntries() {
+    return (int) (tail.get() - head.get());
+  }
+
+  int getCapacity() {
+    return entries.length();
+  }
+
+  @Override
+  public void write(String entry) throws IOException {
+    while (!offer(entry)) {
+      if (!blockWhenFull || !running) {
+        if (droppedSensor != null) {
+          droppedSensor.record();
+        }
+        return;
+      }
+      LockSupport.parkNanos(BLOCK_PARK_NANOS);
+    }
+    if (waiting) {
+      LockSupport.unpark(thread);
+    }
+  }
+
+  /**
+   * Claims the next slot, if the writer thread has taken the entry that was in it.
+   */
+  private boolean offer(String entry) {
+    while (true) {
+      long claimed = tail.get();
+      if (claimed - head.get() >= entries.length()) {
+        return false;
+      }
+      if (tail.compareAndSet(claimed, claimed + 1)) {
+        entries.lazySet((int) claimed & mask, entry);
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Takes the next entry, if it was written to its slot yet. Only called by the writer thread.
+   */
+  private String poll() {
+    long taken = head.get();
+    int slot = (int) taken & mask;
+    String entry = entries.get(slot);
+    if (entry != null) {
+      entries.lazySet(slot, null);
+      head.lazySet(taken + 1);
+    }
+    return entry;
+  }
+
+  @Override
+  protected void doStart() throws Exception {
+    super.doStart();
+    running = true;
+    thread = new Thread(this::run, "request-log-writer");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  @Override
+  protected void doStop() throws Exception {
+    running = false;
+    Thread writerThread = thread;
+    LockSupport.unpark(writerThread);
+    writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    super.doStop();
+  }
+
+  private void run() {
+    while (running) {
+      if (writeAll() == 0) {
+        waiting = true;
+        // Check again, as the entry that ended the wait may have come before the flag was set.
+        if (running && tail.get() == head.get()) {
+          LockSupport.park(this);
+        }
+        waiting = false;
+      }
+    }
+    // Write what is left before the delegate is stopped.
+    writeAll();
+  }
+
+  private int writeAll() {
+    int written = 0;
+    String entry;
+    while ((entry = poll()) != null) {
+      written++;
+      try {
+        delegate.write(entry);
+      } catch (IOException | RuntimeException e) {
+        log.warn("Failed to write the request log entry", e);
+      }
+    }
+    return written;
+  }
+}
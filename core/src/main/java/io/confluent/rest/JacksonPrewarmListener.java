@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.confluent.rest.entities.ErrorMessage;
+import jakarta.ws.rs.core.Response;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+import org.glassfish.jersey.model.Parameter;
+import org.glassfish.jersey.server.model.Invocable;
+import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Builds the serializers and deserializers of the entities of all resource methods when the
+ * application starts, rather than on the first request of each, which would otherwise take the
+ * time to introspect the entity types and, with Blackbird, to generate their accessors.
+ */
+final class JacksonPrewarmListener implements ApplicationEventListener {
+
+  private static final Logger log = LoggerFactory.getLogger(JacksonPrewarmListener.class);
+
+  private final ObjectMapper mapper;
+
+  JacksonPrewarmListener(ObjectMapper mapper) {
+    this.mapper = mapper;
+  }
+
+  @Override
+  public void onEvent(ApplicationEvent event) {
+    if (event.getType() != ApplicationEvent.Type.INITIALIZATION_FINISHED) {
+      return;
+    }
+    long startNanos = System.nanoTime();
+    Set<Type> responseTypes = new HashSet<>();
+    Set<Type> requestTypes = new HashSet<>();
+    // Exception mappers respond with error messages, whatever the resource method.
+    responseTypes.add(ErrorMessage.class);
+    for (Resource resource : event.getResourceModel().getResources()) {
+      collectTypes(resource, responseTypes, requestTypes);
+      for (Resource childResource : resource.getChildResources()) {
+        collectTypes(childResource, responseTypes, requestTypes);
+      }
+    }
+
+    for (Type type : responseTypes) {
+      prewarm(type, true);
+    }
+    for (Type type : requestTypes) {
+      prewarm(type, false);
+    }
+    log.info("Prewarmed JSON serializers of {} response and {} request entity types in {} ms",
+        responseTypes.size(), requestTypes.size(), (System.nanoTime() - startNanos) / 1_000_000);
+  }
+
+  private static void collectTypes(Resource resource, Set<Type> responseTypes,
+      Set<Type> requestTypes) {
+    for (ResourceMethod method : resource.getAllMethods()) {
+      Invocable invocable = method.getInvocable();
+      Type responseType = entityType(invocable.getResponseType());
+      if (responseType != null) {
+        responseTypes.add(responseType);
+      }
+      for (Parameter parameter : invocable.getParameters()) {
+        if (parameter.getSource() == Parameter.Source.ENTITY) {
+          Type requestType = entityType(parameter.getType());
+          if (requestType != null) {
+            requestTypes.add(requestType);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the type of the entity of a method returning or taking the given type, if it has one
+   * known before the method is invoked.
+   */
+  private static Type entityType(Type type) {
+    if (type instanceof ParameterizedType) {
+      Type rawType = ((ParameterizedType) type).getRawType();
+      if (rawType instanceof Class
+          && (CompletionStage.class.isAssignableFrom((Class<?>) rawType)
+              || Future.class.isAssignableFrom((Class<?>) rawType))) {
+        return entityType(((ParameterizedType) type).getActualTypeArguments()[0]);
+      }
+      return type;
+    }
+    if (!(type instanceof Class)) {
+      return null;
+    }
+    Class<?> clazz = (Class<?>) type;
+    if (clazz == void.class || clazz == Void.class || clazz == Object.class
+        || clazz == String.class || clazz.isPrimitive()
+        || Response.class.isAssignableFrom(clazz)) {
+      return null;
+    }
+    return clazz;
+  }
+
+  private void prewarm(Type type, boolean serializer) {
+    try {
+      JavaType javaType = mapper.getTypeFactory().constructType(type);
+      // Readers and writers for a type build and cache its (de)serializer in the mapper.
+      if (serializer) {
+        mapper.writerFor(javaType);
+      } else {
+        mapper.readerFor(javaType);
+      }
+    } catch (RuntimeException e) {
+      log.debug("Could not prewarm the JSON {} of {}",
+          serializer ? "serializer" : "deserializer", type, e);
+    }
+  }
+
+  @Override
+  public RequestEventListener onRequest(RequestEvent requestEvent) {
+    return null;
+  }
+}
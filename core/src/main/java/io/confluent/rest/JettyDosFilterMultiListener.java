@@ -53,4 +53,15 @@ public class JettyDosFilterMultiListener extends DoSFilter.Listener {
     return action;
   }
 
+  @Override
+  public void onRateTrackersEvicted(int count, DoSFilter dosFilter) {
+    for (DoSFilter.Listener listener : listeners) {
+      try {
+        listener.onRateTrackersEvicted(count, dosFilter);
+      } catch (Exception ex) {
+        log.debug("{} threw exception {}", listener.getClass(), ex);
+      }
+    }
+  }
+
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest;
+
+import io.confluent.rest.metrics.MetricsResourceMethodApplicationListener;
+import io.confluent.rest.tenant.TenantResolver;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpURI;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.RequestLog;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.util.NanoTime;
+import org.eclipse.jetty.util.component.ContainerLifeCycle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs requests as JSON records, one per line, e.g.
+ * <pre>
+ * {"time":1767225600000,"client":"10.0.0.1","method":"GET","uri":"/v3/clusters","protocol":
+ * "HTTP/1.1","status":200,"bytes":512,"user_agent":"curl/8.5.0","latency_ms":3}
+ * </pre>
+ *
+ * <p>Records are built field by field in a buffer taken from a small shared pool, rather than by
+ * interpreting a format for each request, so that the entry itself is all that is usually
+ * allocated. The pool is shared rather than kept by each thread, as virtual threads, one per
+ * request, would never reuse their buffer.
+ * Fields without a value, e.g. the referer of most requests, are left out.
+ */
+final class JsonRequestLog extends ContainerLifeCycle implements RequestLog {
+
+  private static final Logger log = LoggerFactory.getLogger(JsonRequestLog.class);
+
+  private static final int BUFFER_SIZE = 512;
+  // Buffers grown past this by a huge record are not kept, so they do not hold on to the memory.
+  private static final int MAX_RETAINED_BUFFER_SIZE = 16 * 1024;
+  // Enough for the requests being logged at the same time; a buffer is allocated when all are
+  // taken, and dropped when the pool is full again.
+  private static final int POOLED_BUFFERS = 2 * Runtime.getRuntime().availableProcessors();
+  private static final BlockingQueue<StringBuilder> BUFFERS =
+      new ArrayBlockingQueue<>(POOLED_BUFFERS);
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private final RequestLog.Writer writer;
+  private final boolean latencyMicros;
+  private final boolean logTenant;
+  private final TenantResolver tenantResolver;
+  private final RequestLogSampler sampler;
+
+  /**
+   * @param sampler which requests to log, or null for all of them.
+   */
+  JsonRequestLog(RequestLog.Writer writer, String latencyUnit, boolean logTenant,
+      TenantResolver tenantResolver, RequestLogSampler sampler) {
+    this.writer = writer;
+    this.latencyMicros = latencyUnit.equals("us");
+    this.logTenant = logTenant;
+    this.tenantResolver = tenantResolver;
+    this.sampler = sampler;
+    addBean(writer);
+  }
+
+  @Override
+  public void log(Request request, Response response) {
+    if (sampler != null && !sampler.sample(request, response)) {
+      return;
+    }
+
+    StringBuilder buffer = BUFFERS.poll();
+    if (buffer == null) {
+      buffer = new StringBuilder(BUFFER_SIZE);
+    }
+    format(buffer, request, response);
+    String entry = buffer.toString();
+    if (buffer.capacity() <= MAX_RETAINED_BUFFER_SIZE) {
+      buffer.setLength(0);
+      BUFFERS.offer(buffer);
+    }
+
+    try {
+      writer.write(entry);
+    } catch (IOException e) {
+      log.warn("Failed to write the request log entry", e);
+    }
+  }
+
+  private void format(StringBuilder buffer, Request request, Response response) {
+    buffer.append("{\"time\":").append(Request.getTimeStamp(request));
+    appendString(buffer, ",\"client\":", Request.getRemoteAddr(request));
+    appendString(buffer, ",\"method\":", request.getMethod());
+    HttpURI uri = request.getHttpURI();
+    buffer.append(",\"uri\":\"");
+    if (uri.getPath() != null) {
+      appendEscaped(buffer, uri.getPath());
+    }
+    if (uri.getQuery() != null) {
+      buffer.append('?');
+      appendEscaped(buffer, uri.getQuery());
+    }
+    buffer.append('"');
+    appendString(buffer, ",\"protocol\":", request.getConnectionMetaData().getProtocol());
+    buffer.append(",\"status\":").append(response.getStatus());
+    buffer.append(",\"bytes\":").append(Response.getContentBytesWritten(response));
+    appendString(buffer, ",\"referer\":", request.getHeaders().get(HttpHeader.REFERER));
+    appendString(buffer, ",\"user_agent\":", request.getHeaders().get(HttpHeader.USER_AGENT));
+
+    long latencyNanos = NanoTime.since(request.getBeginNanoTime());
+    if (latencyMicros) {
+      buffer.append(",\"latency_us\":").append(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+    } else {
+      buffer.append(",\"latency_ms\":").append(TimeUnit.NANOSECONDS.toMillis(latencyNanos));
+    }
+    Object phases =
+        request.getAttribute(MetricsResourceMethodApplicationListener.REQUEST_PHASES_ATTRIBUTE);
+    if (phases instanceof String) {
+      appendString(buffer, ",\"phases\":", (String) phases);
+    }
+    if (logTenant) {
+      appendString(buffer, ",\"tenant\":", TenantUtils.extractTenantId(request, tenantResolver));
+    }
+    buffer.append('}');
+  }
+
+  private static void appendString(StringBuilder buffer, String field, String value) {
+    if (value == null) {
+      return;
+    }
+    buffer.append(field).append('"');
+    appendEscaped(buffer, value);
+    buffer.append('"');
+  }
+
+  private static void appendEscaped(StringBuilder buffer, String value) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"':
+          buffer.append("\\\"");
+          break;
+        case '\\':
+          buffer.append("\\\\");
+          break;
+        case '\n':
+          buffer.append("\\n");
+          break;
+        case '\r':
+          buffer.append("\\r");
+          break;
+        case '\t':
+          buffer.append("\\t");
+          break;
+        default:
+          if (c < 0x20) {
+            buffer.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xf]);
+          } else {
+            buffer.append(c);
+          }
+      }
+    }
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+
+/**
+ * Keeps Jackson buffer recyclers like Jackson's bounded pool does, but with an output buffer of
+ * the given size rather than of 8000 bytes.
+ *
+ * <p>Jackson writes to the response stream whenever its output buffer is full. Jetty copies
+ * writes no larger than its output aggregation size, 8 KiB by default, into an aggregation buffer
+ * before writing them, while it writes larger ones as they are. With an output buffer larger than
+ * that, large responses go from the buffer Jackson serializes into to Jetty, and any compression,
+ * without another copy, and in fewer, larger writes.
+ *
+ * <p>The recyclers are shared by all threads rather than kept by each of them, as Jackson does by
+ * default: virtual threads would each allocate a buffer of their own, and every platform thread
+ * would hold on to one. At most {@code capacity} idle recyclers are kept, so the buffers take up
+ * to {@code capacity * writeBufferSize} bytes, plus those of the serializations in progress.
+ */
+final class JsonWriteBufferRecyclerPool extends RecyclerPool.BoundedPoolBase<BufferRecycler> {
+
+  private static final long serialVersionUID = 1L;
+
+  private final int writeBufferSize;
+
+  JsonWriteBufferRecyclerPool(int writeBufferSize) {
+    this(writeBufferSize, DEFAULT_CAPACITY);
+  }
+
+  JsonWriteBufferRecyclerPool(int writeBufferSize, int capacity) {
+    super(capacity);
+    this.writeBufferSize = writeBufferSize;
+  }
+
+  @Override
+  public BufferRecycler createPooled() {
+    return new WriteBufferRecycler(writeBufferSize);
+  }
+
+  private static final class WriteBufferRecycler extends BufferRecycler {
+
+    private final int writeBufferSize;
+
+    WriteBufferRecycler(int writeBufferSize) {
+      this.writeBufferSize = writeBufferSize;
+    }
+
+    @Override
+    protected int byteBufferLength(int ix) {
+      return ix == BYTE_WRITE_ENCODING_BUFFER ? writeBufferSize : super.byteBufferLength(ix);
+    }
+  }
+}
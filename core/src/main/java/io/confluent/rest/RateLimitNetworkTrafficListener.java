@@ -18,8 +18,10 @@ package io.confluent.rest;
 
 import io.confluent.rest.ratelimit.NetworkTrafficRateLimiter;
 import io.confluent.rest.ratelimit.NetworkTrafficRateLimiterFactory;
+import io.confluent.rest.ratelimit.PerClientNetworkTrafficRateLimiter;
 import java.net.Socket;
 import java.nio.ByteBuffer;
+import java.util.function.Function;
 import org.eclipse.jetty.io.NetworkTrafficListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,10 +34,25 @@ public class RateLimitNetworkTrafficListener implements NetworkTrafficListener {
 
   private static final Logger log = LoggerFactory.getLogger(RateLimitNetworkTrafficListener.class);
 
-  private final NetworkTrafficRateLimiter rateLimiter;
+  private final Function<Socket, NetworkTrafficRateLimiter> rateLimiters;
+  private final PerClientNetworkTrafficRateLimiter perClientRateLimiter;
 
   public RateLimitNetworkTrafficListener(RestConfig restConfig) {
-    rateLimiter = NetworkTrafficRateLimiterFactory.create(restConfig);
+    NetworkTrafficRateLimiter rateLimiter = NetworkTrafficRateLimiterFactory.create(restConfig);
+    this.rateLimiters = socket -> rateLimiter;
+    this.perClientRateLimiter = null;
+  }
+
+  public RateLimitNetworkTrafficListener(PerClientNetworkTrafficRateLimiter perClientRateLimiter) {
+    this.rateLimiters = perClientRateLimiter::limiterFor;
+    this.perClientRateLimiter = perClientRateLimiter;
+  }
+
+  @Override
+  public void opened(final Socket socket) {
+    if (perClientRateLimiter != null) {
+      perClientRateLimiter.open(socket);
+    }
   }
 
   @Override
@@ -43,7 +60,14 @@ public class RateLimitNetworkTrafficListener implements NetworkTrafficListener {
     int cost = bytes.limit() - bytes.position();
     if (cost > 0) {
       log.debug("Applying network traffic rate limit on socket: {} with cost: {}", socket, cost);
-      rateLimiter.rateLimit(cost);
+      rateLimiters.apply(socket).rateLimit(cost);
+    }
+  }
+
+  @Override
+  public void closed(final Socket socket) {
+    if (perClientRateLimiter != null) {
+      perClientRateLimiter.unbind(socket);
     }
   }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest;
+
+import io.confluent.rest.tenant.TenantResolver;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.util.NanoTime;
+
+/**
+ * Decides which requests are logged, so that e.g. all errors but only a sample of successes are.
+ *
+ * <p>Requests in a status class with a sample rate are logged with that rate, or the rate of
+ * their tenant if it has one, unless they took at least the latency threshold. Requests in other
+ * status classes are always logged.
+ */
+final class RequestLogSampler {
+
+  private static final double ALWAYS = 1.0;
+
+  // The sample rates by status class, e.g. at 2 for 2xx.
+  private final double[] statusRates = new double[6];
+  private final Map<String, Double> tenantRates;
+  private final long latencyThresholdNanos;
+  private final TenantResolver tenantResolver;
+
+  RequestLogSampler(Map<Integer, Double> statusRates, Map<String, Double> tenantRates,
+      long latencyThresholdMs, TenantResolver tenantResolver) {
+    Arrays.fill(this.statusRates, ALWAYS);
+    for (Map.Entry<Integer, Double> entry : statusRates.entrySet()) {
+      this.statusRates[entry.getKey()] = entry.getValue();
+    }
+    this.tenantRates = new HashMap<>(tenantRates);
+    this.latencyThresholdNanos =
+        latencyThresholdMs < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(latencyThresholdMs);
+    this.tenantResolver = tenantResolver;
+  }
+
+  /**
+   * Creates the sampler configured, if any requests are to be sampled.
+   */
+  static RequestLogSampler create(RestConfig config, TenantResolver tenantResolver) {
+    Map<Integer, Double> statusRates = config.getRequestLoggerSampleRates();
+    if (statusRates.isEmpty()) {
+      return null;
+    }
+    return new RequestLogSampler(statusRates, config.getRequestLoggerSampleTenantRates(),
+        config.getRequestLoggerSampleLatencyThresholdMs(), tenantResolver);
+  }
+
+  boolean sample(Request request, Response response) {
+    int statusClass = response.getStatus() / 100;
+    if (statusClass < 1 || statusClass >= statusRates.length) {
+      return true;
+    }
+    double rate = statusRates[statusClass];
+    if (rate >= ALWAYS) {
+      return true;
+    }
+    if (latencyThresholdNanos >= 0
+        && NanoTime.since(request.getBeginNanoTime()) >= latencyThresholdNanos) {
+      return true;
+    }
+    if (!tenantRates.isEmpty()) {
+      Double tenantRate = tenantRates.get(TenantUtils.extractTenantId(request, tenantResolver));
+      if (tenantRate != null) {
+        rate = tenantRate;
+      }
+    }
+    return rate >= ALWAYS || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+  }
+}
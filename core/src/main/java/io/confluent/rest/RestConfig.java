@@ -23,6 +23,8 @@ import static java.util.Collections.unmodifiableList;
 import static org.apache.kafka.clients.CommonClientConfigs.METRICS_CONTEXT_PREFIX;
 
 import io.confluent.rest.extension.ResourceExtension;
+import io.confluent.rest.filters.AdaptiveConcurrencyLimit;
+import io.confluent.rest.jetty.DoSFilter;
 import io.confluent.rest.metrics.RestMetricsContext;
 import io.confluent.rest.ratelimit.NetworkTrafficRateLimitBackend;
 import java.net.URI;
@@ -31,11 +33,13 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import jakarta.ws.rs.core.UriBuilder;
@@ -150,6 +154,60 @@ public class RestConfig extends AbstractConfig {
   protected static final String REQUEST_LOGGER_NAME_DOC =
       "Name of the SLF4J logger to write the NCSA Common Log Format request log.";
   protected static final String REQUEST_LOGGER_NAME_DEFAULT = "io.confluent.rest-utils.requests";
+  public static final String REQUEST_LOGGER_LATENCY_UNIT_CONFIG = "request.logger.latency.unit";
+  protected static final String REQUEST_LOGGER_LATENCY_UNIT_DOC =
+      "The unit of the request time at the end of each request log line, either 'ms' for "
+          + "milliseconds or 'us' for microseconds. Default is 'ms'.";
+  protected static final String REQUEST_LOGGER_LATENCY_UNIT_DEFAULT = "ms";
+  public static final String REQUEST_LOGGER_TENANT_ENABLE_CONFIG = "request.logger.tenant.enable";
+  protected static final String REQUEST_LOGGER_TENANT_ENABLE_DOC =
+      "Whether to log the tenant ID of each request at the end of its request log line. "
+          + "Default is false.";
+  protected static final boolean REQUEST_LOGGER_TENANT_ENABLE_DEFAULT = false;
+  public static final String REQUEST_LOGGER_ASYNC_ENABLE_CONFIG = "request.logger.async.enable";
+  protected static final String REQUEST_LOGGER_ASYNC_ENABLE_DOC =
+      "Whether to write the request log on a thread of its own, so that requests do not wait for "
+          + "the logging backend. Default is false.";
+  protected static final boolean REQUEST_LOGGER_ASYNC_ENABLE_DEFAULT = false;
+  public static final String REQUEST_LOGGER_ASYNC_QUEUE_SIZE_CONFIG =
+      "request.logger.async.queue.size";
+  protected static final String REQUEST_LOGGER_ASYNC_QUEUE_SIZE_DOC =
+      "The maximum number of request log entries waiting to be written, with "
+          + REQUEST_LOGGER_ASYNC_ENABLE_CONFIG + ", rounded up to a power of two. "
+          + "Default is 8192.";
+  protected static final int REQUEST_LOGGER_ASYNC_QUEUE_SIZE_DEFAULT = 8192;
+  public static final String REQUEST_LOGGER_ASYNC_FULL_POLICY_CONFIG =
+      "request.logger.async.full.policy";
+  protected static final String REQUEST_LOGGER_ASYNC_FULL_POLICY_DOC =
+      "What to do with a request log entry when " + REQUEST_LOGGER_ASYNC_QUEUE_SIZE_CONFIG
+          + " entries are already waiting to be written, either 'drop' to drop it, or 'block' to "
+          + "make the request wait until there is room. Default is 'drop'.";
+  protected static final String REQUEST_LOGGER_ASYNC_FULL_POLICY_DEFAULT = "drop";
+  public static final String REQUEST_LOGGER_FORMAT_CONFIG = "request.logger.format";
+  protected static final String REQUEST_LOGGER_FORMAT_DOC =
+      "The format of the request log, either 'ncsa' for the NCSA Common Log Format, or 'json' for "
+          + "a JSON record per request. Default is 'ncsa'.";
+  protected static final String REQUEST_LOGGER_FORMAT_DEFAULT = "ncsa";
+  public static final String REQUEST_LOGGER_SAMPLE_RATES_CONFIG = "request.logger.sample.rates";
+  protected static final String REQUEST_LOGGER_SAMPLE_RATES_DOC =
+      "The fractions of the requests to log by status class, as a list of <class>:<rate> pairs, "
+          + "e.g. '2xx:0.01,3xx:0.01' to log 1% of successes and redirects but all errors. "
+          + "Default is none, i.e. all requests are logged.";
+  protected static final String REQUEST_LOGGER_SAMPLE_RATES_DEFAULT = "";
+  public static final String REQUEST_LOGGER_SAMPLE_TENANT_RATES_CONFIG =
+      "request.logger.sample.tenant.rates";
+  protected static final String REQUEST_LOGGER_SAMPLE_TENANT_RATES_DOC =
+      "The fractions of the requests of tenants to log instead of the rates in "
+          + REQUEST_LOGGER_SAMPLE_RATES_CONFIG + ", as a list of <tenant>:<rate> pairs, e.g. "
+          + "'lkc-abc123:1.0' to log all requests of a tenant being investigated. The rates only "
+          + "apply to the status classes sampled. Default is none.";
+  protected static final String REQUEST_LOGGER_SAMPLE_TENANT_RATES_DEFAULT = "";
+  public static final String REQUEST_LOGGER_SAMPLE_LATENCY_THRESHOLD_MS_CONFIG =
+      "request.logger.sample.latency.threshold.ms";
+  protected static final String REQUEST_LOGGER_SAMPLE_LATENCY_THRESHOLD_MS_DOC =
+      "The request time in milliseconds at or above which requests are always logged, even if "
+          + "their status class is sampled. Default is -1, i.e. no threshold.";
+  protected static final long REQUEST_LOGGER_SAMPLE_LATENCY_THRESHOLD_MS_DEFAULT = -1L;
 
   public static final String METRICS_JMX_PREFIX_CONFIG = "metrics.jmx.prefix";
   protected static final String METRICS_JMX_PREFIX_DOC =
@@ -196,15 +254,59 @@ public class RestConfig extends AbstractConfig {
   protected static final String METRICS_LATENCY_SLA_MS_DOC = "The threshold (in ms) of whether"
       + " request latency meets or violates SLA";
   protected static final long METRICS_LATENCY_SLA_MS_DEFAULT = 50;
+  public static final String METRICS_LATENCY_SLO_US_CONFIG = "metrics.latency.slo.us";
+  protected static final String METRICS_LATENCY_SLO_US_DOC = "The threshold (in microseconds) of"
+      + " whether request latency meets or violates SLO. Overrides "
+      + METRICS_LATENCY_SLO_MS_CONFIG + " if set.";
+  protected static final Long METRICS_LATENCY_SLO_US_DEFAULT = null;
+  public static final String METRICS_LATENCY_SLA_US_CONFIG = "metrics.latency.sla.us";
+  protected static final String METRICS_LATENCY_SLA_US_DOC = "The threshold (in microseconds) of"
+      + " whether request latency meets or violates SLA. Overrides "
+      + METRICS_LATENCY_SLA_MS_CONFIG + " if set.";
+  protected static final Long METRICS_LATENCY_SLA_US_DEFAULT = null;
+  public static final String METRICS_LATENCY_HIGH_RESOLUTION_ENABLE_CONFIG =
+      "metrics.latency.high.resolution.enable";
+  protected static final String METRICS_LATENCY_HIGH_RESOLUTION_ENABLE_DOC = "Whether to measure"
+      + " request latency with the monotonic nanosecond clock, reporting fractions of a"
+      + " millisecond, instead of in whole milliseconds of the wall clock. The latency metrics are"
+      + " in milliseconds either way.";
+  protected static final boolean METRICS_LATENCY_HIGH_RESOLUTION_ENABLE_DEFAULT = false;
   public static final String PERCENTILE_MAX_LATENCY_MS_CONFIG = "percentile.max.latency.ms";
   protected static final String PERCENTILE_MAX_LATENCY_MS_DOC = "The threshold (in ms) of"
           + " percentile maximum latency";
   protected static final double PERCENTILE_MAX_LATENCY_MS_DEFAULT = 10000;
+  public static final String METRICS_LATENCY_PERCENTILES_HDR_ENABLE_CONFIG =
+      "metrics.latency.percentiles.hdr.enable";
+  protected static final String METRICS_LATENCY_PERCENTILES_HDR_ENABLE_DOC = "Whether to compute"
+      + " the request latency percentiles with high dynamic range buckets, which are accurate"
+      + " to 1/16th of the latency from 1 microsecond to 60 seconds, in the same memory as the"
+      + " linear buckets up to "
+      + PERCENTILE_MAX_LATENCY_MS_CONFIG + ". When enabled, " + PERCENTILE_MAX_LATENCY_MS_CONFIG
+      + " is ignored.";
+  protected static final boolean METRICS_LATENCY_PERCENTILES_HDR_ENABLE_DEFAULT = false;
   public static final String METRICS_GLOBAL_STATS_REQUEST_TAGS_ENABLE_CONFIG =
       "metrics.global.stats.request.tags.enable";
   protected static final String METRICS_GLOBAL_STATS_REQUEST_TAGS_ENABLE_DOC = "Whether to use "
       + " runtime request tags in global stats.";
   protected static final boolean METRICS_GLOBAL_STATS_REQUEST_TAGS_ENABLE_DEFAULT = false;
+  public static final String METRICS_REQUEST_TAGS_MAX_CARDINALITY_CONFIG =
+      "metrics.request.tags.max.cardinality";
+  protected static final String METRICS_REQUEST_TAGS_MAX_CARDINALITY_DOC = "The maximum number"
+      + " of request tag combinations to keep metrics for per resource method. Once reached, the"
+      + " least recently recorded combination is evicted if it has been idle for the whole metrics"
+      + " sample window, otherwise requests with new tags are recorded with the request tag"
+      + " request_tags=overflow, and the number of combinations is reported as"
+      + " request-tags-cardinality. 0 means no limit.";
+  protected static final int METRICS_REQUEST_TAGS_MAX_CARDINALITY_DEFAULT = 0;
+  public static final String METRICS_LATENCY_PHASES_ENABLE_CONFIG =
+      "metrics.latency.phases.enable";
+  protected static final String METRICS_LATENCY_PHASES_ENABLE_DOC = "Whether to break the"
+      + " latency of each request down into the time spent in the handlers in front of the servlet"
+      + " filters, the servlet filters, matching, request filters, reading the request entity, the"
+      + " resource method, response filters and writing the response, record each as"
+      + " <phase>-latency-avg and <phase>-latency-max metrics, and add the phases in microseconds"
+      + " to the request log.";
+  protected static final boolean METRICS_LATENCY_PHASES_ENABLE_DEFAULT = false;
 
   public static final String SSL_SPIRE_ENABLED_CONFIG = "ssl.spire.enabled";
   public static final String SSL_SPIRE_TRUST_ONLY_ENABLED_CONFIG =
@@ -407,6 +509,16 @@ public class RestConfig extends AbstractConfig {
           "The maximum number of threads will be started for HTTP Servlet server.";
   public static final int THREAD_POOL_MAX_DEFAULT = 200;
 
+  public static final String THREAD_POOL_VIRTUAL_THREADS_ENABLE_CONFIG =
+      "thread.pool.virtual.threads.enable";
+  public static final String THREAD_POOL_VIRTUAL_THREADS_ENABLE_DOC =
+      "Whether to handle requests on virtual threads instead of the threads of the HTTP Servlet "
+          + "server thread pool, so that requests blocked on I/O do not hold on to a platform "
+          + "thread. The thread pool, bounded by " + THREAD_POOL_MAX_CONFIG + ", then only runs "
+          + "the connectors' non-blocking tasks. Requires Java 21 or later; ignored with a "
+          + "warning on earlier versions.";
+  public static final boolean THREAD_POOL_VIRTUAL_THREADS_ENABLE_DEFAULT = false;
+
   public static final String REQUEST_QUEUE_CAPACITY_CONFIG = "request.queue.capacity";
   public static final String REQUEST_QUEUE_CAPACITY_DOC =
           "The capacity of request queue for each thread pool.";
@@ -550,6 +662,247 @@ public class RestConfig extends AbstractConfig {
           + "performing tenant-based rate limiting. Default is false.";
   private static final boolean DOS_FILTER_TENANT_DRY_RUN_ENABLED_DEFAULT = false;
 
+  private static final String DOS_FILTER_RATE_TRACKER_CONFIG = "dos.filter.rate.tracker";
+  private static final String DOS_FILTER_RATE_TRACKER_DOC =
+      "The algorithm used by the DoS filters to track request rates. 'sliding_window' keeps the "
+          + "timestamps of the last max-requests-per-second requests behind a lock, so its memory "
+          + "grows with the configured limit. 'token_bucket', 'gcra' (generic cell rate algorithm) "
+          + "and 'sliding_window_counter' (weighted counts of the current and previous second) "
+          + "are lock-free and use constant memory per tracked client. "
+          + "Default is 'sliding_window'.";
+  private static final String DOS_FILTER_RATE_TRACKER_DEFAULT = "sliding_window";
+  private static final ConfigDef.ValidString DOS_FILTER_RATE_TRACKER_VALIDATOR =
+      ConfigDef.ValidString.in(
+          "sliding_window", "token_bucket", "gcra", "sliding_window_counter");
+
+  private static final String ADAPTIVE_CONCURRENCY_LIMIT_ENABLE_CONFIG =
+      "adaptive.concurrency.limit.enable";
+  private static final String ADAPTIVE_CONCURRENCY_LIMIT_ENABLE_DOC =
+      "Whether to limit the number of requests in flight with a limit that adapts to their "
+          + "latency, rejecting requests over the limit instead of letting them wait for threads "
+          + "that are blocked downstream. Default is false.";
+  private static final boolean ADAPTIVE_CONCURRENCY_LIMIT_ENABLE_DEFAULT = false;
+
+  private static final String ADAPTIVE_CONCURRENCY_LIMIT_ALGORITHM_CONFIG =
+      "adaptive.concurrency.limit.algorithm";
+  private static final String ADAPTIVE_CONCURRENCY_LIMIT_ALGORITHM_DOC =
+      "The algorithm that adapts the concurrency limit. 'vegas' estimates the number of queued "
+          + "requests from how far latency is above the lowest latency seen. 'gradient' shrinks "
+          + "the limit by the ratio of the latency to its long-term average, which tolerates "
+          + "latency drifting over time. Default is 'gradient'.";
+  private static final String ADAPTIVE_CONCURRENCY_LIMIT_ALGORITHM_DEFAULT = "gradient";
+  private static final ConfigDef.ValidString ADAPTIVE_CONCURRENCY_LIMIT_ALGORITHM_VALIDATOR =
+      ConfigDef.ValidString.in("vegas", "gradient");
+
+  private static final String ADAPTIVE_CONCURRENCY_LIMIT_INITIAL_CONFIG =
+      "adaptive.concurrency.limit.initial";
+  private static final String ADAPTIVE_CONCURRENCY_LIMIT_INITIAL_DOC =
+      "The concurrency limit to start from. Default is 100.";
+  private static final int ADAPTIVE_CONCURRENCY_LIMIT_INITIAL_DEFAULT = 100;
+
+  private static final String ADAPTIVE_CONCURRENCY_LIMIT_MIN_CONFIG =
+      "adaptive.concurrency.limit.min";
+  private static final String ADAPTIVE_CONCURRENCY_LIMIT_MIN_DOC =
+      "The lowest the concurrency limit can go. Default is 10.";
+  private static final int ADAPTIVE_CONCURRENCY_LIMIT_MIN_DEFAULT = 10;
+
+  private static final String ADAPTIVE_CONCURRENCY_LIMIT_MAX_CONFIG =
+      "adaptive.concurrency.limit.max";
+  private static final String ADAPTIVE_CONCURRENCY_LIMIT_MAX_DOC =
+      "The highest the concurrency limit can go. Should be at most " + THREAD_POOL_MAX_CONFIG
+          + " unless requests are handled on virtual threads or asynchronously. Default is 1000.";
+  private static final int ADAPTIVE_CONCURRENCY_LIMIT_MAX_DEFAULT = 1000;
+
+  private static final String ADAPTIVE_CONCURRENCY_LIMIT_REJECTION_STATUS_CONFIG =
+      "adaptive.concurrency.limit.rejection.status";
+  private static final String ADAPTIVE_CONCURRENCY_LIMIT_REJECTION_STATUS_DOC =
+      "The HTTP status of the responses to requests over the concurrency limit, usually 503 or "
+          + "429. Default is 503.";
+  private static final int ADAPTIVE_CONCURRENCY_LIMIT_REJECTION_STATUS_DEFAULT = 503;
+
+  private static final String REQUEST_PRIORITY_ENABLE_CONFIG = "request.priority.enable";
+  private static final String REQUEST_PRIORITY_ENABLE_DOC =
+      "Whether to limit the number of requests handled at once and make the requests over the "
+          + "limit wait by priority, so that health checks and other high priority requests are "
+          + "handled ahead of the backlog of other requests. Default is false.";
+  private static final boolean REQUEST_PRIORITY_ENABLE_DEFAULT = false;
+
+  private static final String REQUEST_PRIORITY_MAX_CONCURRENT_REQUESTS_CONFIG =
+      "request.priority.max.concurrent.requests";
+  private static final String REQUEST_PRIORITY_MAX_CONCURRENT_REQUESTS_DOC =
+      "The maximum number of requests handled at once when request priorities are enabled. "
+          + "Should be below " + THREAD_POOL_MAX_CONFIG + ", so that threads are left to read "
+          + "new requests and put the high priority ones ahead. Default is 100.";
+  private static final int REQUEST_PRIORITY_MAX_CONCURRENT_REQUESTS_DEFAULT = 100;
+
+  private static final String REQUEST_PRIORITY_MAX_QUEUED_REQUESTS_CONFIG =
+      "request.priority.max.queued.requests";
+  private static final String REQUEST_PRIORITY_MAX_QUEUED_REQUESTS_DOC =
+      "The maximum number of requests waiting to be handled, over which requests are rejected "
+          + "with a 503. Default is 1000.";
+  private static final int REQUEST_PRIORITY_MAX_QUEUED_REQUESTS_DEFAULT = 1000;
+
+  private static final String REQUEST_PRIORITY_MAX_WAIT_MS_CONFIG =
+      "request.priority.max.wait.ms";
+  private static final String REQUEST_PRIORITY_MAX_WAIT_MS_DOC =
+      "The maximum time a request waits to be handled before it is rejected with a 503. "
+          + "Default is 30000.";
+  private static final long REQUEST_PRIORITY_MAX_WAIT_MS_DEFAULT = 30000;
+
+  private static final String REQUEST_PRIORITY_STARVATION_MS_CONFIG =
+      "request.priority.starvation.ms";
+  private static final String REQUEST_PRIORITY_STARVATION_MS_DOC =
+      "How long a waiting request takes to move up one priority, so that low priority requests "
+          + "are not starved by a steady stream of higher priority ones. 0 means requests are "
+          + "strictly handled by priority. Default is 1000.";
+  private static final long REQUEST_PRIORITY_STARVATION_MS_DEFAULT = 1000;
+
+  private static final String REQUEST_PRIORITY_HIGH_PATH_PREFIXES_CONFIG =
+      "request.priority.high.path.prefixes";
+  private static final String REQUEST_PRIORITY_HIGH_PATH_PREFIXES_DOC =
+      "The path prefixes of high priority requests. Health checks are always high priority. "
+          + "Default is none.";
+  private static final String REQUEST_PRIORITY_HIGH_PATH_PREFIXES_DEFAULT = "";
+
+  private static final String REQUEST_PRIORITY_LOW_PATH_PREFIXES_CONFIG =
+      "request.priority.low.path.prefixes";
+  private static final String REQUEST_PRIORITY_LOW_PATH_PREFIXES_DOC =
+      "The path prefixes of low priority requests, e.g. bulk produce requests. "
+          + "Default is none.";
+  private static final String REQUEST_PRIORITY_LOW_PATH_PREFIXES_DEFAULT = "";
+
+  private static final String REQUEST_PRIORITY_HIGH_LISTENERS_CONFIG =
+      "request.priority.high.listeners";
+  private static final String REQUEST_PRIORITY_HIGH_LISTENERS_DOC =
+      "The names of the listeners, e.g. a control plane listener, whose requests are high "
+          + "priority. Default is none.";
+  private static final String REQUEST_PRIORITY_HIGH_LISTENERS_DEFAULT = "";
+
+  private static final String REQUEST_PRIORITY_LOW_LISTENERS_CONFIG =
+      "request.priority.low.listeners";
+  private static final String REQUEST_PRIORITY_LOW_LISTENERS_DOC =
+      "The names of the listeners whose requests are low priority, unless they match "
+          + REQUEST_PRIORITY_HIGH_PATH_PREFIXES_CONFIG + ". Default is none.";
+  private static final String REQUEST_PRIORITY_LOW_LISTENERS_DEFAULT = "";
+
+  private static final String REQUEST_FAIR_QUEUE_ENABLE_CONFIG = "request.fair.queue.enable";
+  private static final String REQUEST_FAIR_QUEUE_ENABLE_DOC =
+      "Whether to limit the number of requests handled at once and make the requests over the "
+          + "limit wait in one queue per tenant, served in turn, so that each tenant gets its "
+          + "share of the requests handled when the server is saturated. Default is false.";
+  private static final boolean REQUEST_FAIR_QUEUE_ENABLE_DEFAULT = false;
+
+  private static final String REQUEST_FAIR_QUEUE_MAX_CONCURRENT_REQUESTS_CONFIG =
+      "request.fair.queue.max.concurrent.requests";
+  private static final String REQUEST_FAIR_QUEUE_MAX_CONCURRENT_REQUESTS_DOC =
+      "The maximum number of requests handled at once when tenant fair queuing is enabled. "
+          + "Should be below " + THREAD_POOL_MAX_CONFIG + ", so that threads are left to read "
+          + "new requests and queue them by tenant. Default is 100.";
+  private static final int REQUEST_FAIR_QUEUE_MAX_CONCURRENT_REQUESTS_DEFAULT = 100;
+
+  private static final String REQUEST_FAIR_QUEUE_MAX_QUEUED_REQUESTS_PER_TENANT_CONFIG =
+      "request.fair.queue.max.queued.requests.per.tenant";
+  private static final String REQUEST_FAIR_QUEUE_MAX_QUEUED_REQUESTS_PER_TENANT_DOC =
+      "The maximum number of requests of a tenant waiting to be handled, over which its "
+          + "requests are rejected with a 503. Default is 100.";
+  private static final int REQUEST_FAIR_QUEUE_MAX_QUEUED_REQUESTS_PER_TENANT_DEFAULT = 100;
+
+  private static final String REQUEST_FAIR_QUEUE_MAX_QUEUED_REQUESTS_CONFIG =
+      "request.fair.queue.max.queued.requests";
+  private static final String REQUEST_FAIR_QUEUE_MAX_QUEUED_REQUESTS_DOC =
+      "The maximum number of requests of all tenants waiting to be handled, over which requests "
+          + "are rejected with a 503. Default is 1000.";
+  private static final int REQUEST_FAIR_QUEUE_MAX_QUEUED_REQUESTS_DEFAULT = 1000;
+
+  private static final String REQUEST_FAIR_QUEUE_METRICS_MAX_TENANTS_CONFIG =
+      "request.fair.queue.metrics.max.tenants";
+  private static final String REQUEST_FAIR_QUEUE_METRICS_MAX_TENANTS_DOC =
+      "The maximum number of tenants with fair queue metrics of their own. The requests of "
+          + "other tenants are recorded in metrics tagged tenant=overflow, until tenants idle "
+          + "for a whole metrics sample window make room. Default is 100.";
+  private static final int REQUEST_FAIR_QUEUE_METRICS_MAX_TENANTS_DEFAULT = 100;
+
+  private static final String REQUEST_FAIR_QUEUE_MAX_WAIT_MS_CONFIG =
+      "request.fair.queue.max.wait.ms";
+  private static final String REQUEST_FAIR_QUEUE_MAX_WAIT_MS_DOC =
+      "The maximum time a request waits to be handled before it is rejected with a 503. "
+          + "Default is 30000.";
+  private static final long REQUEST_FAIR_QUEUE_MAX_WAIT_MS_DEFAULT = 30000;
+
+  private static final String REQUEST_FAIR_QUEUE_TENANT_WEIGHTS_CONFIG =
+      "request.fair.queue.tenant.weights";
+  private static final String REQUEST_FAIR_QUEUE_TENANT_WEIGHTS_DOC =
+      "The weights of tenants that get more than their equal share of the requests handled, as "
+          + "a list of <tenant>:<weight> pairs, e.g. 'lkc-abc123:4'. A tenant with weight 4 gets "
+          + "4 requests handled for every request of a tenant with the default weight of 1. "
+          + "Default is none.";
+  private static final String REQUEST_FAIR_QUEUE_TENANT_WEIGHTS_DEFAULT = "";
+
+  private static final String TENANT_RESOLVERS_CONFIG = "tenant.resolvers";
+  private static final String TENANT_RESOLVERS_DOC =
+      "How to tell the tenant of requests, as a list of resolvers tried in order until one tells "
+          + "the tenant: 'hostname' for the start of the hostname, 'path' for a segment of the "
+          + "path given by 'tenant.path.patterns', 'header' for the header given by "
+          + "'tenant.header.name', 'proxy.tlv' for the PROXY protocol TLV given by "
+          + "'tenant.proxy.tlv.type', 'client.certificate' for the common name of the client "
+          + "certificate, or the class name of a TenantResolver. Default is 'hostname,path'.";
+  private static final String TENANT_RESOLVERS_DEFAULT = "hostname,path";
+
+  private static final String TENANT_ID_PREFIX_CONFIG = "tenant.id.prefix";
+  private static final String TENANT_ID_PREFIX_DOC =
+      "The prefix of tenant IDs. A tenant ID is the prefix followed by letters and digits. "
+          + "Default is 'lkc-'.";
+  private static final String TENANT_ID_PREFIX_DEFAULT = "lkc-";
+
+  private static final String TENANT_PATH_PATTERNS_CONFIG = "tenant.path.patterns";
+  private static final String TENANT_PATH_PATTERNS_DOC =
+      "The patterns of the paths with the tenant ID in them, for the 'path' tenant resolver. In "
+          + "a pattern, '{tenant}' is the last segment, the one with the tenant ID, '*' is any one "
+          + "segment, and a leading '**' is any number of segments. "
+          + "Default is '**/kafka/v3/clusters/{tenant}'.";
+  private static final String TENANT_PATH_PATTERNS_DEFAULT = "**/kafka/v3/clusters/{tenant}";
+
+  private static final String TENANT_HEADER_NAME_CONFIG = "tenant.header.name";
+  private static final String TENANT_HEADER_NAME_DOC =
+      "The header with the tenant ID, for the 'header' tenant resolver. Default is none.";
+  private static final String TENANT_HEADER_NAME_DEFAULT = "";
+
+  private static final String TENANT_PROXY_TLV_TYPE_CONFIG = "tenant.proxy.tlv.type";
+  private static final String TENANT_PROXY_TLV_TYPE_DOC =
+      "The type of the PROXY protocol TLV with the tenant ID, for the 'proxy.tlv' tenant "
+          + "resolver. Default is 224 (0xE0), the first of the custom types.";
+  private static final int TENANT_PROXY_TLV_TYPE_DEFAULT = 0xE0;
+
+  private static final String JSON_BLACKBIRD_ENABLE_CONFIG = "json.blackbird.enable";
+  private static final String JSON_BLACKBIRD_ENABLE_DOC =
+      "Whether to register the Jackson Blackbird module with the JSON mapper, which generates "
+          + "accessors of the properties of entities instead of calling them by reflection. "
+          + "Default is false.";
+  private static final boolean JSON_BLACKBIRD_ENABLE_DEFAULT = false;
+
+  private static final String JSON_PREWARM_ENABLE_CONFIG = "json.prewarm.enable";
+  private static final String JSON_PREWARM_ENABLE_DOC =
+      "Whether to build the JSON serializers and deserializers of the entities of all resource "
+          + "methods when the application starts, rather than on the first request of each. "
+          + "Default is false.";
+  private static final boolean JSON_PREWARM_ENABLE_DEFAULT = false;
+
+  private static final String JSON_WRITE_BUFFER_SIZE_CONFIG = "json.write.buffer.size";
+  private static final String JSON_WRITE_BUFFER_SIZE_DOC =
+      "The size in bytes of the buffer JSON responses are serialized into before they are written "
+          + "to the connection. A buffer larger than the 8 KiB Jetty aggregates writes up to lets "
+          + "large responses be written without copying them again. Up to 100 idle buffers are "
+          + "kept in a pool shared by all threads. Default is 0, i.e. the 8000 bytes of Jackson, "
+          + "in a buffer kept by each thread.";
+  private static final int JSON_WRITE_BUFFER_SIZE_DEFAULT = 0;
+
+  private static final String JSON_REQUEST_MAX_SIZE_CONFIG = "json.request.max.size";
+  private static final String JSON_REQUEST_MAX_SIZE_DOC =
+      "The maximum size in bytes of JSON request entities. Larger ones are rejected with status "
+          + "413 as soon as that many bytes have been read, or before reading if their "
+          + "Content-Length header is larger. Default is -1, i.e. no limit.";
+  private static final long JSON_REQUEST_MAX_SIZE_DEFAULT = -1L;
+
   private static final String SERVER_CONNECTION_LIMIT = "server.connection.limit";
   private static final String SERVER_CONNECTION_LIMIT_DOC =
       "Limits the number of active connections on that server to the configured number. Once that "
@@ -676,7 +1029,8 @@ public class RestConfig extends AbstractConfig {
   protected static final String NETWORK_TRAFFIC_RATE_LIMIT_BACKEND_CONFIG =
       "network.traffic.rate.limit.backend";
   protected static final String NETWORK_TRAFFIC_RATE_LIMIT_BACKEND_DOC =
-      "The rate-limiting backend to use. The options are 'guava', and 'resilience4j'."
+      "The rate-limiting backend to use. The options are 'guava', 'resilience4j', and "
+          + "'token_bucket', a lock-free token bucket that refills continuously. "
           + "Default is 'guava'.";
   protected static final String NETWORK_TRAFFIC_RATE_LIMIT_BACKEND_DEFAULT = "guava";
 
@@ -689,6 +1043,43 @@ public class RestConfig extends AbstractConfig {
   protected static final ConfigDef.Range NETWORK_TRAFFIC_RATE_LIMIT_BYTES_PER_SEC_VALIDATOR =
       ConfigDef.Range.atLeast(1);
 
+  protected static final String NETWORK_TRAFFIC_RATE_LIMIT_NON_BLOCKING_ENABLE_CONFIG =
+      "network.traffic.rate.limit.non.blocking.enable";
+  protected static final String NETWORK_TRAFFIC_RATE_LIMIT_NON_BLOCKING_ENABLE_DOC =
+      "If true, a connection that exceeds the network traffic rate limit stops being read from "
+          + "until its budget allows it again, instead of blocking the thread that delivered its "
+          + "bytes. This keeps one heavy client from stalling the other connections served by "
+          + "the same selector. The 'guava' backend cannot rate-limit without blocking, so it is "
+          + "rejected when this is enabled. Default is false";
+  protected static final boolean NETWORK_TRAFFIC_RATE_LIMIT_NON_BLOCKING_ENABLE_DEFAULT = false;
+
+  protected static final String NETWORK_TRAFFIC_RATE_LIMIT_PER_CLIENT_ENABLE_CONFIG =
+      "network.traffic.rate.limit.per.client.enable";
+  protected static final String NETWORK_TRAFFIC_RATE_LIMIT_PER_CLIENT_ENABLE_DOC =
+      "If true, each client gets its own network traffic budget of "
+          + "network.traffic.rate.limit.bytes.per.sec, keyed by its remote IP address, instead "
+          + "of all connections sharing a single one. Default is false";
+  protected static final boolean NETWORK_TRAFFIC_RATE_LIMIT_PER_CLIENT_ENABLE_DEFAULT = false;
+
+  protected static final String NETWORK_TRAFFIC_RATE_LIMIT_PER_CLIENT_MAX_CLIENTS_CONFIG =
+      "network.traffic.rate.limit.per.client.max.clients";
+  protected static final String NETWORK_TRAFFIC_RATE_LIMIT_PER_CLIENT_MAX_CLIENTS_DOC =
+      "The maximum number of per-client network traffic budgets kept in memory. The least "
+          + "recently used ones are evicted first. Default is 10000";
+  protected static final int NETWORK_TRAFFIC_RATE_LIMIT_PER_CLIENT_MAX_CLIENTS_DEFAULT = 10000;
+
+  protected static final String NETWORK_TRAFFIC_RATE_LIMIT_PER_CLIENT_TENANT_ENABLE_CONFIG =
+      "network.traffic.rate.limit.per.client.tenant.enable";
+  protected static final String NETWORK_TRAFFIC_RATE_LIMIT_PER_CLIENT_TENANT_ENABLE_DOC =
+      "If true and per-client network traffic rate limiting is enabled, a connection is charged "
+          + "to the budget of the tenant extracted from its requests rather than to the budget "
+          + "of its remote IP address, once a tenant was found. The tenant comes from the Host "
+          + "header or the path of the requests, which clients choose, so only enable it when "
+          + "a proxy in front of the server ensures clients only use those of their own "
+          + "tenant. Default is false";
+  protected static final boolean NETWORK_TRAFFIC_RATE_LIMIT_PER_CLIENT_TENANT_ENABLE_DEFAULT =
+      false;
+
   protected static final boolean SUPPRESS_STACK_TRACE_IN_RESPONSE_DEFAULT = true;
 
   public static final String RETURN_429_INSTEAD_OF_500_FOR_JETTY_RESPONSE_ERRORS_CONFIG =
@@ -849,6 +1240,64 @@ public class RestConfig extends AbstractConfig {
             REQUEST_LOGGER_NAME_DEFAULT,
             Importance.LOW,
             REQUEST_LOGGER_NAME_DOC
+        ).define(
+            REQUEST_LOGGER_LATENCY_UNIT_CONFIG,
+            Type.STRING,
+            REQUEST_LOGGER_LATENCY_UNIT_DEFAULT,
+            ConfigDef.ValidString.in("ms", "us"),
+            Importance.LOW,
+            REQUEST_LOGGER_LATENCY_UNIT_DOC
+        ).define(
+            REQUEST_LOGGER_TENANT_ENABLE_CONFIG,
+            Type.BOOLEAN,
+            REQUEST_LOGGER_TENANT_ENABLE_DEFAULT,
+            Importance.LOW,
+            REQUEST_LOGGER_TENANT_ENABLE_DOC
+        ).define(
+            REQUEST_LOGGER_ASYNC_ENABLE_CONFIG,
+            Type.BOOLEAN,
+            REQUEST_LOGGER_ASYNC_ENABLE_DEFAULT,
+            Importance.LOW,
+            REQUEST_LOGGER_ASYNC_ENABLE_DOC
+        ).define(
+            REQUEST_LOGGER_ASYNC_QUEUE_SIZE_CONFIG,
+            Type.INT,
+            REQUEST_LOGGER_ASYNC_QUEUE_SIZE_DEFAULT,
+            ConfigDef.Range.between(1, 1 << 30),
+            Importance.LOW,
+            REQUEST_LOGGER_ASYNC_QUEUE_SIZE_DOC
+        ).define(
+            REQUEST_LOGGER_ASYNC_FULL_POLICY_CONFIG,
+            Type.STRING,
+            REQUEST_LOGGER_ASYNC_FULL_POLICY_DEFAULT,
+            ConfigDef.ValidString.in("drop", "block"),
+            Importance.LOW,
+            REQUEST_LOGGER_ASYNC_FULL_POLICY_DOC
+        ).define(
+            REQUEST_LOGGER_FORMAT_CONFIG,
+            Type.STRING,
+            REQUEST_LOGGER_FORMAT_DEFAULT,
+            ConfigDef.ValidString.in("ncsa", "json"),
+            Importance.LOW,
+            REQUEST_LOGGER_FORMAT_DOC
+        ).define(
+            REQUEST_LOGGER_SAMPLE_RATES_CONFIG,
+            Type.LIST,
+            REQUEST_LOGGER_SAMPLE_RATES_DEFAULT,
+            Importance.LOW,
+            REQUEST_LOGGER_SAMPLE_RATES_DOC
+        ).define(
+            REQUEST_LOGGER_SAMPLE_TENANT_RATES_CONFIG,
+            Type.LIST,
+            REQUEST_LOGGER_SAMPLE_TENANT_RATES_DEFAULT,
+            Importance.LOW,
+            REQUEST_LOGGER_SAMPLE_TENANT_RATES_DOC
+        ).define(
+            REQUEST_LOGGER_SAMPLE_LATENCY_THRESHOLD_MS_CONFIG,
+            Type.LONG,
+            REQUEST_LOGGER_SAMPLE_LATENCY_THRESHOLD_MS_DEFAULT,
+            Importance.LOW,
+            REQUEST_LOGGER_SAMPLE_LATENCY_THRESHOLD_MS_DOC
         ).define(
             METRICS_REPORTER_CLASSES_CONFIG,
             Type.LIST,
@@ -893,6 +1342,24 @@ public class RestConfig extends AbstractConfig {
             METRICS_LATENCY_SLA_MS_DEFAULT,
             Importance.LOW,
             METRICS_LATENCY_SLA_MS_DOC
+        ).define(
+            METRICS_LATENCY_SLO_US_CONFIG,
+            Type.LONG,
+            METRICS_LATENCY_SLO_US_DEFAULT,
+            Importance.LOW,
+            METRICS_LATENCY_SLO_US_DOC
+        ).define(
+            METRICS_LATENCY_SLA_US_CONFIG,
+            Type.LONG,
+            METRICS_LATENCY_SLA_US_DEFAULT,
+            Importance.LOW,
+            METRICS_LATENCY_SLA_US_DOC
+        ).define(
+            METRICS_LATENCY_HIGH_RESOLUTION_ENABLE_CONFIG,
+            Type.BOOLEAN,
+            METRICS_LATENCY_HIGH_RESOLUTION_ENABLE_DEFAULT,
+            Importance.LOW,
+            METRICS_LATENCY_HIGH_RESOLUTION_ENABLE_DOC
         ).define(
             PERCENTILE_MAX_LATENCY_MS_CONFIG,
             Type.DOUBLE,
@@ -900,12 +1367,31 @@ public class RestConfig extends AbstractConfig {
             ConfigDef.Range.atLeast(0),
             Importance.LOW,
             PERCENTILE_MAX_LATENCY_MS_DOC
+        ).define(
+            METRICS_LATENCY_PERCENTILES_HDR_ENABLE_CONFIG,
+            Type.BOOLEAN,
+            METRICS_LATENCY_PERCENTILES_HDR_ENABLE_DEFAULT,
+            Importance.LOW,
+            METRICS_LATENCY_PERCENTILES_HDR_ENABLE_DOC
         ).define(
             METRICS_GLOBAL_STATS_REQUEST_TAGS_ENABLE_CONFIG,
             Type.BOOLEAN,
             METRICS_GLOBAL_STATS_REQUEST_TAGS_ENABLE_DEFAULT,
             Importance.LOW,
             METRICS_GLOBAL_STATS_REQUEST_TAGS_ENABLE_DOC
+        ).define(
+            METRICS_REQUEST_TAGS_MAX_CARDINALITY_CONFIG,
+            Type.INT,
+            METRICS_REQUEST_TAGS_MAX_CARDINALITY_DEFAULT,
+            ConfigDef.Range.atLeast(0),
+            Importance.LOW,
+            METRICS_REQUEST_TAGS_MAX_CARDINALITY_DOC
+        ).define(
+            METRICS_LATENCY_PHASES_ENABLE_CONFIG,
+            Type.BOOLEAN,
+            METRICS_LATENCY_PHASES_ENABLE_DEFAULT,
+            Importance.LOW,
+            METRICS_LATENCY_PHASES_ENABLE_DOC
         ).define(
             SSL_SPIRE_ENABLED_CONFIG,
             Type.BOOLEAN,
@@ -1112,6 +1598,12 @@ public class RestConfig extends AbstractConfig {
             THREAD_POOL_MAX_DEFAULT,
             Importance.LOW,
             THREAD_POOL_MAX_DOC
+        ).define(
+            THREAD_POOL_VIRTUAL_THREADS_ENABLE_CONFIG,
+            Type.BOOLEAN,
+            THREAD_POOL_VIRTUAL_THREADS_ENABLE_DEFAULT,
+            Importance.LOW,
+            THREAD_POOL_VIRTUAL_THREADS_ENABLE_DOC
         ).define(
             REQUEST_QUEUE_CAPACITY_INITIAL_CONFIG,
             Type.INT,
@@ -1256,6 +1748,216 @@ public class RestConfig extends AbstractConfig {
             DOS_FILTER_TENANT_DRY_RUN_ENABLED_DEFAULT,
             Importance.LOW,
             DOS_FILTER_TENANT_DRY_RUN_ENABLED_DOC
+        ).define(
+            DOS_FILTER_RATE_TRACKER_CONFIG,
+            Type.STRING,
+            DOS_FILTER_RATE_TRACKER_DEFAULT,
+            DOS_FILTER_RATE_TRACKER_VALIDATOR,
+            Importance.LOW,
+            DOS_FILTER_RATE_TRACKER_DOC
+        ).define(
+            ADAPTIVE_CONCURRENCY_LIMIT_ENABLE_CONFIG,
+            Type.BOOLEAN,
+            ADAPTIVE_CONCURRENCY_LIMIT_ENABLE_DEFAULT,
+            Importance.LOW,
+            ADAPTIVE_CONCURRENCY_LIMIT_ENABLE_DOC
+        ).define(
+            ADAPTIVE_CONCURRENCY_LIMIT_ALGORITHM_CONFIG,
+            Type.STRING,
+            ADAPTIVE_CONCURRENCY_LIMIT_ALGORITHM_DEFAULT,
+            ADAPTIVE_CONCURRENCY_LIMIT_ALGORITHM_VALIDATOR,
+            Importance.LOW,
+            ADAPTIVE_CONCURRENCY_LIMIT_ALGORITHM_DOC
+        ).define(
+            ADAPTIVE_CONCURRENCY_LIMIT_INITIAL_CONFIG,
+            Type.INT,
+            ADAPTIVE_CONCURRENCY_LIMIT_INITIAL_DEFAULT,
+            ConfigDef.Range.atLeast(1),
+            Importance.LOW,
+            ADAPTIVE_CONCURRENCY_LIMIT_INITIAL_DOC
+        ).define(
+            ADAPTIVE_CONCURRENCY_LIMIT_MIN_CONFIG,
+            Type.INT,
+            ADAPTIVE_CONCURRENCY_LIMIT_MIN_DEFAULT,
+            ConfigDef.Range.atLeast(1),
+            Importance.LOW,
+            ADAPTIVE_CONCURRENCY_LIMIT_MIN_DOC
+        ).define(
+            ADAPTIVE_CONCURRENCY_LIMIT_MAX_CONFIG,
+            Type.INT,
+            ADAPTIVE_CONCURRENCY_LIMIT_MAX_DEFAULT,
+            ConfigDef.Range.atLeast(1),
+            Importance.LOW,
+            ADAPTIVE_CONCURRENCY_LIMIT_MAX_DOC
+        ).define(
+            ADAPTIVE_CONCURRENCY_LIMIT_REJECTION_STATUS_CONFIG,
+            Type.INT,
+            ADAPTIVE_CONCURRENCY_LIMIT_REJECTION_STATUS_DEFAULT,
+            ConfigDef.Range.between(400, 599),
+            Importance.LOW,
+            ADAPTIVE_CONCURRENCY_LIMIT_REJECTION_STATUS_DOC
+        ).define(
+            REQUEST_PRIORITY_ENABLE_CONFIG,
+            Type.BOOLEAN,
+            REQUEST_PRIORITY_ENABLE_DEFAULT,
+            Importance.LOW,
+            REQUEST_PRIORITY_ENABLE_DOC
+        ).define(
+            REQUEST_PRIORITY_MAX_CONCURRENT_REQUESTS_CONFIG,
+            Type.INT,
+            REQUEST_PRIORITY_MAX_CONCURRENT_REQUESTS_DEFAULT,
+            ConfigDef.Range.atLeast(1),
+            Importance.LOW,
+            REQUEST_PRIORITY_MAX_CONCURRENT_REQUESTS_DOC
+        ).define(
+            REQUEST_PRIORITY_MAX_QUEUED_REQUESTS_CONFIG,
+            Type.INT,
+            REQUEST_PRIORITY_MAX_QUEUED_REQUESTS_DEFAULT,
+            ConfigDef.Range.atLeast(0),
+            Importance.LOW,
+            REQUEST_PRIORITY_MAX_QUEUED_REQUESTS_DOC
+        ).define(
+            REQUEST_PRIORITY_MAX_WAIT_MS_CONFIG,
+            Type.LONG,
+            REQUEST_PRIORITY_MAX_WAIT_MS_DEFAULT,
+            ConfigDef.Range.atLeast(1),
+            Importance.LOW,
+            REQUEST_PRIORITY_MAX_WAIT_MS_DOC
+        ).define(
+            REQUEST_PRIORITY_STARVATION_MS_CONFIG,
+            Type.LONG,
+            REQUEST_PRIORITY_STARVATION_MS_DEFAULT,
+            ConfigDef.Range.atLeast(0),
+            Importance.LOW,
+            REQUEST_PRIORITY_STARVATION_MS_DOC
+        ).define(
+            REQUEST_PRIORITY_HIGH_PATH_PREFIXES_CONFIG,
+            Type.LIST,
+            REQUEST_PRIORITY_HIGH_PATH_PREFIXES_DEFAULT,
+            Importance.LOW,
+            REQUEST_PRIORITY_HIGH_PATH_PREFIXES_DOC
+        ).define(
+            REQUEST_PRIORITY_LOW_PATH_PREFIXES_CONFIG,
+            Type.LIST,
+            REQUEST_PRIORITY_LOW_PATH_PREFIXES_DEFAULT,
+            Importance.LOW,
+            REQUEST_PRIORITY_LOW_PATH_PREFIXES_DOC
+        ).define(
+            REQUEST_PRIORITY_HIGH_LISTENERS_CONFIG,
+            Type.LIST,
+            REQUEST_PRIORITY_HIGH_LISTENERS_DEFAULT,
+            Importance.LOW,
+            REQUEST_PRIORITY_HIGH_LISTENERS_DOC
+        ).define(
+            REQUEST_PRIORITY_LOW_LISTENERS_CONFIG,
+            Type.LIST,
+            REQUEST_PRIORITY_LOW_LISTENERS_DEFAULT,
+            Importance.LOW,
+            REQUEST_PRIORITY_LOW_LISTENERS_DOC
+        ).define(
+            REQUEST_FAIR_QUEUE_ENABLE_CONFIG,
+            Type.BOOLEAN,
+            REQUEST_FAIR_QUEUE_ENABLE_DEFAULT,
+            Importance.LOW,
+            REQUEST_FAIR_QUEUE_ENABLE_DOC
+        ).define(
+            REQUEST_FAIR_QUEUE_MAX_CONCURRENT_REQUESTS_CONFIG,
+            Type.INT,
+            REQUEST_FAIR_QUEUE_MAX_CONCURRENT_REQUESTS_DEFAULT,
+            ConfigDef.Range.atLeast(1),
+            Importance.LOW,
+            REQUEST_FAIR_QUEUE_MAX_CONCURRENT_REQUESTS_DOC
+        ).define(
+            REQUEST_FAIR_QUEUE_MAX_QUEUED_REQUESTS_PER_TENANT_CONFIG,
+            Type.INT,
+            REQUEST_FAIR_QUEUE_MAX_QUEUED_REQUESTS_PER_TENANT_DEFAULT,
+            ConfigDef.Range.atLeast(1),
+            Importance.LOW,
+            REQUEST_FAIR_QUEUE_MAX_QUEUED_REQUESTS_PER_TENANT_DOC
+        ).define(
+            REQUEST_FAIR_QUEUE_MAX_QUEUED_REQUESTS_CONFIG,
+            Type.INT,
+            REQUEST_FAIR_QUEUE_MAX_QUEUED_REQUESTS_DEFAULT,
+            ConfigDef.Range.atLeast(1),
+            Importance.LOW,
+            REQUEST_FAIR_QUEUE_MAX_QUEUED_REQUESTS_DOC
+        ).define(
+            REQUEST_FAIR_QUEUE_METRICS_MAX_TENANTS_CONFIG,
+            Type.INT,
+            REQUEST_FAIR_QUEUE_METRICS_MAX_TENANTS_DEFAULT,
+            ConfigDef.Range.atLeast(0),
+            Importance.LOW,
+            REQUEST_FAIR_QUEUE_METRICS_MAX_TENANTS_DOC
+        ).define(
+            REQUEST_FAIR_QUEUE_MAX_WAIT_MS_CONFIG,
+            Type.LONG,
+            REQUEST_FAIR_QUEUE_MAX_WAIT_MS_DEFAULT,
+            ConfigDef.Range.atLeast(1),
+            Importance.LOW,
+            REQUEST_FAIR_QUEUE_MAX_WAIT_MS_DOC
+        ).define(
+            REQUEST_FAIR_QUEUE_TENANT_WEIGHTS_CONFIG,
+            Type.LIST,
+            REQUEST_FAIR_QUEUE_TENANT_WEIGHTS_DEFAULT,
+            Importance.LOW,
+            REQUEST_FAIR_QUEUE_TENANT_WEIGHTS_DOC
+        ).define(
+            TENANT_RESOLVERS_CONFIG,
+            Type.LIST,
+            TENANT_RESOLVERS_DEFAULT,
+            Importance.LOW,
+            TENANT_RESOLVERS_DOC
+        ).define(
+            TENANT_ID_PREFIX_CONFIG,
+            Type.STRING,
+            TENANT_ID_PREFIX_DEFAULT,
+            Importance.LOW,
+            TENANT_ID_PREFIX_DOC
+        ).define(
+            TENANT_PATH_PATTERNS_CONFIG,
+            Type.LIST,
+            TENANT_PATH_PATTERNS_DEFAULT,
+            Importance.LOW,
+            TENANT_PATH_PATTERNS_DOC
+        ).define(
+            TENANT_HEADER_NAME_CONFIG,
+            Type.STRING,
+            TENANT_HEADER_NAME_DEFAULT,
+            Importance.LOW,
+            TENANT_HEADER_NAME_DOC
+        ).define(
+            TENANT_PROXY_TLV_TYPE_CONFIG,
+            Type.INT,
+            TENANT_PROXY_TLV_TYPE_DEFAULT,
+            ConfigDef.Range.between(0, 255),
+            Importance.LOW,
+            TENANT_PROXY_TLV_TYPE_DOC
+        ).define(
+            JSON_BLACKBIRD_ENABLE_CONFIG,
+            Type.BOOLEAN,
+            JSON_BLACKBIRD_ENABLE_DEFAULT,
+            Importance.LOW,
+            JSON_BLACKBIRD_ENABLE_DOC
+        ).define(
+            JSON_PREWARM_ENABLE_CONFIG,
+            Type.BOOLEAN,
+            JSON_PREWARM_ENABLE_DEFAULT,
+            Importance.LOW,
+            JSON_PREWARM_ENABLE_DOC
+        ).define(
+            JSON_WRITE_BUFFER_SIZE_CONFIG,
+            Type.INT,
+            JSON_WRITE_BUFFER_SIZE_DEFAULT,
+            ConfigDef.Range.between(0, 1024 * 1024),
+            Importance.LOW,
+            JSON_WRITE_BUFFER_SIZE_DOC
+        ).define(
+            JSON_REQUEST_MAX_SIZE_CONFIG,
+            Type.LONG,
+            JSON_REQUEST_MAX_SIZE_DEFAULT,
+            ConfigDef.Range.atLeast(-1),
+            Importance.LOW,
+            JSON_REQUEST_MAX_SIZE_DOC
         ).define(
             SERVER_CONNECTION_LIMIT,
             Type.INT,
@@ -1383,6 +2085,31 @@ public class RestConfig extends AbstractConfig {
             NETWORK_TRAFFIC_RATE_LIMIT_BYTES_PER_SEC_VALIDATOR,
             Importance.LOW,
             NETWORK_TRAFFIC_RATE_LIMIT_BYTES_PER_SEC_DOC
+        ).define(
+            NETWORK_TRAFFIC_RATE_LIMIT_NON_BLOCKING_ENABLE_CONFIG,
+            Type.BOOLEAN,
+            NETWORK_TRAFFIC_RATE_LIMIT_NON_BLOCKING_ENABLE_DEFAULT,
+            Importance.LOW,
+            NETWORK_TRAFFIC_RATE_LIMIT_NON_BLOCKING_ENABLE_DOC
+        ).define(
+            NETWORK_TRAFFIC_RATE_LIMIT_PER_CLIENT_ENABLE_CONFIG,
+            Type.BOOLEAN,
+            NETWORK_TRAFFIC_RATE_LIMIT_PER_CLIENT_ENABLE_DEFAULT,
+            Importance.LOW,
+            NETWORK_TRAFFIC_RATE_LIMIT_PER_CLIENT_ENABLE_DOC
+        ).define(
+            NETWORK_TRAFFIC_RATE_LIMIT_PER_CLIENT_MAX_CLIENTS_CONFIG,
+            Type.INT,
+            NETWORK_TRAFFIC_RATE_LIMIT_PER_CLIENT_MAX_CLIENTS_DEFAULT,
+            ConfigDef.Range.atLeast(1),
+            Importance.LOW,
+            NETWORK_TRAFFIC_RATE_LIMIT_PER_CLIENT_MAX_CLIENTS_DOC
+        ).define(
+            NETWORK_TRAFFIC_RATE_LIMIT_PER_CLIENT_TENANT_ENABLE_CONFIG,
+            Type.BOOLEAN,
+            NETWORK_TRAFFIC_RATE_LIMIT_PER_CLIENT_TENANT_ENABLE_DEFAULT,
+            Importance.LOW,
+            NETWORK_TRAFFIC_RATE_LIMIT_PER_CLIENT_TENANT_ENABLE_DOC
         ).define(
             RETURN_429_INSTEAD_OF_500_FOR_JETTY_RESPONSE_ERRORS_CONFIG,
             Type.BOOLEAN,
@@ -1543,6 +2270,151 @@ public class RestConfig extends AbstractConfig {
     return getBoolean(DOS_FILTER_TENANT_DRY_RUN_ENABLED_CONFIG);
   }
 
+  public final DoSFilter.RateTrackerType getDosFilterRateTracker() {
+    return DoSFilter.RateTrackerType.valueOf(
+        getString(DOS_FILTER_RATE_TRACKER_CONFIG).toUpperCase(Locale.ROOT));
+  }
+
+  public final boolean isAdaptiveConcurrencyLimitEnabled() {
+    return getBoolean(ADAPTIVE_CONCURRENCY_LIMIT_ENABLE_CONFIG);
+  }
+
+  public final AdaptiveConcurrencyLimit.Algorithm getAdaptiveConcurrencyLimitAlgorithm() {
+    return AdaptiveConcurrencyLimit.Algorithm.valueOf(
+        getString(ADAPTIVE_CONCURRENCY_LIMIT_ALGORITHM_CONFIG).toUpperCase(Locale.ROOT));
+  }
+
+  public final int getAdaptiveConcurrencyLimitInitial() {
+    return getInt(ADAPTIVE_CONCURRENCY_LIMIT_INITIAL_CONFIG);
+  }
+
+  public final int getAdaptiveConcurrencyLimitMin() {
+    return getInt(ADAPTIVE_CONCURRENCY_LIMIT_MIN_CONFIG);
+  }
+
+  public final int getAdaptiveConcurrencyLimitMax() {
+    return getInt(ADAPTIVE_CONCURRENCY_LIMIT_MAX_CONFIG);
+  }
+
+  public final int getAdaptiveConcurrencyLimitRejectionStatus() {
+    return getInt(ADAPTIVE_CONCURRENCY_LIMIT_REJECTION_STATUS_CONFIG);
+  }
+
+  public final boolean isRequestPriorityEnabled() {
+    return getBoolean(REQUEST_PRIORITY_ENABLE_CONFIG);
+  }
+
+  public final int getRequestPriorityMaxConcurrentRequests() {
+    return getInt(REQUEST_PRIORITY_MAX_CONCURRENT_REQUESTS_CONFIG);
+  }
+
+  public final int getRequestPriorityMaxQueuedRequests() {
+    return getInt(REQUEST_PRIORITY_MAX_QUEUED_REQUESTS_CONFIG);
+  }
+
+  public final long getRequestPriorityMaxWaitMs() {
+    return getLong(REQUEST_PRIORITY_MAX_WAIT_MS_CONFIG);
+  }
+
+  public final long getRequestPriorityStarvationMs() {
+    return getLong(REQUEST_PRIORITY_STARVATION_MS_CONFIG);
+  }
+
+  public final List<String> getRequestPriorityHighPathPrefixes() {
+    return getList(REQUEST_PRIORITY_HIGH_PATH_PREFIXES_CONFIG);
+  }
+
+  public final List<String> getRequestPriorityLowPathPrefixes() {
+    return getList(REQUEST_PRIORITY_LOW_PATH_PREFIXES_CONFIG);
+  }
+
+  public final List<String> getRequestPriorityHighListeners() {
+    return getList(REQUEST_PRIORITY_HIGH_LISTENERS_CONFIG);
+  }
+
+  public final List<String> getRequestPriorityLowListeners() {
+    return getList(REQUEST_PRIORITY_LOW_LISTENERS_CONFIG);
+  }
+
+  public final boolean isRequestFairQueueEnabled() {
+    return getBoolean(REQUEST_FAIR_QUEUE_ENABLE_CONFIG);
+  }
+
+  public final int getRequestFairQueueMaxConcurrentRequests() {
+    return getInt(REQUEST_FAIR_QUEUE_MAX_CONCURRENT_REQUESTS_CONFIG);
+  }
+
+  public final int getRequestFairQueueMaxQueuedRequestsPerTenant() {
+    return getInt(REQUEST_FAIR_QUEUE_MAX_QUEUED_REQUESTS_PER_TENANT_CONFIG);
+  }
+
+  public final int getRequestFairQueueMaxQueuedRequests() {
+    return getInt(REQUEST_FAIR_QUEUE_MAX_QUEUED_REQUESTS_CONFIG);
+  }
+
+  public final int getRequestFairQueueMetricsMaxTenants() {
+    return getInt(REQUEST_FAIR_QUEUE_METRICS_MAX_TENANTS_CONFIG);
+  }
+
+  public final long getRequestFairQueueMaxWaitMs() {
+    return getLong(REQUEST_FAIR_QUEUE_MAX_WAIT_MS_CONFIG);
+  }
+
+  public final Map<String, Integer> getRequestFairQueueTenantWeights() {
+    Map<String, Integer> weights = new HashMap<>();
+    for (Map.Entry<String, String> entry
+        : getMap(REQUEST_FAIR_QUEUE_TENANT_WEIGHTS_CONFIG).entrySet()) {
+      int weight;
+      try {
+        weight = Integer.parseInt(entry.getValue());
+      } catch (NumberFormatException e) {
+        weight = 0;
+      }
+      if (weight < 1) {
+        throw new ConfigException(REQUEST_FAIR_QUEUE_TENANT_WEIGHTS_CONFIG, entry.getValue(),
+            "The weight of tenant '" + entry.getKey() + "' must be a positive integer");
+      }
+      weights.put(entry.getKey(), weight);
+    }
+    return weights;
+  }
+
+  public final List<String> getTenantResolvers() {
+    return getList(TENANT_RESOLVERS_CONFIG);
+  }
+
+  public final String getTenantIdPrefix() {
+    return getString(TENANT_ID_PREFIX_CONFIG);
+  }
+
+  public final List<String> getTenantPathPatterns() {
+    return getList(TENANT_PATH_PATTERNS_CONFIG);
+  }
+
+  public final String getTenantHeaderName() {
+    return getString(TENANT_HEADER_NAME_CONFIG);
+  }
+
+  public final int getTenantProxyTlvType() {
+    return getInt(TENANT_PROXY_TLV_TYPE_CONFIG);
+  }
+
+  public final boolean isJsonBlackbirdEnabled() {
+    return getBoolean(JSON_BLACKBIRD_ENABLE_CONFIG);
+  }
+
+  public final boolean isJsonPrewarmEnabled() {
+    return getBoolean(JSON_PREWARM_ENABLE_CONFIG);
+  }
+
+  public final int getJsonWriteBufferSize() {
+    return getInt(JSON_WRITE_BUFFER_SIZE_CONFIG);
+  }
+
+  public final long getJsonRequestMaxSize() {
+    return getLong(JSON_REQUEST_MAX_SIZE_CONFIG);
+  }
+
   public final int getServerConnectionLimit() {
     return getInt(SERVER_CONNECTION_LIMIT);
   }
@@ -1559,6 +2431,93 @@ public class RestConfig extends AbstractConfig {
     return getBoolean(RETURN_429_INSTEAD_OF_500_FOR_JETTY_RESPONSE_ERRORS_CONFIG);
   }
 
+  public final String getRequestLoggerLatencyUnit() {
+    return getString(REQUEST_LOGGER_LATENCY_UNIT_CONFIG);
+  }
+
+  public final boolean isRequestLoggerTenantEnabled() {
+    return getBoolean(REQUEST_LOGGER_TENANT_ENABLE_CONFIG);
+  }
+
+  public final boolean isRequestLoggerAsyncEnabled() {
+    return getBoolean(REQUEST_LOGGER_ASYNC_ENABLE_CONFIG);
+  }
+
+  public final int getRequestLoggerAsyncQueueSize() {
+    return getInt(REQUEST_LOGGER_ASYNC_QUEUE_SIZE_CONFIG);
+  }
+
+  public final boolean isRequestLoggerAsyncBlockWhenFull() {
+    return getString(REQUEST_LOGGER_ASYNC_FULL_POLICY_CONFIG).equals("block");
+  }
+
+  public final boolean isRequestLoggerJson() {
+    return getString(REQUEST_LOGGER_FORMAT_CONFIG).equals("json");
+  }
+
+  /**
+   * Returns the sample rates of the request log by status class, e.g. 2 for 2xx.
+   */
+  public final Map<Integer, Double> getRequestLoggerSampleRates() {
+    Map<Integer, Double> rates = new HashMap<>();
+    for (Map.Entry<String, Double> entry
+        : getSampleRates(REQUEST_LOGGER_SAMPLE_RATES_CONFIG).entrySet()) {
+      String statusClass = entry.getKey();
+      if (!statusClass.matches("[1-5]xx")) {
+        throw new ConfigException(REQUEST_LOGGER_SAMPLE_RATES_CONFIG, statusClass,
+            "Status classes must be one of 1xx, 2xx, 3xx, 4xx or 5xx");
+      }
+      rates.put(statusClass.charAt(0) - '0', entry.getValue());
+    }
+    return rates;
+  }
+
+  public final Map<String, Double> getRequestLoggerSampleTenantRates() {
+    return getSampleRates(REQUEST_LOGGER_SAMPLE_TENANT_RATES_CONFIG);
+  }
+
+  public final long getRequestLoggerSampleLatencyThresholdMs() {
+    return getLong(REQUEST_LOGGER_SAMPLE_LATENCY_THRESHOLD_MS_CONFIG);
+  }
+
+  private Map<String, Double> getSampleRates(String propertyName) {
+    Map<String, Double> rates = new HashMap<>();
+    for (Map.Entry<String, String> entry : getMap(propertyName).entrySet()) {
+      double rate;
+      try {
+        rate = Double.parseDouble(entry.getValue());
+      } catch (NumberFormatException e) {
+        rate = Double.NaN;
+      }
+      if (!(rate >= 0.0 && rate <= 1.0)) {
+        throw new ConfigException(propertyName, entry.getValue(),
+            "The rate of '" + entry.getKey() + "' must be a number between 0 and 1");
+      }
+      rates.put(entry.getKey(), rate);
+    }
+    return rates;
+  }
+
+  public final long getMetricsLatencySloMicros() {
+    Long micros = getLong(METRICS_LATENCY_SLO_US_CONFIG);
+    return micros != null
+        ? micros : TimeUnit.MILLISECONDS.toMicros(getLong(METRICS_LATENCY_SLO_MS_CONFIG));
+  }
+
+  public final long getMetricsLatencySlaMicros() {
+    Long micros = getLong(METRICS_LATENCY_SLA_US_CONFIG);
+    return micros != null
+        ? micros : TimeUnit.MILLISECONDS.toMicros(getLong(METRICS_LATENCY_SLA_MS_CONFIG));
+  }
+
+  public final boolean isMetricsLatencyHighResolutionEnabled() {
+    return getBoolean(METRICS_LATENCY_HIGH_RESOLUTION_ENABLE_CONFIG);
+  }
+
+  public final boolean isMetricsLatencyPhasesEnabled() {
+    return getBoolean(METRICS_LATENCY_PHASES_ENABLE_CONFIG);
+  }
+
   public final boolean getDisableResponseSizeMetricsCollection() {
     return getBoolean(DISABLE_RESPONSE_SIZE_METRICS_COLLECTION_CONFIG);
   }
@@ -1736,6 +2695,30 @@ public class RestConfig extends AbstractConfig {
     return getInt(NETWORK_TRAFFIC_RATE_LIMIT_BYTES_PER_SEC_CONFIG);
   }
 
+  public final boolean getNetworkTrafficRateLimitNonBlockingEnable() {
+    boolean nonBlocking = getBoolean(NETWORK_TRAFFIC_RATE_LIMIT_NON_BLOCKING_ENABLE_CONFIG);
+    if (nonBlocking
+        && getNetworkTrafficRateLimitBackend() == NetworkTrafficRateLimitBackend.GUAVA) {
+      throw new ConfigException(NETWORK_TRAFFIC_RATE_LIMIT_BACKEND_CONFIG,
+          getString(NETWORK_TRAFFIC_RATE_LIMIT_BACKEND_CONFIG),
+          "The guava backend cannot rate-limit without blocking. Use resilience4j or "
+              + "token_bucket with " + NETWORK_TRAFFIC_RATE_LIMIT_NON_BLOCKING_ENABLE_CONFIG);
+    }
+    return nonBlocking;
+  }
+
+  public final boolean getNetworkTrafficRateLimitPerClientEnable() {
+    return getBoolean(NETWORK_TRAFFIC_RATE_LIMIT_PER_CLIENT_ENABLE_CONFIG);
+  }
+
+  public final int getNetworkTrafficRateLimitPerClientMaxClients() {
+    return getInt(NETWORK_TRAFFIC_RATE_LIMIT_PER_CLIENT_MAX_CLIENTS_CONFIG);
+  }
+
+  public final boolean getNetworkTrafficRateLimitPerClientTenantEnable() {
+    return getBoolean(NETWORK_TRAFFIC_RATE_LIMIT_PER_CLIENT_TENANT_ENABLE_CONFIG);
+  }
+
   public final boolean getSniCheckEnable() {
     return getBoolean(SNI_CHECK_ENABLED_CONFIG);
   }
@@ -16,7 +16,18 @@
 
 package io.confluent.rest;
 
+import io.confluent.rest.tenant.HostnameTenantResolver;
+import io.confluent.rest.tenant.PathTenantResolver;
+import io.confluent.rest.tenant.TenantResolver;
+import io.confluent.rest.tenant.TenantResolverFactory;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletRequestWrapper;
 import jakarta.servlet.http.HttpServletRequest;
+import java.util.Arrays;
+import java.util.Collections;
+import org.eclipse.jetty.ee10.servlet.ServletApiRequest;
+import org.eclipse.jetty.server.Context;
+import org.eclipse.jetty.server.Request;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,9 +40,23 @@ public final class TenantUtils {
   private static final Logger log = LoggerFactory.getLogger(TenantUtils.class);
   public static final String UNKNOWN_TENANT = "UNKNOWN";
 
+  /**
+   * The request attribute the tenant ID of a request is kept in once extracted, e.g. for request
+   * tags of metrics or for the request log, as {@code %{io.confluent.rest.tenant.id}attr}.
+   */
+  public static final String TENANT_ID_ATTRIBUTE = "io.confluent.rest.tenant.id";
+
   private static final String CLUSTER_PREFIX = "/kafka/v3/clusters/";
   private static final String LKC_ID_PREFIX = "lkc-";
 
+  // Extract tenants as before tenant resolvers were configurable, when none is configured.
+  private static final HostnameTenantResolver DEFAULT_HOSTNAME_RESOLVER =
+      new HostnameTenantResolver(LKC_ID_PREFIX);
+  private static final PathTenantResolver DEFAULT_PATH_RESOLVER = new PathTenantResolver(
+      Collections.singletonList("**" + CLUSTER_PREFIX + "{tenant}"), LKC_ID_PREFIX);
+  private static final TenantResolver DEFAULT_RESOLVER =
+      TenantResolver.firstOf(Arrays.asList(DEFAULT_HOSTNAME_RESOLVER, DEFAULT_PATH_RESOLVER));
+
   private TenantUtils() {}
 
   /**
@@ -46,6 +71,14 @@ public final class TenantUtils {
     if (path == null) {
       return false;
     }
+    return isHealthCheckPath(path);
+  }
+
+  /**
+   * Checks if the request path is that of a health check request, see
+   * {@link #isHealthCheckRequest(HttpServletRequest)}.
+   */
+  public static boolean isHealthCheckPath(String path) {
     // Simple health probe endpoint
     if (path.equals("/kafka/health")) {
       return true;
@@ -60,9 +93,12 @@ public final class TenantUtils {
 
   /**
    * Extracts tenant ID for request
-   * Attempts hostname extraction first (applies to V4 networking - majority case),
+   * With the tenant resolver of the application, see {@link TenantResolverFactory}, or else
+   * attempts hostname extraction first (applies to V4 networking - majority case),
    * then falls back to request path extraction (applies to V3 networking).
    *
+   * <p>The tenant ID is extracted once per request, and kept in {@link #TENANT_ID_ATTRIBUTE}.
+   *
    * @param request the HTTP request
    * @return the tenant ID, or "UNKNOWN" if extraction fails
    */
@@ -71,82 +107,61 @@ public final class TenantUtils {
       log.warn("Cannot extract tenant ID: request is null");
       return UNKNOWN_TENANT;
     }
-
-    // Try hostname extraction first (works for V4 networking and is more reliable)
-    String tenantId = extractTenantIdFromHostname(request);
-    if (!tenantId.equals(UNKNOWN_TENANT)) {
-      log.debug("Tenant extracted from hostname: tenant='{}', host='{}'",
-          tenantId, request.getServerName());
-      return tenantId;
+    Object cached = request.getAttribute(TENANT_ID_ATTRIBUTE);
+    if (cached instanceof String) {
+      return (String) cached;
     }
 
-    // Fall back to path extraction for V3 networking
-    tenantId = extractTenantIdFromPath(request);
-    if (!tenantId.equals(UNKNOWN_TENANT)) {
-      log.debug("Tenant extracted from path: tenant='{}', uri='{}'",
-          tenantId, request.getRequestURI());
-      return tenantId;
+    Request coreRequest = coreRequest(request);
+    if (coreRequest != null) {
+      return extractTenantId(coreRequest);
     }
-
-    return UNKNOWN_TENANT;
+    String tenantId = DEFAULT_HOSTNAME_RESOLVER.resolve(request.getServerName());
+    if (tenantId == null) {
+      tenantId = DEFAULT_PATH_RESOLVER.resolve(request.getRequestURI());
+    }
+    if (tenantId == null) {
+      tenantId = UNKNOWN_TENANT;
+    }
+    request.setAttribute(TENANT_ID_ATTRIBUTE, tenantId);
+    return tenantId;
   }
 
   /**
-   * Extracts tenant ID from URL path
-   * Example: /kafka/v3/clusters/lkc-devccovmzyj => lkc-devccovmzyj
+   * Extracts tenant ID for request, like {@link #extractTenantId(HttpServletRequest)}, for
+   * handlers that see the request before a servlet does.
    */
-  private static String extractTenantIdFromPath(HttpServletRequest request) {
-    String requestURI = request.getRequestURI();
-    if (requestURI == null || requestURI.isEmpty()) {
-      return UNKNOWN_TENANT;
-    }
-
-    // Find the V3 cluster prefix
-    int prefixIndex = requestURI.indexOf(CLUSTER_PREFIX);
-    if (prefixIndex == -1) {
-      return UNKNOWN_TENANT;
-    }
-
-    int startIndex = prefixIndex + CLUSTER_PREFIX.length();
-    if (startIndex >= requestURI.length() || !requestURI.startsWith(LKC_ID_PREFIX, startIndex)) {
-      return UNKNOWN_TENANT;
-    }
-
-    int endIndex = startIndex + LKC_ID_PREFIX.length();
-    while (endIndex < requestURI.length() 
-           && Character.isLetterOrDigit(requestURI.charAt(endIndex))) {
-      endIndex++;
-    }
-
-    // Validate we found at least one character after the prefix
-    if (endIndex == startIndex + LKC_ID_PREFIX.length()) {
-      return UNKNOWN_TENANT;
-    }
-
-    return requestURI.substring(startIndex, endIndex);
+  public static String extractTenantId(Request request) {
+    Context context = request.getContext();
+    Object resolver = context != null ? context.getAttribute(TenantResolver.ATTRIBUTE) : null;
+    return extractTenantId(request,
+        resolver instanceof TenantResolver ? (TenantResolver) resolver : DEFAULT_RESOLVER);
   }
 
   /**
-   * Extracts tenant ID from hostname
-   * Example: lkc-6787w2-env5qj75n.us-west-2.aws.private.glb.stag.cpdev.cloud => lkc-6787w2
+   * Extracts tenant ID for request with the given resolver, unless it was extracted already.
    */
-  private static String extractTenantIdFromHostname(HttpServletRequest request) {
-    String serverName = request.getServerName();
-    if (serverName == null || !serverName.startsWith(LKC_ID_PREFIX)) {
-      return UNKNOWN_TENANT;
+  public static String extractTenantId(Request request, TenantResolver resolver) {
+    Object cached = request.getAttribute(TENANT_ID_ATTRIBUTE);
+    if (cached instanceof String) {
+      return (String) cached;
     }
 
-    int endIndex = LKC_ID_PREFIX.length();
-    while (endIndex < serverName.length() 
-           && Character.isLetterOrDigit(serverName.charAt(endIndex))) {
-      endIndex++;
+    String tenantId = resolver.resolve(request);
+    if (tenantId == null) {
+      tenantId = UNKNOWN_TENANT;
+    } else {
+      log.debug("Tenant extracted: tenant='{}', host='{}', uri='{}'",
+          tenantId, Request.getServerName(request), request.getHttpURI());
     }
+    request.setAttribute(TENANT_ID_ATTRIBUTE, tenantId);
+    return tenantId;
+  }
 
-    // Validate we found at least one character after the prefix
-    if (endIndex == LKC_ID_PREFIX.length()) {
-      return UNKNOWN_TENANT;
+  private static Request coreRequest(ServletRequest request) {
+    while (request instanceof ServletRequestWrapper) {
+      request = ((ServletRequestWrapper) request).getRequest();
     }
-
-    return serverName.substring(0, endIndex);
+    return request instanceof ServletApiRequest ? ((ServletApiRequest) request).getRequest() : null;
   }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.utils.Time;
+import org.eclipse.jetty.util.BlockingArrayQueue;
+
+/**
+ * The job queue of the jetty thread pool, which records how long each job waited in the queue
+ * before a thread took it, and counts the jobs rejected because the queue was full. Unlike
+ * sampling the size of the queue, this does not miss short bursts.
+ *
+ * <p>Jobs are queued wrapped with the time they were queued, and unwrapped when taken, so the
+ * thread pool only ever sees the jobs it queued.
+ */
+final class TimedRequestQueue extends BlockingArrayQueue<Runnable> {
+
+  private final Time time;
+  // Every application registers its own sensors, as each has its own metrics.
+  private final Set<Sensor> waitTimeSensors = new CopyOnWriteArraySet<>();
+  private final Set<Sensor> rejectedSensors = new CopyOnWriteArraySet<>();
+
+  TimedRequestQueue(int capacity, int growBy, int maxCapacity, Time time) {
+    super(capacity, growBy, maxCapacity);
+    this.time = time;
+  }
+
+  /**
+   * @param waitTimeSensor records the time jobs waited in the queue, in milliseconds.
+   * @param rejectedSensor records each job rejected because the queue was full.
+   */
+  void addSensors(Sensor waitTimeSensor, Sensor rejectedSensor) {
+    waitTimeSensors.add(waitTimeSensor);
+    rejectedSensors.add(rejectedSensor);
+  }
+
+  @Override
+  public boolean offer(Runnable job) {
+    if (super.offer(new TimedJob(job, time.nanoseconds()))) {
+      return true;
+    }
+    for (Sensor sensor : rejectedSensors) {
+      sensor.record();
+    }
+    return false;
+  }
+
+  @Override
+  public boolean offer(Runnable job, long timeout, TimeUnit unit) throws InterruptedException {
+    return offer(job);
+  }
+
+  @Override
+  public void put(Runnable job) throws InterruptedException {
+    if (!offer(job)) {
+      throw new IllegalStateException("Queue full");
+    }
+  }
+
+  @Override
+  public Runnable poll() {
+    return taken(super.poll());
+  }
+
+  @Override
+  public Runnable poll(long time, TimeUnit unit) throws InterruptedException {
+    return taken(super.poll(time, unit));
+  }
+
+  @Override
+  public Runnable take() throws InterruptedException {
+    return taken(super.take());
+  }
+
+  @Override
+  public Runnable peek() {
+    Runnable job = super.peek();
+    return job instanceof TimedJob ? ((TimedJob) job).job : job;
+  }
+
+  private Runnable taken(Runnable job) {
+    if (!(job instanceof TimedJob)) {
+      return job;
+    }
+    TimedJob timedJob = (TimedJob) job;
+    if (!waitTimeSensors.isEmpty()) {
+      double waitTimeMs = (time.nanoseconds() - timedJob.queuedNanos)
+          / (double) TimeUnit.MILLISECONDS.toNanos(1);
+      for (Sensor sensor : waitTimeSensors) {
+        sensor.record(waitTimeMs);
+      }
+    }
+    return timedJob.job;
+  }
+
+  private static final class TimedJob implements Runnable {
+
+    private final Runnable job;
+    private final long queuedNanos;
+
+    TimedJob(Runnable job, long queuedNanos) {
+      this.job = job;
+      this.queuedNanos = queuedNanos;
+    }
+
+    @Override
+    public void run() {
+      job.run();
+    }
+
+    @Override
+    public String toString() {
+      return job.toString();
+    }
+  }
+}
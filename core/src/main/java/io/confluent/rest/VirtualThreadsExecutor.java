@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the blocking tasks of the server, i.e. request handling, each on its own virtual thread
+ * and counts how many of them are running, which is what the jetty thread pool metrics report
+ * as busy threads when virtual threads are enabled.
+ */
+final class VirtualThreadsExecutor implements Executor {
+
+  private final Executor delegate;
+  private final AtomicInteger activeTasks = new AtomicInteger();
+
+  VirtualThreadsExecutor(Executor delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    activeTasks.incrementAndGet();
+    try {
+      delegate.execute(() -> {
+        try {
+          task.run();
+        } finally {
+          activeTasks.decrementAndGet();
+        }
+      });
+    } catch (RuntimeException e) {
+      activeTasks.decrementAndGet();
+      throw e;
+    }
+  }
+
+  /**
+   * @return the number of tasks submitted and not yet completed.
+   */
+  int getActiveTasks() {
+    return activeTasks.get();
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.entities;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.confluent.rest.exceptions.RestException;
+import io.confluent.rest.exceptions.RestTimeoutException;
+import jakarta.ws.rs.core.Response;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A request entity that is a JSON array, read one element at a time as the resource method
+ * iterates over it, rather than all at once before the resource method is invoked. Large batches
+ * can then be processed with memory for one element at a time, e.g.
+ * <pre>
+ * &#64;POST
+ * public void produce(JsonArrayStream&lt;ProduceRecord&gt; records) {
+ *   while (records.hasNext()) {
+ *     send(records.next());
+ *   }
+ * }
+ * </pre>
+ *
+ * <p>Invalid elements make {@link #hasNext()} or {@link #next()} throw a {@link RestException}
+ * with status 400, so that they are responded to like invalid entities read at once. The elements
+ * are not validated by bean validation. The stream can only be read while the request is handled.
+ */
+public final class JsonArrayStream<T> implements Iterator<T>, Closeable {
+
+  private final JsonParser parser;
+  private final ObjectReader reader;
+  // The token the next element starts at, once read by hasNext().
+  private JsonToken nextToken;
+  private boolean ended;
+
+  /**
+   * @param parser the parser of the entity, at the start of the array.
+   * @param reader the reader of the elements.
+   */
+  public JsonArrayStream(JsonParser parser, ObjectReader reader) {
+    this.parser = parser;
+    this.reader = reader;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (ended) {
+      return false;
+    }
+    if (nextToken == null) {
+      try {
+        nextToken = parser.nextToken();
+      } catch (IOException e) {
+        throw failure(e);
+      }
+      if (nextToken == null) {
+        throw new RestException("Unexpected end of the JSON array",
+            Response.Status.BAD_REQUEST.getStatusCode(),
+            Response.Status.BAD_REQUEST.getStatusCode());
+      }
+      if (nextToken == JsonToken.END_ARRAY) {
+        ended = true;
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    nextToken = null;
+    try {
+      return reader.readValue(parser);
+    } catch (IOException e) {
+      throw failure(e);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    ended = true;
+    parser.close();
+  }
+
+  private static RuntimeException failure(IOException e) {
+    // Exceptions of the entity stream, e.g. when the entity is too large, may come wrapped.
+    if (e.getCause() instanceof RestException) {
+      return (RestException) e.getCause();
+    }
+    if (e.getCause() instanceof TimeoutException) {
+      return new RestTimeoutException("Timeout while reading from inputStream",
+          RestTimeoutException.DEFAULT_ERROR_CODE, RestTimeoutException.DEFAULT_ERROR_CODE, e);
+    }
+    if (e instanceof JsonProcessingException) {
+      return new RestException(((JsonProcessingException) e).getOriginalMessage(),
+          Response.Status.BAD_REQUEST.getStatusCode(),
+          Response.Status.BAD_REQUEST.getStatusCode(), e);
+    }
+    return new UncheckedIOException(e);
+  }
+}
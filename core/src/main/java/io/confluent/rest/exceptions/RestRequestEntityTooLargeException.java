@@ -0,0 +1,29 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.exceptions;
+
+import jakarta.ws.rs.core.Response;
+
+public class RestRequestEntityTooLargeException extends RestException {
+
+  public static final int DEFAULT_ERROR_CODE =
+      Response.Status.REQUEST_ENTITY_TOO_LARGE.getStatusCode();
+
+  public RestRequestEntityTooLargeException(String message, int errorCode) {
+    super(message, Response.Status.REQUEST_ENTITY_TOO_LARGE.getStatusCode(), errorCode);
+  }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.filters;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A limit on the number of requests in flight that adapts to the latency of the requests it
+ * lets through: it grows while latency stays flat and shrinks as soon as requests start to
+ * queue up somewhere downstream, so excess load is rejected instead of waiting.
+ *
+ * <p>Admission is lock-free. Updating the limit after a request completes is synchronized, as
+ * the algorithms keep several related running values.
+ */
+public abstract class AdaptiveConcurrencyLimit {
+
+  public enum Algorithm {
+    /**
+     * Estimates the number of queued requests from how far the latency is above the lowest
+     * latency seen, and keeps it between a small lower and upper bound. Reacts quickly, but
+     * relies on the lowest latency being representative of an idle server.
+     */
+    VEGAS,
+    /**
+     * Compares the latency of each request to a long-term average and shrinks the limit by
+     * their ratio. Tolerates latencies that drift over time.
+     */
+    GRADIENT
+  }
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private volatile int limit;
+  private double estimatedLimit;
+
+  AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+    if (minLimit < 1 || maxLimit < minLimit) {
+      throw new IllegalArgumentException(
+          "Invalid concurrency limit bounds [" + minLimit + ", " + maxLimit + "]");
+    }
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    this.limit = (int) estimatedLimit;
+  }
+
+  public static AdaptiveConcurrencyLimit create(
+      Algorithm algorithm, int initialLimit, int minLimit, int maxLimit) {
+    switch (algorithm) {
+      case VEGAS:
+        return new VegasLimit(initialLimit, minLimit, maxLimit);
+      case GRADIENT:
+        return new GradientLimit(initialLimit, minLimit, maxLimit);
+      default:
+        throw new AssertionError("Unknown enum constant: " + algorithm);
+    }
+  }
+
+  public int getLimit() {
+    return limit;
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  /**
+   * Admits a request if fewer requests than the limit are in flight. Every admitted request must
+   * be followed by exactly one call to {@link #onSample} or {@link #onIgnore}.
+   *
+   * @return the number of requests in flight including this one, or 0 if it was not admitted
+   */
+  public int tryAcquire() {
+    while (true) {
+      int current = inFlight.get();
+      if (current >= limit) {
+        return 0;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return current + 1;
+      }
+    }
+  }
+
+  /**
+   * Completes an admitted request and updates the limit with its latency.
+   *
+   * @param latencyNanos how long the request took
+   * @param inFlight the number of requests in flight when it was admitted
+   * @param dropped whether the request failed because the server was overloaded
+   */
+  public void onSample(long latencyNanos, int inFlight, boolean dropped) {
+    this.inFlight.decrementAndGet();
+    if (latencyNanos <= 0) {
+      return;
+    }
+    synchronized (this) {
+      double updated = update(estimatedLimit, latencyNanos, inFlight, dropped);
+      estimatedLimit = Math.max(minLimit, Math.min(maxLimit, updated));
+      limit = (int) estimatedLimit;
+    }
+  }
+
+  /**
+   * Completes an admitted request without updating the limit, e.g. because it failed for a
+   * reason that says nothing about the load of the server.
+   */
+  public void onIgnore() {
+    inFlight.decrementAndGet();
+  }
+
+  /**
+   * Returns the new limit given the latency of a completed request. Called with the lock held.
+   */
+  abstract double update(double limit, long latencyNanos, int inFlight, boolean dropped);
+
+  @VisibleForTesting
+  static final class VegasLimit extends AdaptiveConcurrencyLimit {
+
+    // Re-measure the no-load latency after this many times the limit of samples, in case it
+    // went up permanently, e.g. after a deployment.
+    private static final int PROBE_MULTIPLIER = 30;
+
+    private long noLoadLatencyNanos;
+    private long samplesSinceProbe;
+
+    VegasLimit(int initialLimit, int minLimit, int maxLimit) {
+      super(initialLimit, minLimit, maxLimit);
+    }
+
+    @Override
+    double update(double limit, long latencyNanos, int inFlight, boolean dropped) {
+      if (++samplesSinceProbe >= PROBE_MULTIPLIER * (long) limit) {
+        samplesSinceProbe = 0;
+        noLoadLatencyNanos = latencyNanos;
+        return limit;
+      }
+      if (noLoadLatencyNanos == 0 || latencyNanos < noLoadLatencyNanos) {
+        noLoadLatencyNanos = latencyNanos;
+        return limit;
+      }
+
+      double step = Math.max(1, Math.log10(limit));
+      if (dropped) {
+        return limit - step;
+      }
+      // The limit is not what holds requests back, so latency says nothing about it.
+      if (inFlight * 2 < limit) {
+        return limit;
+      }
+      double queueSize = Math.ceil(limit * (1 - noLoadLatencyNanos / (double) latencyNanos));
+      if (queueSize <= step) {
+        return limit + 6 * step;
+      } else if (queueSize < 3 * step) {
+        return limit + step;
+      } else if (queueSize > 6 * step) {
+        return limit - step;
+      }
+      return limit;
+    }
+  }
+
+  @VisibleForTesting
+  static final class GradientLimit extends AdaptiveConcurrencyLimit {
+
+    private static final int LONG_WINDOW = 600;
+    private static final int WARMUP_SAMPLES = 10;
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+
+    private double longLatencyNanos;
+    private long samples;
+
+    GradientLimit(int initialLimit, int minLimit, int maxLimit) {
+      super(initialLimit, minLimit, maxLimit);
+    }
+
+    @Override
+    double update(double limit, long latencyNanos, int inFlight, boolean dropped) {
+      // Average the first samples evenly, then exponentially over the long window.
+      samples++;
+      if (samples <= WARMUP_SAMPLES) {
+        longLatencyNanos += (latencyNanos - longLatencyNanos) / samples;
+      } else {
+        longLatencyNanos += (latencyNanos - longLatencyNanos) * 2 / (LONG_WINDOW + 1);
+      }
+      // After a sustained latency increase the long-term average lags behind. Let it catch up
+      // once latency recovers so the limit does not overshoot.
+      if (longLatencyNanos / latencyNanos > 2) {
+        longLatencyNanos *= 0.95;
+      }
+      if (!dropped && inFlight * 2 < limit) {
+        return limit;
+      }
+
+      double gradient = dropped
+          ? 0.5 : Math.max(0.5, Math.min(1.0, TOLERANCE * longLatencyNanos / latencyNanos));
+      double newLimit = limit * gradient + Math.sqrt(limit);
+      return limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+    }
+  }
+}
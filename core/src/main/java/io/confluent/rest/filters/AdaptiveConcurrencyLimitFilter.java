@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.filters;
+
+import static io.confluent.rest.metrics.JettyMetricsUtil.GROUP_NAME;
+import static io.confluent.rest.metrics.JettyMetricsUtil.SENSOR_EXPIRY_SECONDS;
+import static io.confluent.rest.metrics.JettyMetricsUtil.addGauge;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.metrics.Sensor.RecordingLevel;
+import org.apache.kafka.common.metrics.stats.CumulativeCount;
+import org.apache.kafka.common.metrics.stats.Rate;
+import org.apache.kafka.common.utils.Time;
+
+/**
+ * Rejects requests once more of them are in flight than an {@link AdaptiveConcurrencyLimit}
+ * allows, and feeds the latency of the requests it lets through back into the limit.
+ *
+ * <p>Responses with a 503 or 504 status count as dropped, i.e. as a sign of overload further
+ * down. Requests that fail with an exception complete without updating the limit.
+ */
+public class AdaptiveConcurrencyLimitFilter implements Filter {
+
+  private final AdaptiveConcurrencyLimit limit;
+  private final Time time;
+  private final int rejectionStatus;
+  private Sensor rejectedSensor = null;
+
+  public AdaptiveConcurrencyLimitFilter(AdaptiveConcurrencyLimit limit, Time time,
+      int rejectionStatus, Metrics metrics, Map<String, String> metricTags) {
+    this.limit = limit;
+    this.time = time;
+    this.rejectionStatus = rejectionStatus;
+    if (metrics != null) {
+      SortedMap<String, String> tags = new TreeMap<>(metricTags);
+      addGauge(metrics, metrics.metricName("adaptive-concurrency-limit", GROUP_NAME,
+              "The current number of requests allowed in flight by the adaptive concurrency "
+                  + "limit.", tags),
+          (config, now) -> limit.getLimit());
+      addGauge(metrics, metrics.metricName("adaptive-concurrency-in-flight", GROUP_NAME,
+              "The number of requests in flight admitted by the adaptive concurrency limit.",
+              tags),
+          (config, now) -> limit.getInFlight());
+
+      String sensorName = GROUP_NAME + ":adaptive-concurrency-rejected:" + tags.values();
+      rejectedSensor = metrics.sensor(sensorName,
+          null, SENSOR_EXPIRY_SECONDS, RecordingLevel.INFO, (Sensor[]) null);
+      rejectedSensor.add(metrics.metricName("adaptive-concurrency-rejected-rate", GROUP_NAME,
+          "The average number of requests per second rejected by the adaptive concurrency limit.",
+          tags), new Rate());
+      rejectedSensor.add(metrics.metricName("adaptive-concurrency-rejected-total", GROUP_NAME,
+          "A cumulative count of requests rejected by the adaptive concurrency limit.",
+          tags), new CumulativeCount());
+    }
+  }
+
+  @Override
+  public void init(final FilterConfig filterConfig) throws ServletException {
+    // do nothing
+  }
+
+  @Override
+  public void doFilter(final ServletRequest request, final ServletResponse response,
+      final FilterChain chain)
+      throws IOException, ServletException {
+    int inFlight = limit.tryAcquire();
+    if (inFlight == 0) {
+      if (rejectedSensor != null) {
+        rejectedSensor.record();
+      }
+      ((HttpServletResponse) response).sendError(rejectionStatus);
+      return;
+    }
+
+    long startNanos = time.nanoseconds();
+    boolean completed = false;
+    try {
+      chain.doFilter(request, response);
+      completed = true;
+    } finally {
+      if (!completed) {
+        limit.onIgnore();
+      } else if (request.isAsyncStarted()) {
+        request.getAsyncContext().addListener(new SampleOnComplete(startNanos, inFlight));
+      } else {
+        limit.onSample(time.nanoseconds() - startNanos, inFlight, isDropped(response));
+      }
+    }
+  }
+
+  private static boolean isDropped(ServletResponse response) {
+    int status = ((HttpServletResponse) response).getStatus();
+    return status == HttpServletResponse.SC_SERVICE_UNAVAILABLE
+        || status == HttpServletResponse.SC_GATEWAY_TIMEOUT;
+  }
+
+  @Override
+  public void destroy() {
+    // do nothing
+  }
+
+  private final class SampleOnComplete implements AsyncListener {
+
+    private final long startNanos;
+    private final int inFlight;
+    private boolean timedOut;
+
+    SampleOnComplete(long startNanos, int inFlight) {
+      this.startNanos = startNanos;
+      this.inFlight = inFlight;
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      limit.onSample(time.nanoseconds() - startNanos, inFlight,
+          timedOut || isDropped(event.getSuppliedResponse()));
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      timedOut = true;
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      // onComplete follows
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      // keep listening if the request is suspended again
+      event.getAsyncContext().addListener(this);
+    }
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.handlers;
+
+import static io.confluent.rest.metrics.JettyMetricsUtil.GROUP_NAME;
+import static io.confluent.rest.metrics.JettyMetricsUtil.SENSOR_EXPIRY_SECONDS;
+import static io.confluent.rest.metrics.JettyMetricsUtil.addGauge;
+
+import io.confluent.rest.TenantUtils;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.metrics.Sensor.RecordingLevel;
+import org.apache.kafka.common.metrics.stats.CumulativeCount;
+import org.apache.kafka.common.metrics.stats.Rate;
+import org.apache.kafka.common.utils.Time;
+import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.Request;
+
+/**
+ * A {@link SchedulingHandler} that queues the requests over the limit by {@link Priority}, so
+ * that latency-critical requests, e.g. health checks, are handled before the backlog of bulk
+ * requests when the server is overloaded. Requests that find {@code maxQueuedRequests} requests
+ * already waiting are rejected.
+ *
+ * <p>To keep low priority requests from starving, a request moves up one priority for every
+ * {@code starvationMs} it has waited, so a request waits at most about {@code starvationMs}
+ * longer than requests of the priority above it. 0 disables this.
+ */
+public class PriorityRequestHandler
+    extends SchedulingHandler<PriorityRequestHandler.Priority> {
+
+  /**
+   * The priorities of requests, from the highest.
+   */
+  public enum Priority {
+    HIGH, NORMAL, LOW;
+
+    private static final Priority[] VALUES = values();
+  }
+
+  private final Function<Request, Priority> classifier;
+  private final int maxQueuedRequests;
+  private final long starvationNanos;
+  private Sensor rejectedSensor = null;
+
+  // Guarded by this.
+  private final List<ArrayDeque<Entry<Priority>>> queues;
+  private int queuedRequests;
+
+  public PriorityRequestHandler(Function<Request, Priority> classifier,
+      int maxConcurrentRequests, int maxQueuedRequests, long maxWaitMs, long starvationMs,
+      Time time, Metrics metrics, Map<String, String> metricTags) {
+    super(maxConcurrentRequests, maxWaitMs, time);
+    this.classifier = classifier;
+    this.maxQueuedRequests = maxQueuedRequests;
+    this.starvationNanos = TimeUnit.MILLISECONDS.toNanos(starvationMs);
+    this.queues = new ArrayList<>(Priority.VALUES.length);
+    for (int i = 0; i < Priority.VALUES.length; i++) {
+      queues.add(new ArrayDeque<>());
+    }
+
+    if (metrics != null) {
+      SortedMap<String, String> tags = new TreeMap<>(metricTags);
+      addGauge(metrics, metrics.metricName("priority-active-requests", GROUP_NAME,
+              "The number of requests being handled, as limited by request priority scheduling.",
+              tags),
+          (config, now) -> getActiveRequests());
+      for (Priority priority : Priority.VALUES) {
+        SortedMap<String, String> priorityTags = new TreeMap<>(tags);
+        priorityTags.put("priority", priority.name().toLowerCase(Locale.ROOT));
+        addGauge(metrics, metrics.metricName("priority-queued-requests", GROUP_NAME,
+                "The number of requests of the priority waiting to be handled.", priorityTags),
+            (config, now) -> getQueuedRequests(priority));
+      }
+
+      String sensorName = GROUP_NAME + ":priority-rejected:" + tags.values();
+      rejectedSensor = metrics.sensor(sensorName,
+          null, SENSOR_EXPIRY_SECONDS, RecordingLevel.INFO, (Sensor[]) null);
+      rejectedSensor.add(metrics.metricName("priority-rejected-rate", GROUP_NAME,
+          "The average number of requests per second rejected because too many requests were "
+              + "waiting, or they waited too long, to be handled.", tags), new Rate());
+      rejectedSensor.add(metrics.metricName("priority-rejected-total", GROUP_NAME,
+          "A cumulative count of requests rejected because too many requests were waiting, or "
+              + "they waited too long, to be handled.", tags), new CumulativeCount());
+    }
+  }
+
+  /**
+   * Gives health checks, as told by {@link TenantUtils#isHealthCheckPath(String)}, and requests
+   * to the {@code highPathPrefixes} or through the {@code highListeners} the high priority,
+   * requests to the {@code lowPathPrefixes} or through the {@code lowListeners} the low priority,
+   * and all other requests the normal priority. High priority rules are checked first.
+   */
+  public static Function<Request, Priority> pathAndListenerClassifier(
+      List<String> highPathPrefixes, List<String> lowPathPrefixes,
+      List<String> highListeners, List<String> lowListeners) {
+    Map<String, Priority> listenerPriorities = new HashMap<>();
+    for (String listener : lowListeners) {
+      listenerPriorities.put(listener, Priority.LOW);
+    }
+    for (String listener : highListeners) {
+      listenerPriorities.put(listener, Priority.HIGH);
+    }
+    String[] highPrefixes = highPathPrefixes.toArray(new String[0]);
+    String[] lowPrefixes = lowPathPrefixes.toArray(new String[0]);
+
+    return request -> {
+      String path = request.getHttpURI().getPath();
+      if (path != null) {
+        if (TenantUtils.isHealthCheckPath(path) || startsWithAny(path, highPrefixes)) {
+          return Priority.HIGH;
+        }
+      }
+      Connector connector = request.getConnectionMetaData().getConnector();
+      Priority listenerPriority =
+          connector != null ? listenerPriorities.get(connector.getName()) : null;
+      if (listenerPriority == Priority.HIGH) {
+        return Priority.HIGH;
+      }
+      if (path != null && startsWithAny(path, lowPrefixes)) {
+        return Priority.LOW;
+      }
+      return listenerPriority != null ? listenerPriority : Priority.NORMAL;
+    };
+  }
+
+  private static boolean startsWithAny(String path, String[] prefixes) {
+    for (String prefix : prefixes) {
+      if (path.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  protected Priority classify(Request request) {
+    return classifier.apply(request);
+  }
+
+  @Override
+  protected boolean offer(Entry<Priority> entry) {
+    if (queuedRequests >= maxQueuedRequests) {
+      return false;
+    }
+    queues.get(entry.key().ordinal()).addLast(entry);
+    queuedRequests++;
+    return true;
+  }
+
+  /**
+   * Takes the head of the queue with the highest priority, once the priorities are raised by how
+   * long the requests waited.
+   */
+  @Override
+  protected Entry<Priority> poll(long nowNanos) {
+    if (queuedRequests == 0) {
+      return null;
+    }
+    ArrayDeque<Entry<Priority>> next = null;
+    long nextPriority = Long.MAX_VALUE;
+    for (int i = 0; i < queues.size(); i++) {
+      Entry<Priority> head = queues.get(i).peekFirst();
+      if (head == null) {
+        continue;
+      }
+      long priority = starvationNanos > 0
+          ? i - (nowNanos - head.queuedNanos()) / starvationNanos : i;
+      if (priority < nextPriority) {
+        next = queues.get(i);
+        nextPriority = priority;
+      }
+    }
+    queuedRequests--;
+    return next.pollFirst();
+  }
+
+  @Override
+  protected boolean remove(Entry<Priority> entry) {
+    if (!queues.get(entry.key().ordinal()).remove(entry)) {
+      return false;
+    }
+    queuedRequests--;
+    return true;
+  }
+
+  @Override
+  protected void onRejected(Priority priority) {
+    if (rejectedSensor != null) {
+      rejectedSensor.record();
+    }
+  }
+
+  synchronized int getQueuedRequests(Priority priority) {
+    return queues.get(priority.ordinal()).size();
+  }
+}
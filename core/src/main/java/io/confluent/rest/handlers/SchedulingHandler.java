@@ -0,0 +1,226 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.handlers;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.utils.Time;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.util.Callback;
+import org.eclipse.jetty.util.thread.Scheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Limits the number of requests handled at once, and suspends the requests over the limit until
+ * the subclass picks them to be handled next. Each request is classified with a key, e.g. its
+ * priority or tenant, that the subclass queues it by.
+ *
+ * <p>Suspended requests do not hold a thread, so as long as the limit is below the size of the
+ * thread pool, there are threads left to read and classify new requests while the server is
+ * saturated. Requests that are not handled within {@code maxWaitMs}, or that the subclass has no
+ * room to queue, are rejected with a 503.
+ *
+ * <p>The queueing methods are called with the lock on this handler held.
+ *
+ * @param <K> the type of the keys requests are queued by
+ */
+public abstract class SchedulingHandler<K> extends Handler.Wrapper {
+
+  private static final Logger log = LoggerFactory.getLogger(SchedulingHandler.class);
+
+  private final int maxConcurrentRequests;
+  private final long maxWaitMs;
+  protected final Time time;
+
+  // Guarded by this.
+  private int activeRequests;
+
+  protected SchedulingHandler(int maxConcurrentRequests, long maxWaitMs, Time time) {
+    this.maxConcurrentRequests = maxConcurrentRequests;
+    this.maxWaitMs = maxWaitMs;
+    this.time = time;
+  }
+
+  /**
+   * @return the key to queue the request by, or null to handle the request right away, without
+   *     counting it towards the limit.
+   */
+  protected abstract K classify(Request request);
+
+  /**
+   * Queues a request until it is picked by {@link #poll}.
+   *
+   * @return whether the request was queued, or has to be rejected.
+   */
+  protected abstract boolean offer(Entry<K> entry);
+
+  /**
+   * Takes the request to handle next.
+   *
+   * @return the request, or null if none are queued.
+   */
+  protected abstract Entry<K> poll(long nowNanos);
+
+  /**
+   * Removes a request that waited too long.
+   *
+   * @return whether the request was still queued.
+   */
+  protected abstract boolean remove(Entry<K> entry);
+
+  /**
+   * Called when a request is rejected, without the lock held.
+   */
+  protected void onRejected(K key) {
+  }
+
+  @Override
+  public boolean handle(Request request, Response response, Callback callback) throws Exception {
+    K key = classify(request);
+    if (key == null) {
+      return super.handle(request, response, callback);
+    }
+
+    Entry<K> entry = null;
+    boolean queued = false;
+    synchronized (this) {
+      if (activeRequests < maxConcurrentRequests) {
+        activeRequests++;
+      } else {
+        entry = new Entry<>(request, response, callback, key, time.nanoseconds());
+        queued = offer(entry);
+      }
+    }
+
+    if (entry == null) {
+      return handleWithPermit(request, response, callback);
+    }
+    if (!queued) {
+      reject(request, response, callback, key);
+      return true;
+    }
+    Entry<K> suspended = entry;
+    try {
+      entry.timeout = request.getComponents().getScheduler()
+          .schedule(() -> expire(suspended), maxWaitMs, TimeUnit.MILLISECONDS);
+    } catch (RuntimeException e) {
+      // The scheduler rejects tasks while the server is shutting down, in which case the
+      // request is only failed once a permit frees up.
+      log.warn("Could not schedule the wait timeout of {}", request.getHttpURI(), e);
+    }
+    return true;
+  }
+
+  private boolean handleWithPermit(Request request, Response response, Callback callback)
+      throws Exception {
+    Callback releasing = Callback.from(callback, this::release);
+    boolean handled = false;
+    try {
+      handled = super.handle(request, response, releasing);
+      return handled;
+    } finally {
+      if (!handled) {
+        release();
+      }
+    }
+  }
+
+  private void resume(Entry<K> entry) {
+    if (entry.timeout != null) {
+      entry.timeout.cancel();
+    }
+    try {
+      if (!handleWithPermit(entry.request, entry.response, entry.callback)) {
+        Response.writeError(entry.request, entry.response, entry.callback,
+            HttpStatus.NOT_FOUND_404);
+      }
+    } catch (Throwable x) {
+      entry.callback.failed(x);
+    }
+  }
+
+  /**
+   * Hands the permit of a completed request to the next request to handle, if any.
+   */
+  private void release() {
+    Entry<K> next;
+    synchronized (this) {
+      next = poll(time.nanoseconds());
+      if (next == null) {
+        activeRequests--;
+      }
+    }
+    if (next != null) {
+      next.request.getContext().execute(() -> resume(next));
+    }
+  }
+
+  private void expire(Entry<K> entry) {
+    synchronized (this) {
+      if (!remove(entry)) {
+        // already handled
+        return;
+      }
+    }
+    reject(entry.request, entry.response, entry.callback, entry.key);
+  }
+
+  private void reject(Request request, Response response, Callback callback, K key) {
+    onRejected(key);
+    Response.writeError(request, response, callback, HttpStatus.SERVICE_UNAVAILABLE_503);
+  }
+
+  synchronized int getActiveRequests() {
+    return activeRequests;
+  }
+
+  /**
+   * A suspended request.
+   */
+  protected static final class Entry<K> {
+
+    private final Request request;
+    private final Response response;
+    private final Callback callback;
+    private final K key;
+    private final long queuedNanos;
+    private volatile Scheduler.Task timeout;
+
+    private Entry(Request request, Response response, Callback callback, K key,
+        long queuedNanos) {
+      this.request = request;
+      this.response = response;
+      this.callback = callback;
+      this.key = key;
+      this.queuedNanos = queuedNanos;
+    }
+
+    public K key() {
+      return key;
+    }
+
+    /**
+     * @return when the request was queued, from {@link Time#nanoseconds()}.
+     */
+    public long queuedNanos() {
+      return queuedNanos;
+    }
+  }
+}
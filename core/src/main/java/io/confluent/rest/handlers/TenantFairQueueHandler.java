@@ -0,0 +1,355 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.handlers;
+
+import static io.confluent.rest.metrics.JettyMetricsUtil.GROUP_NAME;
+import static io.confluent.rest.metrics.JettyMetricsUtil.SENSOR_EXPIRY_SECONDS;
+import static io.confluent.rest.metrics.JettyMetricsUtil.addGauge;
+
+import io.confluent.rest.TenantUtils;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.kafka.common.metrics.MetricConfig;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.metrics.Sensor.RecordingLevel;
+import org.apache.kafka.common.metrics.stats.Avg;
+import org.apache.kafka.common.metrics.stats.CumulativeCount;
+import org.apache.kafka.common.metrics.stats.Max;
+import org.apache.kafka.common.metrics.stats.Rate;
+import org.apache.kafka.common.metrics.stats.Value;
+import org.apache.kafka.common.utils.Time;
+import org.eclipse.jetty.server.Request;
+
+/**
+ * A {@link SchedulingHandler} that queues the requests over the limit by tenant, and serves the
+ * queues by deficit round robin: each tenant with requests waiting in turn gets to have as many
+ * of them handled as its weight, 1 unless configured otherwise. So when the server is saturated,
+ * each tenant gets its share of the requests handled instead of whoever sends the most.
+ *
+ * <p>Requests that find {@code maxQueuedRequests} requests waiting in all, or
+ * {@code maxQueuedRequestsPerTenant} requests of their tenant already waiting, are rejected.
+ * Health checks are handled right away. Requests whose tenant is not known share the queue of
+ * {@link TenantUtils#UNKNOWN_TENANT}.
+ *
+ * <p>Tenants are typically told by the client, so the number of tenants with metrics of their
+ * own is bounded by {@code maxMetricsTenants}. The requests of other tenants are recorded with
+ * the {@link #OVERFLOW_TENANT} tag, until tenants that have been idle for a whole metrics sample
+ * window make room.
+ */
+public class TenantFairQueueHandler extends SchedulingHandler<String> {
+
+  // The tenant tag of the metrics of tenants that did not fit in the cap.
+  public static final String OVERFLOW_TENANT = "overflow";
+
+  private final Function<Request, String> tenantExtractor;
+  private final int maxQueuedRequests;
+  private final int maxQueuedRequestsPerTenant;
+  private final Map<String, Integer> tenantWeights;
+  private final int maxMetricsTenants;
+  private final Metrics metrics;
+  private final SortedMap<String, String> metricTags;
+  private Sensor rejectedSensor = null;
+
+  // The tenants with metrics of their own. Registered as requests arrive, without the lock on
+  // this handler held, and evicted under the lock on the map.
+  private final Map<String, TenantMetrics> tenantMetrics = new ConcurrentHashMap<>();
+  private final TenantMetrics overflowMetrics;
+  private volatile long lastEvictionNanos;
+
+  // Guarded by this.
+  private final Map<String, TenantQueue> tenantQueues = new HashMap<>();
+  // The tenants with requests waiting, in the order they are served.
+  private final ArrayDeque<TenantQueue> activeTenants = new ArrayDeque<>();
+  private int queuedRequests;
+
+  public TenantFairQueueHandler(Function<Request, String> tenantExtractor,
+      int maxConcurrentRequests, int maxQueuedRequests, int maxQueuedRequestsPerTenant,
+      long maxWaitMs, Map<String, Integer> tenantWeights, int maxMetricsTenants, Time time,
+      Metrics metrics, Map<String, String> metricTags) {
+    super(maxConcurrentRequests, maxWaitMs, time);
+    this.tenantExtractor = tenantExtractor;
+    this.maxQueuedRequests = maxQueuedRequests;
+    this.maxQueuedRequestsPerTenant = maxQueuedRequestsPerTenant;
+    this.tenantWeights = new HashMap<>(tenantWeights);
+    this.maxMetricsTenants = maxMetricsTenants;
+    this.metrics = metrics;
+    this.metricTags = new TreeMap<>(metricTags);
+    this.lastEvictionNanos = time.nanoseconds();
+
+    if (metrics != null) {
+      addGauge(metrics, metrics.metricName("fair-queue-active-requests", GROUP_NAME,
+              "The number of requests being handled, as limited by tenant fair queuing.",
+              this.metricTags),
+          (config, now) -> getActiveRequests());
+      addGauge(metrics, metrics.metricName("fair-queue-queued-requests", GROUP_NAME,
+              "The number of requests of all tenants waiting to be handled.", this.metricTags),
+          (config, now) -> getQueuedRequests());
+      addGauge(metrics, metrics.metricName("fair-queue-queued-tenants", GROUP_NAME,
+              "The number of tenants with requests waiting to be handled.", this.metricTags),
+          (config, now) -> getQueuedTenants());
+      addGauge(metrics, metrics.metricName("fair-queue-metrics-tenants", GROUP_NAME,
+              "The number of tenants with fair queue metrics of their own.", this.metricTags),
+          (config, now) -> tenantMetrics.size());
+
+      String sensorName = GROUP_NAME + ":fair-queue-rejected:" + this.metricTags.values();
+      rejectedSensor = metrics.sensor(sensorName,
+          null, SENSOR_EXPIRY_SECONDS, RecordingLevel.INFO, (Sensor[]) null);
+      rejectedSensor.add(metrics.metricName("fair-queue-rejected-rate", GROUP_NAME,
+          "The average number of requests per second rejected because too many requests were "
+              + "waiting, or they waited too long, to be handled.",
+          this.metricTags), new Rate());
+      rejectedSensor.add(metrics.metricName("fair-queue-rejected-total", GROUP_NAME,
+          "A cumulative count of requests rejected because too many requests were waiting, or "
+              + "they waited too long, to be handled.", this.metricTags),
+          new CumulativeCount());
+      overflowMetrics = new TenantMetrics(OVERFLOW_TENANT);
+    } else {
+      overflowMetrics = null;
+    }
+  }
+
+  @Override
+  protected String classify(Request request) {
+    String path = request.getHttpURI().getPath();
+    if (path != null && TenantUtils.isHealthCheckPath(path)) {
+      return null;
+    }
+    String tenant = tenantExtractor.apply(request);
+    if (metrics != null) {
+      tenantMetrics(tenant).lastSeenNanos = time.nanoseconds();
+    }
+    return tenant;
+  }
+
+  /**
+   * Gets the metrics of the tenant, registering them if there is room for another tenant.
+   */
+  private TenantMetrics tenantMetrics(String tenant) {
+    TenantMetrics existing = tenantMetrics.get(tenant);
+    if (existing != null) {
+      return existing;
+    }
+    if (OVERFLOW_TENANT.equals(tenant)) {
+      return overflowMetrics;
+    }
+    long now = time.nanoseconds();
+    // Only look for idle tenants to evict once per sample window, so that a flood of new
+    // tenants neither scans the tenants nor contends on the lock for each request.
+    if (tenantMetrics.size() >= maxMetricsTenants && now - lastEvictionNanos < idleNanos()) {
+      return overflowMetrics;
+    }
+    synchronized (tenantMetrics) {
+      existing = tenantMetrics.get(tenant);
+      if (existing != null) {
+        return existing;
+      }
+      if (tenantMetrics.size() >= maxMetricsTenants) {
+        evictIdleTenantMetrics(now);
+        if (tenantMetrics.size() >= maxMetricsTenants) {
+          return overflowMetrics;
+        }
+      }
+      TenantMetrics added = new TenantMetrics(tenant);
+      tenantMetrics.put(tenant, added);
+      return added;
+    }
+  }
+
+  private void evictIdleTenantMetrics(long now) {
+    if (now - lastEvictionNanos < idleNanos()) {
+      return;
+    }
+    lastEvictionNanos = now;
+    Iterator<TenantMetrics> iterator = tenantMetrics.values().iterator();
+    while (iterator.hasNext()) {
+      TenantMetrics idle = iterator.next();
+      if (now - idle.lastSeenNanos >= idleNanos()) {
+        iterator.remove();
+        idle.remove();
+      }
+    }
+  }
+
+  /**
+   * @return how long a tenant has to be idle for its windowed metrics to be empty anyway.
+   */
+  private long idleNanos() {
+    MetricConfig config = metrics.config();
+    return TimeUnit.MILLISECONDS.toNanos(config.timeWindowMs() * config.samples());
+  }
+
+  @Override
+  protected boolean offer(Entry<String> entry) {
+    if (queuedRequests >= maxQueuedRequests) {
+      return false;
+    }
+    TenantQueue tenantQueue = tenantQueues.get(entry.key());
+    if (tenantQueue == null) {
+      tenantQueue = new TenantQueue(entry.key());
+      tenantQueues.put(entry.key(), tenantQueue);
+      activeTenants.addLast(tenantQueue);
+    } else if (tenantQueue.entries.size() >= maxQueuedRequestsPerTenant) {
+      return false;
+    }
+    tenantQueue.entries.addLast(entry);
+    queuedRequests++;
+    tenantQueue.recordDepth();
+    return true;
+  }
+
+  /**
+   * Takes the next request of the tenant at the head of the round, which stays there until it
+   * used up its weight or has no more requests waiting.
+   */
+  @Override
+  protected Entry<String> poll(long nowNanos) {
+    TenantQueue tenantQueue = activeTenants.peekFirst();
+    if (tenantQueue == null) {
+      return null;
+    }
+    if (tenantQueue.deficit <= 0) {
+      tenantQueue.deficit += tenantQueue.weight;
+    }
+    Entry<String> entry = tenantQueue.entries.pollFirst();
+    tenantQueue.deficit--;
+    queuedRequests--;
+    if (tenantQueue.entries.isEmpty()) {
+      activeTenants.pollFirst();
+      tenantQueues.remove(tenantQueue.tenant);
+    } else if (tenantQueue.deficit <= 0) {
+      activeTenants.addLast(activeTenants.pollFirst());
+    }
+    tenantQueue.recordDepth();
+    tenantQueue.recordWaitTime(nowNanos - entry.queuedNanos());
+    return entry;
+  }
+
+  @Override
+  protected boolean remove(Entry<String> entry) {
+    TenantQueue tenantQueue = tenantQueues.get(entry.key());
+    if (tenantQueue == null || !tenantQueue.entries.remove(entry)) {
+      return false;
+    }
+    queuedRequests--;
+    if (tenantQueue.entries.isEmpty()) {
+      activeTenants.remove(tenantQueue);
+      tenantQueues.remove(tenantQueue.tenant);
+    }
+    tenantQueue.recordDepth();
+    return true;
+  }
+
+  @Override
+  protected void onRejected(String tenant) {
+    if (rejectedSensor != null) {
+      rejectedSensor.record();
+    }
+  }
+
+  synchronized int getQueuedRequests() {
+    return queuedRequests;
+  }
+
+  synchronized int getQueuedTenants() {
+    return activeTenants.size();
+  }
+
+  synchronized int getQueuedRequests(String tenant) {
+    TenantQueue tenantQueue = tenantQueues.get(tenant);
+    return tenantQueue != null ? tenantQueue.entries.size() : 0;
+  }
+
+  int getMetricsTenants() {
+    return tenantMetrics.size();
+  }
+
+  private final class TenantQueue {
+
+    private final String tenant;
+    private final int weight;
+    private final ArrayDeque<Entry<String>> entries = new ArrayDeque<>();
+    // How many more requests the tenant gets to have handled in this round.
+    private int deficit;
+    // Null if there are no metrics.
+    private final TenantMetrics queueMetrics;
+
+    TenantQueue(String tenant) {
+      this.tenant = tenant;
+      this.weight = tenantWeights.getOrDefault(tenant, 1);
+      // Looked up only, the metrics were registered when the request was classified.
+      this.queueMetrics = metrics != null
+          ? tenantMetrics.getOrDefault(tenant, overflowMetrics)
+          : null;
+    }
+
+    void recordDepth() {
+      if (queueMetrics != null) {
+        queueMetrics.depthSensor.record(entries.size());
+      }
+    }
+
+    void recordWaitTime(long waitNanos) {
+      if (queueMetrics != null) {
+        queueMetrics.waitTimeSensor.record(
+            waitNanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+      }
+    }
+  }
+
+  private final class TenantMetrics {
+
+    private final Sensor depthSensor;
+    private final Sensor waitTimeSensor;
+    private volatile long lastSeenNanos;
+
+    TenantMetrics(String tenant) {
+      SortedMap<String, String> tags = new TreeMap<>(metricTags);
+      tags.put("tenant", tenant);
+      String sensorPrefix = GROUP_NAME + ":fair-queue:" + tags.values();
+      // The sensors do not expire, they are removed along with the tenant once it is idle.
+      depthSensor = metrics.sensor(sensorPrefix + ":depth", null, RecordingLevel.INFO,
+          (Sensor[]) null);
+      depthSensor.add(metrics.metricName("fair-queue-depth", GROUP_NAME,
+          "The number of requests of the tenant waiting to be handled.", tags), new Value());
+      depthSensor.add(metrics.metricName("fair-queue-depth-max", GROUP_NAME,
+          "The maximum number of requests of the tenant waiting to be handled.", tags),
+          new Max());
+      waitTimeSensor = metrics.sensor(sensorPrefix + ":wait-time", null, RecordingLevel.INFO,
+          (Sensor[]) null);
+      waitTimeSensor.add(metrics.metricName("fair-queue-wait-time-avg", GROUP_NAME,
+          "The average time in ms requests of the tenant waited to be handled.", tags),
+          new Avg());
+      waitTimeSensor.add(metrics.metricName("fair-queue-wait-time-max", GROUP_NAME,
+          "The maximum time in ms requests of the tenant waited to be handled.", tags),
+          new Max());
+      lastSeenNanos = time.nanoseconds();
+    }
+
+    void remove() {
+      metrics.removeSensor(depthSensor.name());
+      metrics.removeSensor(waitTimeSensor.name());
+    }
+  }
+}
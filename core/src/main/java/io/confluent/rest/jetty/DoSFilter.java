@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
@@ -19,6 +20,9 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -111,6 +115,9 @@ import org.slf4j.LoggerFactory;
  * <dt>tooManyCode</dt>
  * <dd>The status code to send if there are too many requests.  By default is 429 (too many requests), but 503 (Unavailable) is
  * another option</dd>
+ * <dt>rateTracker</dt>
+ * <dd>the algorithm used to track request rates, one of {@link RateTrackerType}. Defaults to
+ * {@link RateTrackerType#SLIDING_WINDOW}.</dd>
  * </dl>
  * <p>
  * This filter should be configured for {@link DispatcherType#REQUEST} and {@link DispatcherType#ASYNC} and with
@@ -137,6 +144,8 @@ public class DoSFilter implements Filter {
     private static final long __DEFAULT_THROTTLE_MS = 30000L;
     private static final long __DEFAULT_MAX_REQUEST_MS_INIT_PARAM = 30000L;
     private static final long __DEFAULT_MAX_IDLE_TRACKER_MS_INIT_PARAM = 30000L;
+    private static final int __TRACKER_WHEEL_TICKS_PER_IDLE = 32;
+    private static final int __TRACKER_WHEEL_SIZE = 64;
 
     static final String MANAGED_ATTR_INIT_PARAM = "managedAttr";
     static final String MAX_REQUESTS_PER_S_INIT_PARAM = "maxRequestsPerSec";
@@ -152,6 +161,7 @@ public class DoSFilter implements Filter {
     static final String IP_WHITELIST_INIT_PARAM = "ipWhitelist";
     static final String ENABLED_INIT_PARAM = "enabled";
     static final String TOO_MANY_CODE = "tooManyCode";
+    static final String RATE_TRACKER_INIT_PARAM = "rateTracker";
 
     public enum RateType {
         AUTH,
@@ -160,9 +170,31 @@ public class DoSFilter implements Filter {
         UNKNOWN
     }
 
+    public enum RateTrackerType {
+        /**
+         * Remembers the timestamps of the last maxRequestsPerSec requests behind a lock.
+         */
+        SLIDING_WINDOW,
+        /**
+         * Lock-free token bucket whose state does not depend on maxRequestsPerSec.
+         */
+        TOKEN_BUCKET,
+        /**
+         * Lock-free generic cell rate algorithm, a single theoretical arrival time per tracker.
+         */
+        GCRA,
+        /**
+         * Lock-free approximation of the sliding window using the counts of the current
+         * and previous one second windows.
+         */
+        SLIDING_WINDOW_COUNTER
+    }
+
     private final String _suspended = "DoSFilter@" + Integer.toHexString(hashCode()) + ".SUSPENDED";
     private final String _resumed = "DoSFilter@" + Integer.toHexString(hashCode()) + ".RESUMED";
     private final ConcurrentHashMap<String, RateTracker> _rateTrackers = new ConcurrentHashMap<>();
+    private final LongAdder _rateTrackersHeapBytes = new LongAdder();
+    private final LongAdder _rateTrackersEvicted = new LongAdder();
     private final List<String> _whitelist = new CopyOnWriteArrayList<>();
     private int _tooManyCode;
     private volatile long _delayMs;
@@ -179,9 +211,11 @@ public class DoSFilter implements Filter {
     private Semaphore _passes;
     private volatile int _throttledRequests;
     private volatile int _maxRequestsPerSec;
+    private volatile RateTrackerType _rateTrackerType = RateTrackerType.SLIDING_WINDOW;
     private Map<RateType, Queue<AsyncContext>> _queues = new HashMap<>();
     private Map<RateType, AsyncListener> _listeners = new HashMap<>();
     private Scheduler _scheduler;
+    private volatile TrackerWheel _trackerWheel;
     private ServletContext _context;
 
     @Override
@@ -191,7 +225,7 @@ public class DoSFilter implements Filter {
             _listeners.put(rateType, new DoSAsyncListener(rateType));
         }
 
-        _rateTrackers.clear();
+        clearRateTrackers();
 
         int maxRequests = __DEFAULT_MAX_REQUESTS_PER_SEC;
         String parameter = filterConfig.getInitParameter(MAX_REQUESTS_PER_S_INIT_PARAM);
@@ -256,6 +290,9 @@ public class DoSFilter implements Filter {
         parameter = filterConfig.getInitParameter(TOO_MANY_CODE);
         setTooManyCode(parameter == null ? 429 : Integer.parseInt(parameter));
 
+        parameter = filterConfig.getInitParameter(RATE_TRACKER_INIT_PARAM);
+        setRateTrackerType(parameter == null ? RateTrackerType.SLIDING_WINDOW : RateTrackerType.valueOf(parameter.toUpperCase(Locale.ROOT)));
+
         setName(filterConfig.getFilterName());
         _context = filterConfig.getServletContext();
         if (_context != null) {
@@ -263,6 +300,8 @@ public class DoSFilter implements Filter {
         }
 
         _scheduler = startScheduler();
+        _trackerWheel = new TrackerWheel(trackerWheelTickMs(maxIdleTrackerMs));
+        _trackerWheel.start();
     }
 
     protected Scheduler startScheduler() throws ServletException {
@@ -504,7 +543,28 @@ public class DoSFilter implements Filter {
     }
 
     private void schedule(RateTracker tracker) {
-        _scheduler.schedule(tracker, getMaxIdleTrackerMs(), TimeUnit.MILLISECONDS);
+        _trackerWheel.schedule(tracker, getMaxIdleTrackerMs());
+    }
+
+    /**
+     * Called by the {@link TrackerWheel} once a tracker has been idle for
+     * maxIdleTrackerMs: the tracker is kept for another period if it saw a request
+     * in the last second, otherwise it is discarded.
+     *
+     * @return whether the tracker was discarded
+     */
+    private boolean expire(RateTracker tracker) {
+        if (tracker.hasRecentRequest()) {
+            schedule(tracker);
+            return false;
+        }
+        if (!_rateTrackers.remove(tracker.getId(), tracker))
+            return false;
+        _rateTrackersHeapBytes.add(-tracker.estimatedHeapBytes());
+        _rateTrackersEvicted.increment();
+        if (LOG.isDebugEnabled())
+            LOG.debug("Tracker removed: {}", tracker.getId());
+        return true;
     }
 
     /**
@@ -548,15 +608,16 @@ public class DoSFilter implements Filter {
             boolean allowed = checkWhitelist(request.getRemoteAddr());
             int maxRequestsPerSec = getMaxRequestsPerSec();
             tracker = allowed ? new FixedRateTracker(_context, _name, loadId, type, maxRequestsPerSec)
-                : new RateTracker(_context, _name, loadId, type, maxRequestsPerSec);
+                : newRateTracker(loadId, type, maxRequestsPerSec);
             tracker.setContext(_context);
             RateTracker existing = _rateTrackers.putIfAbsent(loadId, tracker);
             if (existing != null)
-                tracker = existing;
+                return existing;
+            _rateTrackersHeapBytes.add(tracker.estimatedHeapBytes());
 
             if (type == RateType.IP) {
-                // USER_IP expiration from _rateTrackers is handled by the _scheduler
-                _scheduler.schedule(tracker, getMaxIdleTrackerMs(), TimeUnit.MILLISECONDS);
+                // USER_IP expiration from _rateTrackers is handled by the _trackerWheel
+                schedule(tracker);
             } else if (session != null) {
                 // USER_SESSION expiration from _rateTrackers are handled by the HttpSessionBindingListener
                 session.setAttribute(__TRACKER, tracker);
@@ -567,12 +628,63 @@ public class DoSFilter implements Filter {
         return tracker;
     }
 
+    private RateTracker newRateTracker(String loadId, RateType type, int maxRequestsPerSec) {
+        switch (getRateTrackerType()) {
+            case TOKEN_BUCKET:
+                return new TokenBucketRateTracker(_context, _name, loadId, type, maxRequestsPerSec);
+            case GCRA:
+                return new GcraRateTracker(_context, _name, loadId, type, maxRequestsPerSec);
+            case SLIDING_WINDOW_COUNTER:
+                return new SlidingWindowCounterRateTracker(_context, _name, loadId, type, maxRequestsPerSec);
+            case SLIDING_WINDOW:
+            default:
+                return new RateTracker(_context, _name, loadId, type, maxRequestsPerSec);
+        }
+    }
+
     private void addToRateTracker(RateTracker tracker) {
-        _rateTrackers.put(tracker.getId(), tracker);
+        RateTracker previous = _rateTrackers.put(tracker.getId(), tracker);
+        _rateTrackersHeapBytes.add(tracker.estimatedHeapBytes());
+        if (previous != null)
+            _rateTrackersHeapBytes.add(-previous.estimatedHeapBytes());
     }
 
     public void removeFromRateTracker(String id) {
-        _rateTrackers.remove(id);
+        RateTracker removed = _rateTrackers.remove(id);
+        if (removed != null)
+            _rateTrackersHeapBytes.add(-removed.estimatedHeapBytes());
+    }
+
+    private void clearRateTrackers() {
+        _rateTrackers.clear();
+        _rateTrackersHeapBytes.reset();
+    }
+
+    /**
+     * @return the number of rate trackers currently held by this filter
+     */
+    @ManagedAttribute("number of rate trackers currently held")
+    public int getRateTrackerCount() {
+        return _rateTrackers.size();
+    }
+
+    /**
+     * @return the number of idle rate trackers discarded since this filter was initialized
+     */
+    @ManagedAttribute("number of idle rate trackers discarded")
+    public long getRateTrackersEvicted() {
+        return _rateTrackersEvicted.sum();
+    }
+
+    /**
+     * Get an estimate of the heap retained by the rate trackers of
+     * this filter, including the map entries that hold them.
+     *
+     * @return the estimated size in bytes
+     */
+    @ManagedAttribute("estimated heap retained by the rate trackers (in bytes)")
+    public long getRateTrackersHeapBytes() {
+        return _rateTrackersHeapBytes.sum();
     }
 
     protected boolean checkWhitelist(String candidate) {
@@ -686,7 +798,7 @@ public class DoSFilter implements Filter {
     public void destroy() {
         LOG.debug("Destroy {}", this);
         stopScheduler();
-        _rateTrackers.clear();
+        clearRateTrackers();
         _whitelist.clear();
     }
 
@@ -742,6 +854,27 @@ public class DoSFilter implements Filter {
         _maxRequestsPerSec = value;
     }
 
+    /**
+     * Get the algorithm used to track request rates for
+     * newly created trackers.
+     *
+     * @return the rate tracker type
+     */
+    @ManagedAttribute("algorithm used to track request rates")
+    public RateTrackerType getRateTrackerType() {
+        return _rateTrackerType;
+    }
+
+    /**
+     * Set the algorithm used to track request rates. Only
+     * trackers created after this call are affected.
+     *
+     * @param value the rate tracker type
+     */
+    public void setRateTrackerType(RateTrackerType value) {
+        _rateTrackerType = Objects.requireNonNull(value);
+    }
+
     /**
      * Get delay (in milliseconds) that is applied to all requests
      * over the rate limit, before they are considered at all.
@@ -868,6 +1001,13 @@ public class DoSFilter implements Filter {
      */
     public void setMaxIdleTrackerMs(long value) {
         _maxIdleTrackerMs = value;
+        TrackerWheel trackerWheel = _trackerWheel;
+        if (trackerWheel != null)
+            trackerWheel.setTickMs(trackerWheelTickMs(value));
+    }
+
+    private static long trackerWheelTickMs(long maxIdleTrackerMs) {
+        return Math.max(1L, maxIdleTrackerMs / __TRACKER_WHEEL_TICKS_PER_IDLE);
     }
 
     /**
@@ -1059,6 +1199,8 @@ public class DoSFilter implements Filter {
      */
     static class RateTracker implements Runnable, HttpSessionBindingListener, HttpSessionActivationListener, Serializable {
         private static final long serialVersionUID = 3534663738034577872L;
+        // Object header and fields, the AutoLock and its ReentrantLock, the id String and the map node.
+        static final long TRACKER_BASE_HEAP_BYTES = 200L;
 
         final AutoLock _lock = new AutoLock();
         protected final String _filterName;
@@ -1069,14 +1211,20 @@ public class DoSFilter implements Filter {
         protected final long[] _timestamps;
 
         protected int _next;
+        // The TrackerWheel tick at which this tracker is next checked for idleness.
+        transient volatile long _expiryTick;
 
         public RateTracker(ServletContext context, String filterName, String id, RateType type, int maxRequestsPerSecond) {
+            this(context, filterName, id, type, maxRequestsPerSecond, maxRequestsPerSecond);
+        }
+
+        protected RateTracker(ServletContext context, String filterName, String id, RateType type, int maxRequestsPerSecond, int timestampsTracked) {
             _context = context;
             _filterName = filterName;
             _id = id;
             _type = type;
             _maxRequestsPerSecond = maxRequestsPerSecond;
-            _timestamps = new long[maxRequestsPerSecond];
+            _timestamps = new long[timestampsTracked];
             _next = 0;
         }
 
@@ -1173,13 +1321,9 @@ public class DoSFilter implements Filter {
                 return;
             }
 
-            int latestIndex = _next == 0 ? (_timestamps.length - 1) : (_next - 1);
-            long last = _timestamps[latestIndex];
-            boolean hasRecentRequest = last != 0 && NanoTime.secondsSince(last) < 1L;
-
             DoSFilter filter = (DoSFilter) _context.getAttribute(_filterName);
 
-            if (hasRecentRequest) {
+            if (hasRecentRequest()) {
                 if (filter != null)
                     filter.schedule(this);
                 else
@@ -1188,6 +1332,22 @@ public class DoSFilter implements Filter {
                 removeFromRateTrackers(filter, _id);
         }
 
+        /**
+         * @return an estimate of the heap retained by this tracker and its map entry, in bytes.
+         */
+        protected long estimatedHeapBytes() {
+            return TRACKER_BASE_HEAP_BYTES + 2L * _id.length() + 16L + 8L * _timestamps.length;
+        }
+
+        /**
+         * @return whether this tracker saw a request within the last second.
+         */
+        protected boolean hasRecentRequest() {
+            int latestIndex = _next == 0 ? (_timestamps.length - 1) : (_next - 1);
+            long last = _timestamps[latestIndex];
+            return last != 0 && NanoTime.secondsSince(last) < 1L;
+        }
+
         @Override
         public String toString() {
             return "RateTracker/" + _id + "/" + _type;
@@ -1260,6 +1420,256 @@ public class DoSFilter implements Filter {
         }
     }
 
+    /**
+     * A lock-free RateTracker implementing a token bucket that holds up to
+     * maxRequestsPerSecond tokens and refills at maxRequestsPerSecond tokens per second.
+     * Unlike {@link RateTracker} it keeps no per-request history, so its footprint is
+     * independent of the configured rate and concurrent requests never block each other.
+     */
+    static class TokenBucketRateTracker extends RateTracker {
+        private static final long serialVersionUID = -2461305936520358713L;
+
+        private final long _nanosPerToken;
+        private final AtomicLong _tokens;
+        private final AtomicLong _lastRefill;
+        private volatile long _lastRequest;
+
+        public TokenBucketRateTracker(ServletContext context, String filterName, String id, RateType type, int maxRequestsPerSecond) {
+            super(context, filterName, id, type, maxRequestsPerSecond, 0);
+            _nanosPerToken = Math.max(1L, TimeUnit.SECONDS.toNanos(1) / Math.max(1, maxRequestsPerSecond));
+            _tokens = new AtomicLong(maxRequestsPerSecond);
+            _lastRefill = new AtomicLong(NanoTime.now());
+        }
+
+        @Override
+        public OverLimit isRateExceeded(long now) {
+            _lastRequest = now;
+            refill(now);
+            while (true) {
+                long tokens = _tokens.get();
+                if (tokens <= 0)
+                    return new Overage(Duration.ofSeconds(1), _maxRequestsPerSecond);
+                if (_tokens.compareAndSet(tokens, tokens - 1))
+                    return null;
+            }
+        }
+
+        private void refill(long now) {
+            long last = _lastRefill.get();
+            long elapsed = NanoTime.elapsed(last, now);
+            if (elapsed < _nanosPerToken)
+                return;
+
+            long newTokens = elapsed / _nanosPerToken;
+            // Only the thread that advances the refill timestamp credits the tokens,
+            // and the timestamp only moves by whole tokens so no fraction is lost.
+            if (!_lastRefill.compareAndSet(last, last + newTokens * _nanosPerToken))
+                return;
+
+            while (true) {
+                long tokens = _tokens.get();
+                long updated = Math.min(_maxRequestsPerSecond, tokens + newTokens);
+                if (updated == tokens || _tokens.compareAndSet(tokens, updated))
+                    return;
+            }
+        }
+
+        @Override
+        protected boolean hasRecentRequest() {
+            long last = _lastRequest;
+            return last != 0 && NanoTime.secondsSince(last) < 1L;
+        }
+
+        @Override
+        protected long estimatedHeapBytes() {
+            // Two AtomicLongs plus the extra long fields.
+            return super.estimatedHeapBytes() + 2 * 16L + 16L;
+        }
+
+        @Override
+        public String toString() {
+            return "TokenBucket" + super.toString();
+        }
+    }
+
+    /**
+     * A lock-free RateTracker implementing the generic cell rate algorithm. Requests are
+     * spaced by an emission interval of 1s / maxRequestsPerSecond and a burst of up to
+     * maxRequestsPerSecond requests is tolerated, so it enforces the same limit as
+     * {@link RateTracker} while storing only the theoretical arrival time of the next request.
+     */
+    static class GcraRateTracker extends RateTracker {
+        private static final long serialVersionUID = 6012845239475830281L;
+        private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+        private final long _emissionIntervalNanos;
+        private final AtomicLong _theoreticalArrival;
+
+        public GcraRateTracker(ServletContext context, String filterName, String id, RateType type, int maxRequestsPerSecond) {
+            super(context, filterName, id, type, maxRequestsPerSecond, 0);
+            _emissionIntervalNanos = Math.max(1L, WINDOW_NANOS / Math.max(1, maxRequestsPerSecond));
+            _theoreticalArrival = new AtomicLong(NanoTime.now());
+        }
+
+        @Override
+        public OverLimit isRateExceeded(long now) {
+            while (true) {
+                long tat = _theoreticalArrival.get();
+                long next = (NanoTime.isBefore(tat, now) ? now : tat) + _emissionIntervalNanos;
+                if (next - now > WINDOW_NANOS)
+                    return new Overage(Duration.ofNanos(WINDOW_NANOS), _maxRequestsPerSecond);
+                if (_theoreticalArrival.compareAndSet(tat, next))
+                    return null;
+            }
+        }
+
+        @Override
+        protected boolean hasRecentRequest() {
+            // Every admitted request pushes the theoretical arrival time past its own arrival.
+            return NanoTime.elapsed(_theoreticalArrival.get(), NanoTime.now()) < WINDOW_NANOS;
+        }
+
+        @Override
+        protected long estimatedHeapBytes() {
+            return super.estimatedHeapBytes() + 16L + 8L;
+        }
+
+        @Override
+        public String toString() {
+            return "Gcra" + super.toString();
+        }
+    }
+
+    /**
+     * A lock-free RateTracker approximating a sliding one second window from two counters:
+     * the requests admitted in the current window and in the previous one, weighted by how
+     * much of the previous window still overlaps the last second. Each counter is packed
+     * with the low 32 bits of its window index into a single long.
+     */
+    static class SlidingWindowCounterRateTracker extends RateTracker {
+        private static final long serialVersionUID = -7215476049812352730L;
+        private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+        private final AtomicLongArray _windows = new AtomicLongArray(2);
+
+        public SlidingWindowCounterRateTracker(ServletContext context, String filterName, String id, RateType type, int maxRequestsPerSecond) {
+            super(context, filterName, id, type, maxRequestsPerSecond, 0);
+        }
+
+        @Override
+        public OverLimit isRateExceeded(long now) {
+            long window = Math.floorDiv(now, WINDOW_NANOS);
+            int slot = (int)(window & 1);
+            long previousCount = countOf(_windows.get(1 - slot), window - 1);
+            double previousWeight = 1.0 - (double)Math.floorMod(now, WINDOW_NANOS) / WINDOW_NANOS;
+            while (true) {
+                long packed = _windows.get(slot);
+                long count = countOf(packed, window);
+                if (previousCount * previousWeight + count >= _maxRequestsPerSecond)
+                    return new Overage(Duration.ofNanos(WINDOW_NANOS), _maxRequestsPerSecond);
+                if (_windows.compareAndSet(slot, packed, pack(window, count + 1)))
+                    return null;
+            }
+        }
+
+        @Override
+        protected boolean hasRecentRequest() {
+            long window = Math.floorDiv(NanoTime.now(), WINDOW_NANOS);
+            int slot = (int)(window & 1);
+            return countOf(_windows.get(slot), window) > 0 || countOf(_windows.get(1 - slot), window - 1) > 0;
+        }
+
+        private static long pack(long window, long count) {
+            return (window << 32) | (count & 0xFFFFFFFFL);
+        }
+
+        private static long countOf(long packed, long window) {
+            return packed != 0 && (int)(packed >>> 32) == (int)window ? packed & 0xFFFFFFFFL : 0;
+        }
+
+        @Override
+        protected long estimatedHeapBytes() {
+            return super.estimatedHeapBytes() + 16L + 2 * 8L;
+        }
+
+        @Override
+        public String toString() {
+            return "SlidingWindowCounter" + super.toString();
+        }
+    }
+
+    /**
+     * A hashed timing wheel expiring idle IP rate trackers in bulk. A single task
+     * scheduled every tick sweeps the slot of the current tick, so the number of
+     * scheduled tasks does not depend on the number of trackers. Trackers whose
+     * delay exceeds the wheel span stay in their slot for further rotations.
+     * The tick follows maxIdleTrackerMs from the next tick on; trackers already
+     * scheduled keep their number of ticks to wait.
+     */
+    private class TrackerWheel implements Runnable {
+        private final Object _marker = new Object();
+        private final List<ConcurrentLinkedQueue<Object>> _slots = new ArrayList<>(__TRACKER_WHEEL_SIZE);
+        private volatile long _tickMs;
+        private volatile long _tick;
+
+        TrackerWheel(long tickMs) {
+            _tickMs = tickMs;
+            for (int i = 0; i < __TRACKER_WHEEL_SIZE; i++)
+                _slots.add(new ConcurrentLinkedQueue<>());
+        }
+
+        void setTickMs(long tickMs) {
+            _tickMs = tickMs;
+        }
+
+        void start() {
+            _scheduler.schedule(this, _tickMs, TimeUnit.MILLISECONDS);
+        }
+
+        void schedule(RateTracker tracker, long delayMs) {
+            long tickMs = _tickMs;
+            long expiryTick = _tick + Math.max(1L, (delayMs + tickMs - 1) / tickMs);
+            tracker._expiryTick = expiryTick;
+            _slots.get((int)(expiryTick % _slots.size())).offer(tracker);
+        }
+
+        @Override
+        public void run() {
+            try {
+                sweep();
+            } catch (Throwable x) {
+                LOG.warn("Failed to sweep idle rate trackers", x);
+            } finally {
+                if (_scheduler.isRunning())
+                    _scheduler.schedule(this, _tickMs, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void sweep() {
+            long tick = _tick + 1;
+            _tick = tick;
+            ConcurrentLinkedQueue<Object> slot = _slots.get((int)(tick % _slots.size()));
+            // Trackers offered after the marker, including the ones re-offered
+            // below, are left for the next rotation.
+            slot.offer(_marker);
+            int evicted = 0;
+            Object next;
+            while ((next = slot.poll()) != _marker && next != null) {
+                RateTracker tracker = (RateTracker)next;
+                if (tracker._expiryTick > tick)
+                    slot.offer(tracker);
+                else if (expire(tracker))
+                    evicted++;
+            }
+
+            if (evicted > 0) {
+                if (LOG.isDebugEnabled())
+                    LOG.debug("Evicted {} idle rate trackers", evicted);
+                _listener.onRateTrackersEvicted(evicted, DoSFilter.this);
+            }
+        }
+    }
+
     private static class DoSTimeoutAsyncListener implements AsyncListener {
         @Override
         public void onStartAsync(AsyncEvent event) {
@@ -1370,5 +1780,14 @@ public class DoSFilter implements Filter {
 
             return action;
         }
+
+        /**
+         * Process the onRateTrackersEvicted() behavior.
+         *
+         * @param count     the number of idle rate trackers discarded by a sweep
+         * @param dosFilter the {@link DoSFilter} that this event occurred on
+         */
+        public void onRateTrackersEvicted(int count, DoSFilter dosFilter) {
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.metrics;
+
+import static io.confluent.rest.metrics.JettyMetricsUtil.GROUP_NAME;
+import static io.confluent.rest.metrics.JettyMetricsUtil.SENSOR_EXPIRY_SECONDS;
+import static io.confluent.rest.metrics.JettyMetricsUtil.addGauge;
+import static io.confluent.rest.metrics.MetricNameUtil.getMetricName;
+
+import io.confluent.rest.jetty.DoSFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.metrics.Sensor.RecordingLevel;
+import org.apache.kafka.common.metrics.stats.CumulativeSum;
+import org.apache.kafka.common.metrics.stats.Rate;
+
+/**
+ * Jetty DosFilterListener that records metrics about the rate trackers held by a DoSFilter of
+ * the Jetty layer: their number, their estimated heap usage and how often idle ones are evicted.
+ */
+public class DosFilterTrackerMetrics extends DoSFilter.Listener {
+
+  private static final String DOS_FILTER_TAG = "dos_filter";
+
+  private Sensor evictionSensor = null;
+
+  /**
+   * Adds the tracker metrics for the given filter, tagged with {@code dos_filter=filterType}.
+   * Gauges already registered for the same filter type are replaced.
+   */
+  public DosFilterTrackerMetrics(Metrics metrics, Map<String, String> metricTags,
+      String filterType, DoSFilter dosFilter) {
+    if (metrics != null) {
+      SortedMap<String, String> tags = new TreeMap<>(metricTags);
+      tags.put(DOS_FILTER_TAG, filterType);
+
+      addGauge(metrics, getMetricName(metrics, GROUP_NAME, "dos-filter-rate-tracker-heap-bytes",
+              "The estimated heap retained by the rate trackers of the DoS filter, in bytes.",
+              tags),
+          (config, now) -> dosFilter.getRateTrackersHeapBytes());
+      addGauge(metrics, getMetricName(metrics, GROUP_NAME, "dos-filter-rate-tracker-count",
+              "The number of rate trackers currently held by the DoS filter.", tags),
+          (config, now) -> dosFilter.getRateTrackerCount());
+
+      String sensorName = GROUP_NAME + ":dos-filter-rate-tracker-evictions:" + tags.values();
+      evictionSensor = metrics.sensor(sensorName,
+          null, SENSOR_EXPIRY_SECONDS, RecordingLevel.INFO, (Sensor[]) null);
+      evictionSensor.add(getMetricName(metrics, GROUP_NAME,
+          "dos-filter-rate-tracker-eviction-rate",
+          "The average number of idle rate trackers evicted per second by the DoS filter.",
+          tags), new Rate());
+      evictionSensor.add(getMetricName(metrics, GROUP_NAME,
+          "dos-filter-rate-tracker-eviction-total",
+          "A cumulative count of idle rate trackers evicted by the DoS filter.",
+          tags), new CumulativeSum());
+    }
+  }
+
+  @Override
+  public DoSFilter.Action onRequestOverLimit(HttpServletRequest request,
+      DoSFilter.OverLimit overlimit, DoSFilter dosFilter) {
+    // don't use the super function, it logs a WARN line for every request over the limit
+    return DoSFilter.Action.fromDelay(dosFilter.getDelayMs());
+  }
+
+  @Override
+  public void onRateTrackersEvicted(int count, DoSFilter dosFilter) {
+    if (evictionSensor != null) {
+      evictionSensor.record(count);
+    }
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.metrics.CompoundStat;
+import org.apache.kafka.common.metrics.MetricConfig;
+import org.apache.kafka.common.metrics.stats.Percentile;
+
+/**
+ * Latency percentiles over high dynamic range buckets, as an alternative to
+ * {@link org.apache.kafka.common.metrics.stats.Percentiles}, whose linear buckets are too coarse
+ * for the tail of requests that mostly complete within a few milliseconds.
+ *
+ * <p>Values are recorded in milliseconds and tracked with microsecond resolution from 1µs to 60s.
+ * Like HdrHistogram's, the buckets are exact up to 16µs, and then split each power of two into 8
+ * buckets, so that a percentile, reported at the middle of its bucket, is within 1/16th of the
+ * recorded values, e.g. 62µs at most around 1ms. That takes 191 counts per window, which fit in
+ * the 800 bytes of the 200 buckets of Kafka's percentiles.
+ *
+ * <p>Like Kafka's sampled stats, the percentiles are computed over {@link MetricConfig#samples()}
+ * windows of {@link MetricConfig#timeWindowMs()} each, with one set of counts per window. Kafka
+ * records and measures the stats of a sensor with the same lock held, so this stat takes no lock
+ * of its own, and is not thread-safe on its own, like Kafka's stats.
+ */
+public class HdrPercentiles implements CompoundStat {
+
+  private static final long MIN_VALUE_MICROS = 1;
+  private static final long MAX_VALUE_MICROS = TimeUnit.SECONDS.toMicros(60);
+  // Values below 2 * SUB_BUCKETS are counted exactly, larger ones with SUB_BUCKETS buckets per
+  // power of two.
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int LINEAR_BUCKETS = 2 * SUB_BUCKETS;
+  static final int NUM_BUCKETS = bucket(MAX_VALUE_MICROS) + 1;
+
+  private final List<Percentile> percentiles;
+  private int[][] windows;
+  private long[] windowCounts;
+  private long[] windowStartsMs;
+  private int current;
+
+  public HdrPercentiles(Percentile... percentiles) {
+    this.percentiles = List.of(percentiles);
+  }
+
+  @Override
+  public List<NamedMeasurable> stats() {
+    List<NamedMeasurable> stats = new ArrayList<>(percentiles.size());
+    for (Percentile percentile : percentiles) {
+      final double pct = percentile.percentile();
+      stats.add(new NamedMeasurable(percentile.name(),
+          (config, now) -> valueAtPercentile(config, now, pct)));
+    }
+    return stats;
+  }
+
+  @Override
+  public void record(MetricConfig config, double value, long timeMs) {
+    roll(config, timeMs);
+    long micros = Math.round(value * 1000);
+    windows[current][bucket(Math.max(MIN_VALUE_MICROS, Math.min(MAX_VALUE_MICROS, micros)))]++;
+    windowCounts[current]++;
+  }
+
+  /**
+   * Computes the percentile over the windows that are not too old, adding up their counts bucket
+   * by bucket.
+   */
+  private double valueAtPercentile(MetricConfig config, long now, double pct) {
+    roll(config, now);
+    long oldestMs = now - (long) windows.length * config.timeWindowMs();
+    long totalCount = 0;
+    for (int i = 0; i < windows.length; i++) {
+      if (windowStartsMs[i] > oldestMs) {
+        totalCount += windowCounts[i];
+      }
+    }
+    if (totalCount == 0) {
+      return Double.NaN;
+    }
+    // The same rank as HdrHistogram's Histogram#getValueAtPercentile.
+    long rank = Math.max(1, (long) (pct / 100.0 * totalCount + 0.5));
+    long count = 0;
+    for (int bucket = 0; bucket < NUM_BUCKETS; bucket++) {
+      for (int i = 0; i < windows.length; i++) {
+        if (windowStartsMs[i] > oldestMs) {
+          count += windows[i][bucket];
+        }
+      }
+      if (count >= rank) {
+        return Math.min(middle(bucket), MAX_VALUE_MICROS) / 1000.0;
+      }
+    }
+    return MAX_VALUE_MICROS / 1000.0;
+  }
+
+  static int bucket(long micros) {
+    if (micros < LINEAR_BUCKETS) {
+      return (int) micros;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(micros);
+    int shift = exponent - SUB_BUCKET_BITS;
+    return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS
+        + (int) (micros >>> shift) - SUB_BUCKETS;
+  }
+
+  /**
+   * @return the value in the middle of the given bucket, in microseconds.
+   */
+  static double middle(int bucket) {
+    if (bucket < LINEAR_BUCKETS) {
+      return bucket;
+    }
+    int shift = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+    long lowest = (long) (SUB_BUCKETS + (bucket - LINEAR_BUCKETS) % SUB_BUCKETS) << shift;
+    return lowest + ((1L << shift) - 1) / 2.0;
+  }
+
+  /**
+   * Starts a new window if the current one has ended.
+   */
+  private void roll(MetricConfig config, long now) {
+    if (windows == null) {
+      int samples = Math.max(1, config.samples());
+      windows = new int[samples][NUM_BUCKETS];
+      windowCounts = new long[samples];
+      windowStartsMs = new long[samples];
+      Arrays.fill(windowStartsMs, Long.MIN_VALUE);
+      windowStartsMs[current] = now;
+    }
+    if (now >= windowStartsMs[current] + config.timeWindowMs()) {
+      current = (current + 1) % windows.length;
+      Arrays.fill(windows[current], 0);
+      windowCounts[current] = 0;
+      windowStartsMs[current] = now;
+    }
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.metrics;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.Gauge;
+import org.apache.kafka.common.metrics.Metrics;
+
+/**
+ * Shared constants and helpers for the metrics recorded in the {@code jetty-metrics} group.
+ */
+public final class JettyMetricsUtil {
+
+  public static final long SENSOR_EXPIRY_SECONDS = TimeUnit.HOURS.toSeconds(1);
+  public static final String GROUP_NAME = "jetty-metrics";
+
+  private JettyMetricsUtil() {
+    // prevent instantiation
+  }
+
+  /**
+   * Registers the gauge under the given name, replacing any metric already registered under it.
+   */
+  public static void addGauge(Metrics metrics, MetricName metricName, Gauge<?> gauge) {
+    metrics.removeMetric(metricName);
+    metrics.addMetric(metricName, gauge);
+  }
+}
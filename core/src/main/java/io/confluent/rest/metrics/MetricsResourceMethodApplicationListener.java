@@ -16,9 +16,6 @@
 
 package io.confluent.rest.metrics;
 
-import java.util.Objects;
-import java.util.function.Supplier;
-
 import org.glassfish.jersey.server.ContainerRequest;
 import org.glassfish.jersey.server.ContainerResponse;
 import org.glassfish.jersey.server.model.Resource;
@@ -29,12 +26,13 @@ import org.glassfish.jersey.server.monitoring.RequestEvent;
 import org.glassfish.jersey.server.monitoring.RequestEventListener;
 
 import java.io.FilterInputStream;
-import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
@@ -46,6 +44,8 @@ import jakarta.ws.rs.core.Response.StatusType;
 import io.confluent.rest.annotations.PerformanceMetric;
 
 import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.Gauge;
+import org.apache.kafka.common.metrics.MetricConfig;
 import org.apache.kafka.common.metrics.Metrics;
 import org.apache.kafka.common.metrics.stats.Avg;
 import org.apache.kafka.common.metrics.stats.CumulativeCount;
@@ -56,6 +56,7 @@ import org.apache.kafka.common.metrics.stats.WindowedCount;
 import org.apache.kafka.common.metrics.stats.Rate;
 import org.apache.kafka.common.metrics.Sensor;
 import org.apache.kafka.common.utils.Time;
+import org.eclipse.jetty.util.VirtualThreads;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -70,12 +71,18 @@ import static java.util.Collections.emptyMap;
 public class MetricsResourceMethodApplicationListener implements ApplicationEventListener {
 
   public static final String REQUEST_TAGS_PROP_KEY = "_request_tags";
+  // Request attribute with the time spent in each phase of the request, for the request log.
+  public static final String REQUEST_PHASES_ATTRIBUTE = "io.confluent.rest.request.phases";
+  // Request tags of the metrics recorded for requests whose tags did not fit in the cap.
+  public static final Map<String, String> OVERFLOW_REQUEST_TAGS =
+      Collections.singletonMap("request_tags", "overflow");
 
   protected static final String HTTP_STATUS_CODE_TAG = "http_status_code";
   protected static final String[] HTTP_STATUS_CODE_TEXT = {
       "unknown", "1xx", "2xx", "3xx", "4xx", "5xx", "429"};
   private static final int PERCENTILE_NUM_BUCKETS = 200;
   private static final long SENSOR_EXPIRY_SECONDS = TimeUnit.HOURS.toSeconds(1);
+  private static final long NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
 
   private final Metrics metrics;
   private final String metricGrpPrefix;
@@ -83,15 +90,28 @@ public class MetricsResourceMethodApplicationListener implements ApplicationEven
   private final Time time;
   private final Map<Method, RequestScopedMetrics> methodMetrics = new HashMap<>();
   private final boolean enableLatencySloSla;
-  private final long latencySloMs;
-  private final long latencySlaMs;
+  private final long latencySloNanos;
+  private final long latencySlaNanos;
   private final double percentileMaxLatencyInMs;
+  private final boolean hdrLatencyPercentiles;
+  // Whether to measure latency with the monotonic nanosecond clock rather than in whole
+  // milliseconds of the wall clock.
+  private final boolean highResolutionLatency;
+  // The most request tag combinations to keep metrics for per resource method, or 0 for no limit.
+  private final int maxRequestTagsCardinality;
+  // Whether to record how long requests spend in each RequestPhase.
+  private final boolean requestPhases;
 
   // This controls whether we should use request tags in global stats, i.e., those without resource
   // method in the names, introducing this variable to keep the compatibility with downstream
   // dependencies, e.g., some applications may not want to report request tags in global stats
   private final boolean enableGlobalStatsRequestTags;
   private final boolean disableResponseSizeMetricsCollection;
+  // Request listeners are reused once their request finished, so that recording metrics does not
+  // allocate per request. One idle listener is kept per thread. Listeners of chunked responses
+  // are not reused, as the response is still written after the request finished.
+  private final ThreadLocal<MetricsRequestEventListener> idleRequestListener =
+      new ThreadLocal<>();
   private static final Logger log = LoggerFactory.getLogger(
           MetricsResourceMethodApplicationListener.class);
 
@@ -102,15 +122,36 @@ public class MetricsResourceMethodApplicationListener implements ApplicationEven
                                                   double percentileMaxLatencyInMs,
                                                   boolean enableGlobalStatsRequestTags,
                                                   boolean disableResponseSizeMetricsCollection) {
+    this(metrics, metricGrpPrefix, metricTags, time, enableLatencySloSla,
+        TimeUnit.MILLISECONDS.toMicros(latencySloMs), TimeUnit.MILLISECONDS.toMicros(latencySlaMs),
+        percentileMaxLatencyInMs, false, false, 0, false, enableGlobalStatsRequestTags,
+        disableResponseSizeMetricsCollection);
+  }
+
+  public MetricsResourceMethodApplicationListener(Metrics metrics, String metricGrpPrefix,
+                                                  Map<String, String> metricTags, Time time,
+                                                  boolean enableLatencySloSla,
+                                                  long latencySloMicros, long latencySlaMicros,
+                                                  double percentileMaxLatencyInMs,
+                                                  boolean hdrLatencyPercentiles,
+                                                  boolean highResolutionLatency,
+                                                  int maxRequestTagsCardinality,
+                                                  boolean requestPhases,
+                                                  boolean enableGlobalStatsRequestTags,
+                                                  boolean disableResponseSizeMetricsCollection) {
     super();
     this.metrics = metrics;
     this.metricGrpPrefix = metricGrpPrefix;
     this.metricTags = (metricTags != null) ? metricTags : emptyMap();
     this.time = time;
     this.enableLatencySloSla = enableLatencySloSla;
-    this.latencySloMs = latencySloMs;
-    this.latencySlaMs = latencySlaMs;
+    this.latencySloNanos = TimeUnit.MICROSECONDS.toNanos(latencySloMicros);
+    this.latencySlaNanos = TimeUnit.MICROSECONDS.toNanos(latencySlaMicros);
     this.percentileMaxLatencyInMs = percentileMaxLatencyInMs;
+    this.hdrLatencyPercentiles = hdrLatencyPercentiles;
+    this.highResolutionLatency = highResolutionLatency;
+    this.maxRequestTagsCardinality = maxRequestTagsCardinality;
+    this.requestPhases = requestPhases;
     this.enableGlobalStatsRequestTags = enableGlobalStatsRequestTags;
     this.disableResponseSizeMetricsCollection = disableResponseSizeMetricsCollection;
   }
@@ -121,7 +162,8 @@ public class MetricsResourceMethodApplicationListener implements ApplicationEven
       // Special null key is used for global stats
       MethodMetrics m = new MethodMetrics(
           null, null, this.metrics, metricGrpPrefix, metricTags, emptyMap(),
-          enableLatencySloSla, latencySloMs, latencySlaMs, percentileMaxLatencyInMs);
+          enableLatencySloSla, latencySloNanos, latencySlaNanos, percentileMaxLatencyInMs,
+          hdrLatencyPercentiles, requestPhases);
       methodMetrics.put(null, new RequestScopedMetrics(m, new ConstructionContext(this)));
 
       for (final Resource resource : event.getResourceModel().getResources()) {
@@ -145,7 +187,8 @@ public class MetricsResourceMethodApplicationListener implements ApplicationEven
 
       MethodMetrics m = new MethodMetrics(
           method, annotation, metrics, metricGrpPrefix, metricTags, emptyMap(),
-          enableLatencySloSla, latencySloMs, latencySlaMs, percentileMaxLatencyInMs);
+          enableLatencySloSla, latencySloNanos, latencySlaNanos, percentileMaxLatencyInMs,
+          hdrLatencyPercentiles, requestPhases);
       ConstructionContext context = new ConstructionContext(method, annotation, this);
       methodMetrics.put(definitionMethod, new RequestScopedMetrics(m, context));
     }
@@ -153,19 +196,47 @@ public class MetricsResourceMethodApplicationListener implements ApplicationEven
 
   @Override
   public RequestEventListener onRequest(final RequestEvent event) {
-    return new MetricsRequestEventListener(methodMetrics, time, this.enableGlobalStatsRequestTags,
-            this.disableResponseSizeMetricsCollection);
+    MetricsRequestEventListener listener = idleRequestListener.get();
+    if (listener == null) {
+      listener = new MetricsRequestEventListener(this);
+    } else {
+      idleRequestListener.set(null);
+    }
+    listener.start();
+    return listener;
+  }
+
+  private void recycle(MetricsRequestEventListener listener) {
+    // Virtual threads are not reused, so neither would the listener be.
+    if (idleRequestListener.get() == null && !VirtualThreads.isVirtualThread()) {
+      idleRequestListener.set(listener);
+    }
   }
 
   private static class RequestScopedMetrics {
     private final MethodMetrics methodMetrics;
     private final ConstructionContext context;
-    private final Map<SortedMap<String, String>, MethodMetrics> requestMetrics
+    private final Map<SortedMap<String, String>, TaggedMetrics> requestMetrics
         = new ConcurrentHashMap<>();
+    // Created, under the lock on this, on the first request whose tags do not fit in the cap.
+    private volatile MethodMetrics overflowMetrics;
+    private volatile long lastEvictionNanos;
 
     public RequestScopedMetrics(MethodMetrics metrics, ConstructionContext context) {
       this.methodMetrics = metrics;
       this.context = context;
+      this.lastEvictionNanos = context.time.nanoseconds();
+      if (context.maxRequestTagsCardinality > 0) {
+        MetricName metricName = new MetricName(
+            MethodMetrics.getName(context.method, context.performanceMetric,
+                "request-tags-cardinality"),
+            context.metricGrpPrefix + "-metrics",
+            "The number of request tag combinations with metrics of their own",
+            new TreeMap<>(context.metricTags));
+        context.metrics.removeMetric(metricName);
+        context.metrics.addMetric(metricName,
+            (Gauge<Integer>) (config, now) -> requestMetrics.size());
+      }
     }
 
     public MethodMetrics metrics() {
@@ -181,12 +252,90 @@ public class MetricsResourceMethodApplicationListener implements ApplicationEven
         return methodMetrics;
       }
 
-      SortedMap<String, String> key = new TreeMap<>(requestTags);
-      return requestMetrics.computeIfAbsent(key, (k) ->
-          new MethodMetrics(context.method, context.performanceMetric, context.metrics,
-              context.metricGrpPrefix, context.metricTags, k));
+      // Maps are equal to any map with the same entries, so look up with the request tags as they
+      // are and only copy them into a sorted key for tags not seen before.
+      long now = context.time.nanoseconds();
+      TaggedMetrics existing = requestMetrics.get(requestTags);
+      if (existing != null) {
+        existing.lastRecordedNanos = now;
+        return existing.metrics;
+      }
+      if (context.maxRequestTagsCardinality <= 0) {
+        SortedMap<String, String> key = new TreeMap<>(requestTags);
+        return requestMetrics.computeIfAbsent(key, (k) -> newTaggedMetrics(k, now)).metrics;
+      }
+      return boundedMetrics(requestTags, now);
     }
 
+    /**
+     * Adds metrics for request tags not seen before while there are fewer tag combinations than
+     * the cap. Otherwise makes room by evicting the combinations that have been idle for the whole
+     * metrics sample window, so that their windowed stats would be empty anyway. Failing that, the
+     * request is recorded in the overflow bucket, so that a burst of new tags does not churn the
+     * sensors of the busy ones.
+     */
+    private MethodMetrics boundedMetrics(Map<String, String> requestTags, long now) {
+      // Only look for idle combinations to evict once per sample window, so that a flood of new
+      // tags neither scans the combinations nor contends on the lock for each request.
+      MethodMetrics overflow = overflowMetrics;
+      if (overflow != null && requestMetrics.size() >= context.maxRequestTagsCardinality
+          && now - lastEvictionNanos < context.idleNanos()) {
+        return overflow;
+      }
+      synchronized (this) {
+        TaggedMetrics existing = requestMetrics.get(requestTags);
+        if (existing != null) {
+          existing.lastRecordedNanos = now;
+          return existing.metrics;
+        }
+        if (requestMetrics.size() >= context.maxRequestTagsCardinality) {
+          evictIdleMetrics(now);
+          if (requestMetrics.size() >= context.maxRequestTagsCardinality) {
+            if (overflowMetrics == null) {
+              overflowMetrics = new MethodMetrics(context.method, context.performanceMetric,
+                  context.metrics, context.metricGrpPrefix, context.metricTags,
+                  OVERFLOW_REQUEST_TAGS, context.hdrLatencyPercentiles, context.requestPhases);
+            }
+            return overflowMetrics;
+          }
+        }
+        SortedMap<String, String> key = new TreeMap<>(requestTags);
+        TaggedMetrics added = newTaggedMetrics(key, now);
+        requestMetrics.put(key, added);
+        return added.metrics;
+      }
+    }
+
+    private void evictIdleMetrics(long now) {
+      if (now - lastEvictionNanos < context.idleNanos()) {
+        return;
+      }
+      lastEvictionNanos = now;
+      Iterator<TaggedMetrics> iterator = requestMetrics.values().iterator();
+      while (iterator.hasNext()) {
+        TaggedMetrics idle = iterator.next();
+        if (now - idle.lastRecordedNanos >= context.idleNanos()) {
+          iterator.remove();
+          idle.metrics.remove(context.metrics);
+        }
+      }
+    }
+
+    private TaggedMetrics newTaggedMetrics(SortedMap<String, String> requestTags, long now) {
+      return new TaggedMetrics(new MethodMetrics(context.method, context.performanceMetric,
+          context.metrics, context.metricGrpPrefix, context.metricTags, requestTags,
+          context.hdrLatencyPercentiles, context.requestPhases), now);
+    }
+  }
+
+  private static class TaggedMetrics {
+    private final MethodMetrics metrics;
+    private volatile long lastRecordedNanos;
+
+    TaggedMetrics(MethodMetrics metrics, long lastRecordedNanos) {
+      this.metrics = metrics;
+      this.lastRecordedNanos = lastRecordedNanos;
+    }
   }
 
   private static class ConstructionContext {
@@ -195,6 +344,10 @@ public class MetricsResourceMethodApplicationListener implements ApplicationEven
     private final Map<String, String> metricTags;
     private final String metricGrpPrefix;
     private final Metrics metrics;
+    private final Time time;
+    private final boolean hdrLatencyPercentiles;
+    private final int maxRequestTagsCardinality;
+    private final boolean requestPhases;
 
     public ConstructionContext(MetricsResourceMethodApplicationListener methodAppListener) {
       this(null, null, methodAppListener);
@@ -210,6 +363,15 @@ public class MetricsResourceMethodApplicationListener implements ApplicationEven
       this.metrics = methodAppListener.metrics;
       this.metricTags = methodAppListener.metricTags;
       this.metricGrpPrefix = methodAppListener.metricGrpPrefix;
+      this.time = methodAppListener.time;
+      this.hdrLatencyPercentiles = methodAppListener.hdrLatencyPercentiles;
+      this.maxRequestTagsCardinality = methodAppListener.maxRequestTagsCardinality;
+      this.requestPhases = methodAppListener.requestPhases;
+    }
+
+    private long idleNanos() {
+      MetricConfig config = metrics.config();
+      return TimeUnit.MILLISECONDS.toNanos(config.timeWindowMs() * config.samples());
     }
   }
 
@@ -226,25 +388,30 @@ public class MetricsResourceMethodApplicationListener implements ApplicationEven
     private final Sensor responseSizeSensor;
     private final Sensor requestLatencySensor;
     private final Sensor errorSensor;
+    // Indexed by RequestPhase ordinal, null unless request phases are recorded.
+    private final Sensor[] phaseSensors;
     private final Map<String, Sensor> responseLatencySloSlaSensors = new HashMap<>(4);
     private final Map<String, Sensor> errorSensorByStatus =
         new HashMap<>(HTTP_STATUS_CODE_TEXT.length);
     private final boolean enableLatencySloSla;
-    private final long latencySloMs;
-    private final long latencySlaMs;
+    private final long latencySloNanos;
+    private final long latencySlaNanos;
     private final double percentileMaxLatencyInMs;
 
     public MethodMetrics(ResourceMethod method, PerformanceMetric annotation, Metrics metrics,
                          String metricGrpPrefix, Map<String, String> metricTags,
-                         Map<String, String> requestTags) {
+                         Map<String, String> requestTags, boolean hdrLatencyPercentiles,
+                         boolean requestPhases) {
       this(method, annotation, metrics, metricGrpPrefix, metricTags, requestTags, false,
-              0L, 0L, 10000);
+              0L, 0L, 10000, hdrLatencyPercentiles, requestPhases);
     }
 
     public MethodMetrics(ResourceMethod method, PerformanceMetric annotation, Metrics metrics,
                          String metricGrpPrefix, Map<String, String> metricTags,
                          Map<String, String> requestTags, boolean enableLatencySloSla,
-                         long latencySloMs, long latencySlaMs, double percentileMaxLatencyInMs) {
+                         long latencySloNanos, long latencySlaNanos,
+                         double percentileMaxLatencyInMs, boolean hdrLatencyPercentiles,
+                         boolean requestPhases) {
       String metricGrpName = metricGrpPrefix + "-metrics";
       // The tags will be used to generate MBean names if JmxReporter is used,
       // sort to get consistent names
@@ -312,28 +479,52 @@ public class MetricsResourceMethodApplicationListener implements ApplicationEven
       this.requestLatencySensor.add(metricName, new Max());
 
       this.enableLatencySloSla = enableLatencySloSla;
-      this.latencySloMs = latencySloMs;
-      this.latencySlaMs = latencySlaMs;
+      this.latencySloNanos = latencySloNanos;
+      this.latencySlaNanos = latencySlaNanos;
       this.percentileMaxLatencyInMs = percentileMaxLatencyInMs;
       if (enableLatencySloSla) {
         setResponseLatencySloSlaSensors(method, annotation, metrics, requestTags,
             metricGrpName, allTags);
       }
 
-      Percentiles percs = new Percentiles(Float.SIZE / 8 * PERCENTILE_NUM_BUCKETS,
-          0.0,
-          percentileMaxLatencyInMs,
-          Percentiles.BucketSizing.LINEAR,
-          new Percentile(new MetricName(
-              getName(method, annotation, "request-latency-95"), metricGrpName,
-              "The 95th percentile request latency in ms", allTags), 95),
-          new Percentile(new MetricName(
-              getName(method, annotation, "request-latency-99"), metricGrpName,
-              "The 99th percentile request latency in ms", allTags), 99));
-      this.requestLatencySensor.add(percs);
+      Percentile p95 = new Percentile(new MetricName(
+          getName(method, annotation, "request-latency-95"), metricGrpName,
+          "The 95th percentile request latency in ms", allTags), 95);
+      Percentile p99 = new Percentile(new MetricName(
+          getName(method, annotation, "request-latency-99"), metricGrpName,
+          "The 99th percentile request latency in ms", allTags), 99);
+      if (hdrLatencyPercentiles) {
+        this.requestLatencySensor.add(new HdrPercentiles(p95, p99));
+      } else {
+        this.requestLatencySensor.add(new Percentiles(Float.SIZE / 8 * PERCENTILE_NUM_BUCKETS,
+            0.0,
+            percentileMaxLatencyInMs,
+            Percentiles.BucketSizing.LINEAR,
+            p95, p99));
+      }
 
       setErrorSensorByStatus(method, annotation, metrics, requestTags, metricGrpName, allTags);
 
+      if (requestPhases) {
+        this.phaseSensors = new Sensor[RequestPhase.VALUES.length];
+        for (RequestPhase phase : RequestPhase.VALUES) {
+          Sensor sensor = metrics.sensor(
+              getName(method, annotation, phase.metricName + "-latency", requestTags),
+              null, SENSOR_EXPIRY_SECONDS, Sensor.RecordingLevel.INFO, (Sensor[]) null);
+          metricName = new MetricName(
+              getName(method, annotation, phase.metricName + "-latency-avg"), metricGrpName,
+              "The average time in ms requests spent " + phase.description, allTags);
+          sensor.add(metricName, new Avg());
+          metricName = new MetricName(
+              getName(method, annotation, phase.metricName + "-latency-max"), metricGrpName,
+              "The maximum time in ms requests spent " + phase.description, allTags);
+          sensor.add(metricName, new Max());
+          this.phaseSensors[phase.ordinal()] = sensor;
+        }
+      } else {
+        this.phaseSensors = null;
+      }
+
       this.errorSensor = metrics.sensor(getName(method, annotation, "errors", requestTags),
           null, SENSOR_EXPIRY_SECONDS, Sensor.RecordingLevel.INFO, (Sensor[]) null);
       metricName = new MetricName(
@@ -433,19 +624,19 @@ public class MetricsResourceMethodApplicationListener implements ApplicationEven
     /**
      * Indicate that a request has finished successfully.
      */
-    public void finished(long requestSize, long responseSize, long latencyMs) {
+    public void finished(long requestSize, long responseSize, long latencyNanos) {
       requestSizeSensor.record(requestSize);
       responseSizeSensor.record(responseSize);
-      requestLatencySensor.record(latencyMs);
+      requestLatencySensor.record(latencyNanos / (double) NANOS_PER_MILLI);
 
       if (enableLatencySloSla) {
-        if (latencyMs < latencySloMs) {
+        if (latencyNanos < latencySloNanos) {
           responseLatencySloSlaSensors.get(RESPONSE_BELOW_LATENCY_SLO).record();
         } else {
           responseLatencySloSlaSensors.get(RESPONSE_ABOVE_LATENCY_SLO).record();
         }
 
-        if (latencyMs < latencySlaMs) {
+        if (latencyNanos < latencySlaNanos) {
           responseLatencySloSlaSensors.get(RESPONSE_BELOW_LATENCY_SLA).record();
         } else {
           responseLatencySloSlaSensors.get(RESPONSE_ABOVE_LATENCY_SLA).record();
@@ -453,6 +644,42 @@ public class MetricsResourceMethodApplicationListener implements ApplicationEven
       }
     }
 
+    /**
+     * Removes the sensors of these metrics from the registry, along with their metrics.
+     */
+    public void remove(Metrics metrics) {
+      metrics.removeSensor(requestSizeSensor.name());
+      metrics.removeSensor(responseSizeSensor.name());
+      metrics.removeSensor(requestLatencySensor.name());
+      metrics.removeSensor(errorSensor.name());
+      for (Sensor sensor : responseLatencySloSlaSensors.values()) {
+        metrics.removeSensor(sensor.name());
+      }
+      for (Sensor sensor : errorSensorByStatus.values()) {
+        metrics.removeSensor(sensor.name());
+      }
+      if (phaseSensors != null) {
+        for (Sensor sensor : phaseSensors) {
+          metrics.removeSensor(sensor.name());
+        }
+      }
+    }
+
+    /**
+     * Records the time a request spent in each phase, in nanoseconds, or -1 for phases it did
+     * not go through.
+     */
+    public void phases(long[] phaseNanos) {
+      if (phaseSensors == null) {
+        return;
+      }
+      for (int i = 0; i < phaseSensors.length; i++) {
+        if (phaseNanos[i] >= 0) {
+          phaseSensors[i].record(phaseNanos[i] / (double) NANOS_PER_MILLI);
+        }
+      }
+    }
+
     /**
      * Indicate that a request has failed with an exception.
      */
@@ -522,98 +749,259 @@ public class MetricsResourceMethodApplicationListener implements ApplicationEven
     }
   }
 
+  /**
+   * The phases of handling a request that are timed separately. They do not overlap, and together
+   * cover the whole request from when Jetty started to handle it.
+   */
+  private enum RequestPhase {
+    HANDLERS("handlers", "in the Jetty handlers in front of the servlet filters, e.g. "
+        + "authenticating"),
+    FILTERS("filters", "in the servlet filters, e.g. being delayed by a DoS filter"),
+    MATCHING("matching", "in Jersey pre-matching filters and being matched to a resource method"),
+    REQUEST_FILTERS("request-filters", "in Jersey request filters"),
+    ENTITY_READ("entity-read", "reading and deserializing the request entity"),
+    RESOURCE_METHOD("resource-method", "in the resource method, without reading the entity"),
+    RESPONSE_FILTERS("response-filters", "in Jersey response filters"),
+    RESPONSE_WRITE("response-write", "serializing and writing the response entity");
+
+    static final RequestPhase[] VALUES = values();
+
+    final String metricName;
+    final String description;
+
+    RequestPhase(String metricName, String description) {
+      this.metricName = metricName;
+      this.description = description;
+    }
+  }
+
   private static class MetricsRequestEventListener implements RequestEventListener {
 
+    private static final long UNSET = Long.MIN_VALUE;
+
+    private final MetricsResourceMethodApplicationListener applicationListener;
     private final Time time;
     private final Map<Method, RequestScopedMetrics> metrics;
-    private long started;
-    private CountingInputStream wrappedRequestStream;
-    private CountingOutputStream wrappedResponseStream;
     private final boolean enableGlobalStatsRequestTags;
     private final boolean disableResponseSizeMetricsCollection;
-    private Map<String, String> capturedRequestTags = emptyMap();
+    private final boolean highResolutionLatency;
+    private final boolean requestPhases;
+    // Owned by the listener and pointed at the entity streams of each request it is used for.
+    private final CountingInputStream requestStream = new CountingInputStream();
+    private final CountingOutputStream responseStream = new CountingOutputStream();
 
-    private MetricsRequestEventListener(final Map<Method, RequestScopedMetrics> metrics, Time time,
-        boolean enableGlobalStatsRequestTags, boolean disableResponseSizeMetricsCollection) {
-      this.metrics = metrics;
-      this.time = time;
-      this.enableGlobalStatsRequestTags = enableGlobalStatsRequestTags;
-      this.disableResponseSizeMetricsCollection = disableResponseSizeMetricsCollection;
+    // In nanoseconds of the monotonic clock if highResolutionLatency, else in milliseconds.
+    private long started;
+    private boolean requestStreamWrapped;
+    private boolean responseStreamWrapped;
+    // Resolved once the request tags are known, at the start of the resource method.
+    private MethodMetrics globalMetrics;
+    private MethodMetrics methodMetrics;
+    // When the request reached each event, in nanoseconds, if requestPhases.
+    private long jerseyStartNanos;
+    private long matchedNanos;
+    private long methodStartNanos;
+    private long methodFinishedNanos;
+    private long responseFiltersStartNanos;
+    private long responseFiltersFinishedNanos;
+    private final long[] phaseNanos;
+
+    private MetricsRequestEventListener(
+        MetricsResourceMethodApplicationListener applicationListener) {
+      this.applicationListener = applicationListener;
+      this.metrics = applicationListener.methodMetrics;
+      this.time = applicationListener.time;
+      this.enableGlobalStatsRequestTags = applicationListener.enableGlobalStatsRequestTags;
+      this.disableResponseSizeMetricsCollection =
+          applicationListener.disableResponseSizeMetricsCollection;
+      this.highResolutionLatency = applicationListener.highResolutionLatency;
+      this.requestPhases = applicationListener.requestPhases;
+      this.phaseNanos = requestPhases ? new long[RequestPhase.VALUES.length] : null;
+      if (requestPhases) {
+        requestStream.timeReads(time);
+      }
+    }
+
+    private void start() {
       // CIAM-2673: if an exception occur in a filter that runs before this method listener,
       // MATCHING_START is never reached, resulting in false latency metrics
-      this.started = time.milliseconds();
+      this.started = highResolutionLatency ? time.nanoseconds() : time.milliseconds();
+      if (requestPhases) {
+        jerseyStartNanos = time.nanoseconds();
+        matchedNanos = UNSET;
+        methodStartNanos = UNSET;
+        methodFinishedNanos = UNSET;
+        responseFiltersStartNanos = UNSET;
+        responseFiltersFinishedNanos = UNSET;
+      }
+    }
+
+    private void recycle() {
+      requestStream.reset(null);
+      responseStream.reset(null);
+      requestStreamWrapped = false;
+      responseStreamWrapped = false;
+      globalMetrics = null;
+      methodMetrics = null;
+      applicationListener.recycle(this);
     }
 
     @Override
     public void onEvent(RequestEvent event) {
       if (event.getType() == RequestEvent.Type.MATCHING_START) {
         final ContainerRequest request = event.getContainerRequest();
-        wrappedRequestStream = new CountingInputStream(request.getEntityStream());
-        request.setEntityStream(wrappedRequestStream);
+        requestStream.reset(request.getEntityStream());
+        request.setEntityStream(requestStream);
+        requestStreamWrapped = true;
       } else if (event.getType() == RequestEvent.Type.RESOURCE_METHOD_START) {
-        Map<String, String> tempCapturedRequestTags = safeGet(() -> {
-          Object tagsObj = event.getContainerRequest().getProperty(REQUEST_TAGS_PROP_KEY);
-          if (tagsObj instanceof Map) {
-            return new HashMap<>((Map<String, String>) tagsObj);
-          } else {
-            return emptyMap();
-          }
-        }, "request tags");
-        this.capturedRequestTags = Objects.requireNonNullElse(tempCapturedRequestTags, emptyMap());
+        if (requestPhases) {
+          methodStartNanos = time.nanoseconds();
+        }
+        resolveMetrics(event, getRequestTags(event));
       } else if (event.getType() == RequestEvent.Type.RESP_FILTERS_START) {
+        if (requestPhases) {
+          responseFiltersStartNanos = time.nanoseconds();
+        }
         // Temporary workaround to prevent response does not exist 500 error (inc3209)
         // TODO: remove this workaround once KNET-19746 is resolved
         if (!this.disableResponseSizeMetricsCollection) {
           final ContainerResponse response = event.getContainerResponse();
-          wrappedResponseStream = new CountingOutputStream(response.getEntityStream());
-          response.setEntityStream(wrappedResponseStream);
+          responseStream.reset(response.getEntityStream());
+          response.setEntityStream(responseStream);
+          responseStreamWrapped = true;
         }
+      } else if (requestPhases && event.getType() == RequestEvent.Type.REQUEST_MATCHED) {
+        matchedNanos = time.nanoseconds();
+      } else if (requestPhases && event.getType() == RequestEvent.Type.RESOURCE_METHOD_FINISHED) {
+        methodFinishedNanos = time.nanoseconds();
+      } else if (requestPhases && event.getType() == RequestEvent.Type.RESP_FILTERS_FINISHED) {
+        responseFiltersFinishedNanos = time.nanoseconds();
       } else if (event.getType() == RequestEvent.Type.FINISHED) {
-        processFinishedEvent(event);
+        try {
+          processFinishedEvent(event);
+        } finally {
+          // Chunked responses, e.g. server-sent events, write through the response stream after
+          // the request finished, so the listener and its streams must not be reused.
+          if (!isChunked(event.getContainerResponse())) {
+            recycle();
+          }
+        }
       }
     }
 
-    private void processFinishedEvent(RequestEvent event) {
-      final long elapsed = time.milliseconds() - started;
-      Long tempRequestSize = safeGet(() -> {
-        if (wrappedRequestStream != null) {
-          return (long) wrappedRequestStream.size();
-        }
-        return 0L;
-      }, "request size");
+    private static boolean isChunked(ContainerResponse response) {
+      return response != null && response.isChunked();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> getRequestTags(RequestEvent event) {
+      try {
+        Object tagsObj = event.getContainerRequest().getProperty(REQUEST_TAGS_PROP_KEY);
+        return tagsObj instanceof Map ? (Map<String, String>) tagsObj : emptyMap();
+      } catch (NullPointerException e) {
+        log.error("NPE while getting request tags, potentially due to recycled request", e);
+      } catch (Exception e) {
+        log.error("Error while getting request tags", e);
+      }
+      return emptyMap();
+    }
 
-      final long requestSize = (tempRequestSize != null) ? tempRequestSize : 0L;
+    private void resolveMetrics(RequestEvent event, Map<String, String> requestTags) {
+      globalMetrics = getGlobalMetrics(requestTags);
+      methodMetrics = getMethodMetrics(event, requestTags);
+    }
 
+    private void processFinishedEvent(RequestEvent event) {
+      final long elapsedNanos = highResolutionLatency
+          ? time.nanoseconds() - started : (time.milliseconds() - started) * NANOS_PER_MILLI;
+      final long requestSize = requestStreamWrapped ? requestStream.size() : 0L;
       // nothing guarantees we always encounter an event where getContainerResponse is not null
       // in the event of dispatch errors, the error response is delegated to the servlet container
-      Long tempResponseSize = safeGet(() -> {
-        if (wrappedResponseStream != null) {
-          return (long) wrappedResponseStream.size();
-        }
-        return 0L;
-      }, "response size");
-
-      final long responseSize = (tempResponseSize != null) ? tempResponseSize : 0L;
+      final long responseSize = responseStreamWrapped ? responseStream.size() : 0L;
 
-      final MethodMetrics globalMetrics =
-              Objects.requireNonNull(getGlobalMetrics(this.capturedRequestTags));
+      if (globalMetrics == null) {
+        // The resource method never started, e.g. because a filter failed.
+        resolveMetrics(event, emptyMap());
+      }
       // Handle exceptions
       if (event.getException() != null) {
         globalMetrics.exception(event);
-
-        // get RequestScopedMetrics for a single resource method
-        final MethodMetrics metrics = getMethodMetrics(event, this.capturedRequestTags);
-        if (metrics != null) {
-          metrics.exception(event);
+        if (methodMetrics != null) {
+          methodMetrics.exception(event);
         }
       }
 
       // give a 0 metric for errorSensor
-      globalMetrics.finished(requestSize, responseSize, elapsed);
-      final MethodMetrics metrics = getMethodMetrics(event, this.capturedRequestTags);
-      if (metrics != null) {
-        metrics.finished(requestSize, responseSize, elapsed);
+      globalMetrics.finished(requestSize, responseSize, elapsedNanos);
+      if (methodMetrics != null) {
+        methodMetrics.finished(requestSize, responseSize, elapsedNanos);
+      }
+
+      if (requestPhases) {
+        computePhases(event.getContainerRequest());
+        globalMetrics.phases(phaseNanos);
+        if (methodMetrics != null) {
+          methodMetrics.phases(phaseNanos);
+        }
+        event.getContainerRequest().setProperty(REQUEST_PHASES_ATTRIBUTE, formatPhases());
+      }
+    }
+
+    private void computePhases(ContainerRequest request) {
+      long finishedNanos = time.nanoseconds();
+      long beginNanos = getNanos(request, RequestPhaseTimingFilter.BEGIN_NANOS_ATTRIBUTE);
+      long filtersStartNanos =
+          getNanos(request, RequestPhaseTimingFilter.FILTERS_START_NANOS_ATTRIBUTE);
+      long entityReadNanos = requestStreamWrapped
+          ? between(requestStream.firstReadNanos, requestStream.lastReadNanos) : -1;
+
+      phaseNanos[RequestPhase.HANDLERS.ordinal()] = between(beginNanos, filtersStartNanos);
+      phaseNanos[RequestPhase.FILTERS.ordinal()] = between(filtersStartNanos, jerseyStartNanos);
+      phaseNanos[RequestPhase.MATCHING.ordinal()] = between(jerseyStartNanos, matchedNanos);
+      phaseNanos[RequestPhase.REQUEST_FILTERS.ordinal()] =
+          between(matchedNanos, methodStartNanos);
+      phaseNanos[RequestPhase.ENTITY_READ.ordinal()] = entityReadNanos;
+      long methodNanos = between(methodStartNanos, methodFinishedNanos);
+      if (methodNanos >= 0 && entityReadNanos >= 0
+          && requestStream.firstReadNanos - methodStartNanos >= 0
+          && methodFinishedNanos - requestStream.lastReadNanos >= 0) {
+        methodNanos -= entityReadNanos;
+      }
+      phaseNanos[RequestPhase.RESOURCE_METHOD.ordinal()] = methodNanos;
+      phaseNanos[RequestPhase.RESPONSE_FILTERS.ordinal()] =
+          between(responseFiltersStartNanos, responseFiltersFinishedNanos);
+      phaseNanos[RequestPhase.RESPONSE_WRITE.ordinal()] =
+          between(responseFiltersFinishedNanos, finishedNanos);
+    }
+
+    private static long getNanos(ContainerRequest request, String attribute) {
+      Object nanos = request.getProperty(attribute);
+      return nanos instanceof Long ? (Long) nanos : UNSET;
+    }
+
+    private static long between(long fromNanos, long toNanos) {
+      if (fromNanos == UNSET || toNanos == UNSET) {
+        return -1;
       }
+      return Math.max(0, toNanos - fromNanos);
+    }
+
+    /**
+     * Formats the phases the request went through as space separated phase=microseconds pairs.
+     */
+    private String formatPhases() {
+      StringBuilder builder = new StringBuilder(128);
+      for (RequestPhase phase : RequestPhase.VALUES) {
+        long nanos = phaseNanos[phase.ordinal()];
+        if (nanos >= 0) {
+          if (builder.length() > 0) {
+            builder.append(' ');
+          }
+          builder.append(phase.metricName).append('=')
+              .append(TimeUnit.NANOSECONDS.toMicros(nanos));
+        }
+      }
+      return builder.toString();
     }
 
     private MethodMetrics getGlobalMetrics(Map<String, String> capturedRequestTags) {
@@ -626,41 +1014,60 @@ public class MetricsResourceMethodApplicationListener implements ApplicationEven
 
     private MethodMetrics getMethodMetrics(RequestEvent event,
                                            Map<String, String> capturedRequestTags) {
-      ResourceMethod method =
-              safeGet(() -> event.getUriInfo().getMatchedResourceMethod(),
-                      "matched resource method or URI info");
-      if (method == null) {
-        return null;
-      }
-
-      RequestScopedMetrics requestScopedMetrics = safeGet(() ->
-                      this.metrics.get(method.getInvocable().getDefinitionMethod()),
-              "request scoped metrics");
-      if (requestScopedMetrics == null) {
-        return null;
-      }
-
-      return requestScopedMetrics.metrics(capturedRequestTags);
-    }
-
-    private <T> T safeGet(Supplier<T> supplier, String operationName) {
       try {
-        return supplier.get();
+        ResourceMethod method = event.getUriInfo().getMatchedResourceMethod();
+        if (method == null) {
+          return null;
+        }
+        RequestScopedMetrics requestScopedMetrics =
+            this.metrics.get(method.getInvocable().getDefinitionMethod());
+        if (requestScopedMetrics == null) {
+          return null;
+        }
+        return requestScopedMetrics.metrics(capturedRequestTags);
       } catch (NullPointerException e) {
-        log.error("NPE while getting {}, potentially due to recycled request", operationName, e);
-        return null;
+        log.error("NPE while getting request scoped metrics, potentially due to recycled request",
+            e);
       } catch (Exception e) {
-        log.error("Error while getting {}", operationName, e);
-        return null;
+        log.error("Error while getting request scoped metrics", e);
       }
+      return null;
     }
 
     private static class CountingInputStream extends FilterInputStream {
       private long count = 0;
       private long mark = 0;
+      // Times the first and last read if set.
+      private Time readTime;
+      private long firstReadNanos = UNSET;
+      private long lastReadNanos = UNSET;
 
-      public CountingInputStream(InputStream is) {
-        super(is);
+      public CountingInputStream() {
+        super(null);
+      }
+
+      void reset(InputStream is) {
+        in = is;
+        count = 0;
+        mark = 0;
+        firstReadNanos = UNSET;
+        lastReadNanos = UNSET;
+      }
+
+      void timeReads(Time time) {
+        this.readTime = time;
+      }
+
+      private void beforeRead() {
+        if (readTime != null && firstReadNanos == UNSET) {
+          firstReadNanos = readTime.nanoseconds();
+        }
+      }
+
+      private void afterRead() {
+        if (readTime != null) {
+          lastReadNanos = readTime.nanoseconds();
+        }
       }
 
       public long size() {
@@ -669,7 +1076,9 @@ public class MetricsResourceMethodApplicationListener implements ApplicationEven
 
       @Override
       public int read() throws IOException {
+        beforeRead();
         int b = super.read();
+        afterRead();
         count++;
         return b;
       }
@@ -679,7 +1088,9 @@ public class MetricsResourceMethodApplicationListener implements ApplicationEven
 
       @Override
       public int read(byte[] bytes, int off, int len) throws IOException {
+        beforeRead();
         int nread = super.read(bytes, off, len);
+        afterRead();
         if (nread > 0) {
           count += nread;
         }
@@ -706,22 +1117,21 @@ public class MetricsResourceMethodApplicationListener implements ApplicationEven
       }
     }
 
-    private static class CountingOutputStream extends FilterOutputStream {
+    // Not a FilterOutputStream: from JDK 9 its close() only closes the underlying stream once,
+    // and the listener points this stream at the response of each request it is reused for.
+    private static class CountingOutputStream extends OutputStream {
+      private OutputStream out;
       private long count = 0;
 
-      public CountingOutputStream(OutputStream os) {
-        super(os);
+      void reset(OutputStream os) {
+        out = os;
+        count = 0;
       }
 
       public long size() {
         return count;
       }
 
-      // Note that we override all of these even though FilterOutputStream only requires
-      // overriding the first to avoid doing byte-by-byte handling of the stream. Do NOT call
-      // super.write() for these as they will convert everything into a series of write(int)
-      // calls and wreck performance.
-
       @Override
       public void write(int b) throws IOException {
         count++;
@@ -739,6 +1149,16 @@ public class MetricsResourceMethodApplicationListener implements ApplicationEven
         count += len;
         out.write(bytes, off, len);
       }
+
+      @Override
+      public void flush() throws IOException {
+        out.flush();
+      }
+
+      @Override
+      public void close() throws IOException {
+        out.close();
+      }
     }
   }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.metrics;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import java.io.IOException;
+import org.apache.kafka.common.utils.Time;
+import org.eclipse.jetty.ee10.servlet.ServletContextRequest;
+
+/**
+ * Stamps each request with when Jetty started to handle it and when it reached the servlet
+ * filters, so that {@link MetricsResourceMethodApplicationListener} can tell the time spent in
+ * the handlers in front of the filters, e.g. authenticating in the security handler, from the
+ * time spent in the filters, e.g. being delayed by a DoS filter. Must be the first filter.
+ *
+ * <p>Jetty takes the time it started to handle a request from {@link System#nanoTime()}, so
+ * {@code time} should be {@link Time#SYSTEM} outside of tests.
+ */
+public class RequestPhaseTimingFilter implements Filter {
+
+  public static final String BEGIN_NANOS_ATTRIBUTE = "io.confluent.rest.request.begin.nanos";
+  public static final String FILTERS_START_NANOS_ATTRIBUTE =
+      "io.confluent.rest.request.filters.start.nanos";
+
+  private final Time time;
+
+  public RequestPhaseTimingFilter(Time time) {
+    this.time = time;
+  }
+
+  @Override
+  public void init(final FilterConfig filterConfig) throws ServletException {
+    // do nothing
+  }
+
+  @Override
+  public void doFilter(final ServletRequest request, final ServletResponse response,
+      final FilterChain chain)
+      throws IOException, ServletException {
+    ServletContextRequest servletContextRequest =
+        ServletContextRequest.getServletContextRequest(request);
+    if (servletContextRequest != null) {
+      request.setAttribute(BEGIN_NANOS_ATTRIBUTE, servletContextRequest.getBeginNanoTime());
+    }
+    request.setAttribute(FILTERS_START_NANOS_ATTRIBUTE, time.nanoseconds());
+    chain.doFilter(request, response);
+  }
+
+  @Override
+  public void destroy() {
+    // do nothing
+  }
+}
@@ -18,5 +18,6 @@ package io.confluent.rest.ratelimit;
 
 public enum NetworkTrafficRateLimitBackend {
   GUAVA,
-  RESILIENCE4J
+  RESILIENCE4J,
+  TOKEN_BUCKET
 }
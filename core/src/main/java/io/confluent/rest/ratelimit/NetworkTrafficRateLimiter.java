@@ -18,5 +18,19 @@ package io.confluent.rest.ratelimit;
 
 public interface NetworkTrafficRateLimiter {
 
+  /**
+   * Consumes {@code cost} bytes from the budget, blocking the calling thread until they are
+   * available.
+   */
   void rateLimit(int cost);
+
+  /**
+   * Consumes {@code cost} bytes from the budget without blocking the calling thread.
+   *
+   * @return how long, in nanoseconds, the caller should wait before consuming more bytes
+   */
+  default long reserve(int cost) {
+    rateLimit(cost);
+    return 0;
+  }
 }
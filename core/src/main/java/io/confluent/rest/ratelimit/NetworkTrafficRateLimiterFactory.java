@@ -16,10 +16,15 @@
 
 package io.confluent.rest.ratelimit;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.Uninterruptibles;
 import io.confluent.rest.RestConfig;
 import io.github.resilience4j.ratelimiter.RateLimiterConfig;
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 public final class NetworkTrafficRateLimiterFactory {
 
@@ -33,13 +38,22 @@ public final class NetworkTrafficRateLimiterFactory {
       case GUAVA:
         return GuavaNetworkTrafficRateLimiter.create(bytesPerSecond);
       case RESILIENCE4J:
-        return Resilience4JNetworkTrafficRateLimiter.create(bytesPerSecond);
+        return restConfig.getNetworkTrafficRateLimitNonBlockingEnable()
+            ? Resilience4JNetworkTrafficRateLimiter.createNonBlocking(bytesPerSecond)
+            : Resilience4JNetworkTrafficRateLimiter.create(bytesPerSecond);
+      case TOKEN_BUCKET:
+        return TokenBucketNetworkTrafficRateLimiter.create(bytesPerSecond);
       default:
         throw new AssertionError("Unknown enum constant: "
             + restConfig.getNetworkTrafficRateLimitBackend());
     }
   }
 
+  /**
+   * Guava cannot tell how long the bytes already owed take to pay off without waiting for them,
+   * so this limiter always blocks the thread that read the bytes. {@link RestConfig} rejects it
+   * when rate-limiting is non-blocking.
+   */
   static final class GuavaNetworkTrafficRateLimiter implements NetworkTrafficRateLimiter {
 
     private final RateLimiter delegate;
@@ -60,18 +74,39 @@ public final class NetworkTrafficRateLimiterFactory {
 
   static final class Resilience4JNetworkTrafficRateLimiter implements NetworkTrafficRateLimiter {
 
+    private static final Duration RESERVATION_TIMEOUT = Duration.ofDays(1);
+
     private final io.github.resilience4j.ratelimiter.RateLimiter delegate;
 
     Resilience4JNetworkTrafficRateLimiter(io.github.resilience4j.ratelimiter.RateLimiter delegate) {
       this.delegate = delegate;
     }
 
+    /**
+     * Creates a limiter that waits for the bytes for up to the default timeout of Resilience4j,
+     * after which it lets them through.
+     */
     static Resilience4JNetworkTrafficRateLimiter create(int bytesPerSecond) {
-      RateLimiterConfig config =
-          RateLimiterConfig.custom()
-              .limitRefreshPeriod(Duration.ofSeconds(1))
-              .limitForPeriod(bytesPerSecond)
-              .build();
+      return create(RateLimiterConfig.custom()
+          .limitRefreshPeriod(Duration.ofSeconds(1))
+          .limitForPeriod(bytesPerSecond)
+          .build());
+    }
+
+    /**
+     * Creates a limiter to {@link #reserve} bytes with. The bytes have been read already, so
+     * their reservation must never time out without charging them. Waiting for them with
+     * {@link #rateLimit} could then block the calling thread for that long.
+     */
+    static Resilience4JNetworkTrafficRateLimiter createNonBlocking(int bytesPerSecond) {
+      return create(RateLimiterConfig.custom()
+          .limitRefreshPeriod(Duration.ofSeconds(1))
+          .limitForPeriod(bytesPerSecond)
+          .timeoutDuration(RESERVATION_TIMEOUT)
+          .build());
+    }
+
+    private static Resilience4JNetworkTrafficRateLimiter create(RateLimiterConfig config) {
       return new Resilience4JNetworkTrafficRateLimiter(
           io.github.resilience4j.ratelimiter.RateLimiter.of(
               "Resilience4JNetworkTrafficRateLimiter", config)
@@ -82,5 +117,63 @@ public final class NetworkTrafficRateLimiterFactory {
     public void rateLimit(final int cost) {
       delegate.acquirePermission(cost);
     }
+
+    @Override
+    public long reserve(final int cost) {
+      return Math.max(0, delegate.reservePermission(cost));
+    }
+  }
+
+  /**
+   * A token bucket holding up to one second worth of bytes, refilled continuously with
+   * nanosecond precision. Its whole state is the time from which the bucket has been filling up
+   * since it was last empty, updated with a single compare-and-set, so contending threads never
+   * block each other and the budget does not reset in bursts at second boundaries.
+   */
+  static final class TokenBucketNetworkTrafficRateLimiter implements NetworkTrafficRateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final long bytesPerSecond;
+    private final LongSupplier nanoClock;
+    // The time from which the bucket has been filling up at bytesPerSecond. It lies in the
+    // future while bytes are owed, and more than one second in the past when the bucket is full.
+    private final AtomicLong emptyAtNanos;
+
+    @VisibleForTesting
+    TokenBucketNetworkTrafficRateLimiter(long bytesPerSecond, LongSupplier nanoClock) {
+      this.bytesPerSecond = bytesPerSecond;
+      this.nanoClock = nanoClock;
+      this.emptyAtNanos = new AtomicLong(nanoClock.getAsLong() - NANOS_PER_SECOND);
+    }
+
+    static TokenBucketNetworkTrafficRateLimiter create(int bytesPerSecond) {
+      return new TokenBucketNetworkTrafficRateLimiter(bytesPerSecond, System::nanoTime);
+    }
+
+    @Override
+    public void rateLimit(final int cost) {
+      long waitNanos = reserve(cost);
+      if (waitNanos > 0) {
+        Uninterruptibles.sleepUninterruptibly(waitNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+
+    @Override
+    public long reserve(final int cost) {
+      // Rounded up, so that reads smaller than a nanosecond's worth of bytes are not free.
+      long costNanos = (cost * NANOS_PER_SECOND + bytesPerSecond - 1) / bytesPerSecond;
+      long now = nanoClock.getAsLong();
+      long full = now - NANOS_PER_SECOND;
+      while (true) {
+        long emptyAt = emptyAtNanos.get();
+        // Idle time beyond one second does not accumulate more than a full bucket.
+        long next = Math.max(emptyAt, full) + costNanos;
+        if (emptyAtNanos.compareAndSet(emptyAt, next)) {
+          // Bytes are owed until the bucket has refilled enough to have paid for them.
+          return Math.max(0, next - now);
+        }
+      }
+    }
   }
 }
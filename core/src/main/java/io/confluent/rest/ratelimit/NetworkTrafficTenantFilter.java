@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.ratelimit;
+
+import io.confluent.rest.TenantUtils;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.net.SocketAddress;
+import org.eclipse.jetty.ee10.servlet.ServletContextRequest;
+import org.eclipse.jetty.io.Connection;
+import org.eclipse.jetty.io.EndPoint;
+
+/**
+ * Charges the network traffic of a connection to the tenant of the requests it carries, so that
+ * a {@link PerClientNetworkTrafficRateLimiter} can apply per-tenant budgets. Requests without a
+ * known tenant leave the connection charged to its remote address.
+ *
+ * <p>The tenant is extracted from the Host header or the path of the request, which the client
+ * chooses, so a client can charge its traffic to the budget of any tenant: to use up the budget
+ * of another tenant, or to spread its traffic over the budgets of many. Only enable it when the
+ * server is reached through a proxy that only forwards the requests of a tenant to its own
+ * hostname or path, so that both can be trusted.
+ */
+public class NetworkTrafficTenantFilter implements Filter {
+
+  private final PerClientNetworkTrafficRateLimiter perClientRateLimiter;
+
+  public NetworkTrafficTenantFilter(PerClientNetworkTrafficRateLimiter perClientRateLimiter) {
+    this.perClientRateLimiter = perClientRateLimiter;
+  }
+
+  @Override
+  public void init(final FilterConfig filterConfig) throws ServletException {
+    // do nothing
+  }
+
+  @Override
+  public void doFilter(final ServletRequest request, final ServletResponse response,
+      final FilterChain chain)
+      throws IOException, ServletException {
+    if (request instanceof HttpServletRequest) {
+      String tenantId = TenantUtils.extractTenantId((HttpServletRequest) request);
+      if (!TenantUtils.UNKNOWN_TENANT.equals(tenantId)) {
+        SocketAddress remote = transportRemoteAddress(request);
+        if (remote != null) {
+          perClientRateLimiter.bindTenant(remote, tenantId);
+        }
+      }
+    }
+    chain.doFilter(request, response);
+  }
+
+  @Override
+  public void destroy() {
+    // do nothing
+  }
+
+  /**
+   * Returns the remote address of the socket the request came in on. The limiters only see that
+   * socket, so neither the address reported by a PROXY protocol header nor the one of a
+   * forwarded request can be used.
+   */
+  private static SocketAddress transportRemoteAddress(ServletRequest request) {
+    ServletContextRequest servletContextRequest =
+        ServletContextRequest.getServletContextRequest(request);
+    if (servletContextRequest == null) {
+      return null;
+    }
+    Connection connection = servletContextRequest.getConnectionMetaData().getConnection();
+    if (connection == null) {
+      return null;
+    }
+    EndPoint endPoint = connection.getEndPoint();
+    while (endPoint instanceof EndPoint.Wrapper) {
+      endPoint = ((EndPoint.Wrapper) endPoint).unwrap();
+    }
+    return endPoint != null ? endPoint.getRemoteSocketAddress() : null;
+  }
+}
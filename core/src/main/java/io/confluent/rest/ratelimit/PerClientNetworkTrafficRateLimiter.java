@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.ratelimit;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.confluent.rest.RestConfig;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Keeps one {@link NetworkTrafficRateLimiter} per client, so that each client gets its own
+ * bytes/sec budget instead of sharing a single one with every other connection.
+ *
+ * <p>A connection is charged to the limiter of its remote IP address, or to the limiter of its
+ * tenant once a request on that connection identified one through {@link #bindTenant}. The
+ * limiters are bounded, the least recently used ones being evicted first. A connection keeps the
+ * limiter it is charged to even once that limiter is evicted.
+ */
+public final class PerClientNetworkTrafficRateLimiter {
+
+  private static final String ADDRESS_KEY_PREFIX = "address:";
+  private static final String TENANT_KEY_PREFIX = "tenant:";
+
+  private final Supplier<NetworkTrafficRateLimiter> limiterFactory;
+  private final Cache<String, NetworkTrafficRateLimiter> limiters;
+  // The open connections, by remote address, so that binding a tenant reaches their limiter.
+  private final Map<SocketAddress, ConnectionRateLimiter> connections =
+      new ConcurrentHashMap<>();
+
+  PerClientNetworkTrafficRateLimiter(Supplier<NetworkTrafficRateLimiter> limiterFactory,
+      int maxClients) {
+    this.limiterFactory = limiterFactory;
+    this.limiters = CacheBuilder.newBuilder().maximumSize(maxClients).build();
+  }
+
+  public static PerClientNetworkTrafficRateLimiter create(RestConfig restConfig) {
+    return new PerClientNetworkTrafficRateLimiter(
+        () -> NetworkTrafficRateLimiterFactory.create(restConfig),
+        restConfig.getNetworkTrafficRateLimitPerClientMaxClients());
+  }
+
+  /**
+   * Starts tracking the connection of the given socket, until {@link #unbind}.
+   *
+   * @return the limiter the traffic of the connection is charged to, which follows the tenant
+   *     later bound to it, so that it can be kept for the life of the connection rather than
+   *     looked up again for each read
+   */
+  public NetworkTrafficRateLimiter open(Socket socket) {
+    SocketAddress remote = socket.getRemoteSocketAddress();
+    ConnectionRateLimiter connection = new ConnectionRateLimiter(addressLimiter(remote));
+    if (remote != null) {
+      connections.put(remote, connection);
+    }
+    return connection;
+  }
+
+  /**
+   * Returns the limiter the traffic of the given socket is currently charged to.
+   */
+  public NetworkTrafficRateLimiter limiterFor(Socket socket) {
+    SocketAddress remote = socket.getRemoteSocketAddress();
+    ConnectionRateLimiter connection = remote != null ? connections.get(remote) : null;
+    return connection != null ? connection.delegate : addressLimiter(remote);
+  }
+
+  /**
+   * Charges the traffic of the open connection from {@code remote} to the given tenant.
+   */
+  public void bindTenant(SocketAddress remote, String tenantId) {
+    ConnectionRateLimiter connection = remote != null ? connections.get(remote) : null;
+    if (connection != null && !tenantId.equals(connection.tenantId)) {
+      connection.bind(tenantId, limiter(TENANT_KEY_PREFIX + tenantId));
+    }
+  }
+
+  /**
+   * Stops tracking the connection of the given socket, typically once it is closed.
+   */
+  public void unbind(Socket socket) {
+    SocketAddress remote = socket.getRemoteSocketAddress();
+    if (remote != null) {
+      connections.remove(remote);
+    }
+  }
+
+  long size() {
+    return limiters.size();
+  }
+
+  int openConnections() {
+    return connections.size();
+  }
+
+  private NetworkTrafficRateLimiter addressLimiter(SocketAddress remote) {
+    return limiter(ADDRESS_KEY_PREFIX + hostAddress(remote));
+  }
+
+  private NetworkTrafficRateLimiter limiter(String key) {
+    try {
+      return limiters.get(key, limiterFactory::get);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Failed to create rate limiter for " + key, e.getCause());
+    }
+  }
+
+  private static String hostAddress(SocketAddress remote) {
+    if (remote instanceof InetSocketAddress) {
+      InetSocketAddress address = (InetSocketAddress) remote;
+      return address.getAddress() != null
+          ? address.getAddress().getHostAddress()
+          : address.getHostString();
+    }
+    return String.valueOf(remote);
+  }
+
+  /**
+   * Charges the traffic of one connection to the limiter of its address, or of its tenant.
+   */
+  private static final class ConnectionRateLimiter implements NetworkTrafficRateLimiter {
+
+    private volatile NetworkTrafficRateLimiter delegate;
+    private volatile String tenantId;
+
+    ConnectionRateLimiter(NetworkTrafficRateLimiter delegate) {
+      this.delegate = delegate;
+    }
+
+    synchronized void bind(String tenantId, NetworkTrafficRateLimiter delegate) {
+      this.delegate = delegate;
+      this.tenantId = tenantId;
+    }
+
+    @Override
+    public void rateLimit(int cost) {
+      delegate.rateLimit(cost);
+    }
+
+    @Override
+    public long reserve(int cost) {
+      return delegate.reserve(cost);
+    }
+  }
+}
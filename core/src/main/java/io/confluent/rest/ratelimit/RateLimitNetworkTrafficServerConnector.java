@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.ratelimit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jetty.io.ByteBufferPool;
+import org.eclipse.jetty.io.ManagedSelector;
+import org.eclipse.jetty.io.NetworkTrafficListener;
+import org.eclipse.jetty.io.NetworkTrafficSocketChannelEndPoint;
+import org.eclipse.jetty.io.SocketChannelEndPoint;
+import org.eclipse.jetty.server.ConnectionFactory;
+import org.eclipse.jetty.server.NetworkTrafficServerConnector;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.util.NanoTime;
+import org.eclipse.jetty.util.thread.Scheduler;
+
+/**
+ * A {@link NetworkTrafficServerConnector} that can rate-limit incoming network traffic without
+ * blocking. Once a connection exceeds its budget, it stops reading from that connection's
+ * endpoint and only asks the selector for read interest again when the budget allows it, so the
+ * selector and the other connections it serves keep making progress.
+ *
+ * <p>Without a {@link NetworkTrafficRateLimiter} it behaves like a plain
+ * {@link NetworkTrafficServerConnector}.
+ */
+public class RateLimitNetworkTrafficServerConnector extends NetworkTrafficServerConnector {
+
+  private volatile NetworkTrafficRateLimiter rateLimiter;
+  private volatile PerClientNetworkTrafficRateLimiter perClientRateLimiter;
+
+  public RateLimitNetworkTrafficServerConnector(Server server, Executor executor,
+      Scheduler scheduler, ByteBufferPool pool, int acceptors, int selectors,
+      ConnectionFactory... factories) {
+    super(server, executor, scheduler, pool, acceptors, selectors, factories);
+  }
+
+  /**
+   * Sets the limiter shared by the connections accepted from now on, or {@code null} to stop
+   * rate-limiting new connections.
+   */
+  public void setNetworkTrafficRateLimiter(NetworkTrafficRateLimiter rateLimiter) {
+    this.rateLimiter = rateLimiter;
+  }
+
+  public NetworkTrafficRateLimiter getNetworkTrafficRateLimiter() {
+    return rateLimiter;
+  }
+
+  /**
+   * Sets the per-client limiters used by the connections accepted from now on. It takes
+   * precedence over the limiter set with {@link #setNetworkTrafficRateLimiter}.
+   */
+  public void setPerClientNetworkTrafficRateLimiter(
+      PerClientNetworkTrafficRateLimiter perClientRateLimiter) {
+    this.perClientRateLimiter = perClientRateLimiter;
+  }
+
+  public PerClientNetworkTrafficRateLimiter getPerClientNetworkTrafficRateLimiter() {
+    return perClientRateLimiter;
+  }
+
+  @Override
+  protected SocketChannelEndPoint newEndPoint(SocketChannel channel, ManagedSelector selector,
+      SelectionKey key) {
+    PerClientNetworkTrafficRateLimiter perClient = perClientRateLimiter;
+    if (perClient != null) {
+      return new RateLimitedEndPoint(channel, selector, key, getScheduler(), getIdleTimeout(),
+          getNetworkTrafficListener(), perClient.open(channel.socket())) {
+        @Override
+        public void onClose(Throwable cause) {
+          super.onClose(cause);
+          perClient.unbind(channel.socket());
+        }
+      };
+    }
+    NetworkTrafficRateLimiter limiter = rateLimiter;
+    if (limiter != null) {
+      return new RateLimitedEndPoint(channel, selector, key, getScheduler(), getIdleTimeout(),
+          getNetworkTrafficListener(), limiter);
+    }
+    return super.newEndPoint(channel, selector, key);
+  }
+
+  /**
+   * An endpoint that defers its fill interest while its connection is over the rate limit.
+   */
+  static class RateLimitedEndPoint extends NetworkTrafficSocketChannelEndPoint {
+
+    private final Scheduler scheduler;
+    private final NetworkTrafficRateLimiter rateLimiter;
+    private volatile boolean paused;
+    private volatile long resumeNanos;
+
+    RateLimitedEndPoint(SocketChannel channel, ManagedSelector selector, SelectionKey key,
+        Scheduler scheduler, long idleTimeout, NetworkTrafficListener listener,
+        NetworkTrafficRateLimiter rateLimiter) {
+      super(channel, selector, key, scheduler, idleTimeout, listener);
+      this.scheduler = scheduler;
+      this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public int fill(ByteBuffer buffer) throws IOException {
+      if (remainingPauseNanos() > 0) {
+        // Reading nothing makes the connection ask for fill interest, which is deferred below.
+        return 0;
+      }
+      int filled = super.fill(buffer);
+      if (filled > 0) {
+        long pauseNanos = rateLimiter.reserve(filled);
+        if (pauseNanos > 0) {
+          resumeNanos = NanoTime.now() + pauseNanos;
+          paused = true;
+        }
+      }
+      return filled;
+    }
+
+    @Override
+    protected void needsFillInterest() {
+      long pauseNanos = remainingPauseNanos();
+      if (pauseNanos > 0) {
+        scheduler.schedule(this::resumeFillInterest, pauseNanos, TimeUnit.NANOSECONDS);
+      } else {
+        super.needsFillInterest();
+      }
+    }
+
+    private void resumeFillInterest() {
+      if (isOpen()) {
+        super.needsFillInterest();
+      }
+    }
+
+    private long remainingPauseNanos() {
+      if (!paused) {
+        return 0;
+      }
+      long remaining = NanoTime.until(resumeNanos);
+      if (remaining <= 0) {
+        paused = false;
+        return 0;
+      }
+      return remaining;
+    }
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.tenant;
+
+import io.confluent.rest.tenant.TenantIds.CachedTenant;
+import java.security.cert.X509Certificate;
+import javax.naming.InvalidNameException;
+import javax.naming.ldap.LdapName;
+import javax.naming.ldap.Rdn;
+import javax.security.auth.x500.X500Principal;
+import org.eclipse.jetty.io.EndPoint;
+import org.eclipse.jetty.server.ConnectionMetaData;
+import org.eclipse.jetty.server.Request;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tells the tenant from the common name (CN) of the subject of the client certificate, with
+ * mutual TLS. The tenant is kept on the connection, since its client certificate does not change.
+ */
+public class ClientCertificateTenantResolver implements TenantResolver {
+
+  private static final Logger log = LoggerFactory.getLogger(ClientCertificateTenantResolver.class);
+
+  private static final String CONNECTION_ATTRIBUTE = "io.confluent.rest.tenant.certificate";
+
+  private final String idPrefix;
+
+  public ClientCertificateTenantResolver(String idPrefix) {
+    this.idPrefix = idPrefix;
+  }
+
+  @Override
+  public String resolve(Request request) {
+    Object sslSessionData = request.getAttribute(EndPoint.SslSessionData.ATTRIBUTE);
+    if (!(sslSessionData instanceof EndPoint.SslSessionData)) {
+      return null;
+    }
+    X509Certificate[] certificates = ((EndPoint.SslSessionData) sslSessionData).peerCertificates();
+    if (certificates == null || certificates.length == 0) {
+      return null;
+    }
+    X509Certificate certificate = certificates[0];
+    ConnectionMetaData connection = request.getConnectionMetaData();
+    if (connection == null) {
+      return resolve(certificate.getSubjectX500Principal());
+    }
+    CachedTenant cached = TenantIds.cached(connection, CONNECTION_ATTRIBUTE, certificate);
+    if (cached != null) {
+      return cached.tenantId;
+    }
+    return TenantIds.cache(connection, CONNECTION_ATTRIBUTE, certificate,
+        resolve(certificate.getSubjectX500Principal()));
+  }
+
+  private String resolve(X500Principal subject) {
+    try {
+      for (Rdn rdn : new LdapName(subject.getName()).getRdns()) {
+        if (rdn.getType().equalsIgnoreCase("CN")) {
+          String commonName = rdn.getValue().toString();
+          return TenantIds.extract(commonName, 0, commonName.length(), idPrefix);
+        }
+      }
+    } catch (InvalidNameException e) {
+      log.debug("Could not parse the client certificate subject '{}'", subject, e);
+    }
+    return null;
+  }
+}
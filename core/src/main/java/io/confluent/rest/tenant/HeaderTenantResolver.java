@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.tenant;
+
+import org.eclipse.jetty.server.Request;
+
+/**
+ * Tells the tenant from a request header, e.g. one set by a proxy in front of the server.
+ */
+public class HeaderTenantResolver implements TenantResolver {
+
+  private final String headerName;
+  private final String idPrefix;
+
+  public HeaderTenantResolver(String headerName, String idPrefix) {
+    this.headerName = headerName;
+    this.idPrefix = idPrefix;
+  }
+
+  @Override
+  public String resolve(Request request) {
+    String value = request.getHeaders().get(headerName);
+    return value != null ? TenantIds.extract(value, 0, value.length(), idPrefix) : null;
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.tenant;
+
+import io.confluent.rest.tenant.TenantIds.CachedTenant;
+import org.eclipse.jetty.server.ConnectionMetaData;
+import org.eclipse.jetty.server.Request;
+
+/**
+ * Tells the tenant from the start of the hostname the request was sent to, as with V4
+ * networking, e.g. {@code lkc-6787w2} from
+ * {@code lkc-6787w2-env5qj75n.us-west-2.aws.private.glb.stag.cpdev.cloud}.
+ *
+ * <p>The hostname is that of the Host header, or of the request URI's authority, so it may differ
+ * between the requests of a connection, including between concurrent HTTP/2 streams. The tenant is
+ * kept on the connection together with the hostname it was resolved from, and only reused for
+ * requests sent to that same hostname.
+ */
+public class HostnameTenantResolver implements TenantResolver {
+
+  private static final String CONNECTION_ATTRIBUTE = "io.confluent.rest.tenant.hostname";
+
+  private final String idPrefix;
+
+  public HostnameTenantResolver(String idPrefix) {
+    this.idPrefix = idPrefix;
+  }
+
+  @Override
+  public String resolve(Request request) {
+    String serverName = Request.getServerName(request);
+    ConnectionMetaData connection = request.getConnectionMetaData();
+    if (serverName == null || connection == null) {
+      return resolve(serverName);
+    }
+    CachedTenant cached = TenantIds.cached(connection, CONNECTION_ATTRIBUTE, serverName);
+    if (cached != null) {
+      return cached.tenantId;
+    }
+    return TenantIds.cache(connection, CONNECTION_ATTRIBUTE, serverName, resolve(serverName));
+  }
+
+  /**
+   * @return the tenant ID at the start of the hostname, or null if there is none.
+   */
+  public String resolve(String serverName) {
+    return serverName != null
+        ? TenantIds.extract(serverName, 0, serverName.length(), idPrefix)
+        : null;
+  }
+}
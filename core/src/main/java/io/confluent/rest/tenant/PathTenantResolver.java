@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.tenant;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.jetty.server.Request;
+
+/**
+ * Tells the tenant from a segment of the request path, as with V3 networking, e.g.
+ * {@code lkc-devccovmzyj} from {@code /kafka/v3/clusters/lkc-devccovmzyj/topics}.
+ *
+ * <p>Where the tenant is in the path is given by patterns of path segments, in which
+ * {@code {tenant}} is the segment with the tenant ID, {@code *} is any one segment, and a leading
+ * {@code **} is any number of segments, e.g. {@code /kafka/v3/clusters/{tenant}} or
+ * <code>**&#47;clusters/{tenant}</code>. The segments after the tenant do not matter.
+ *
+ * <p>The patterns are compiled into a trie of segments, so a path is matched against all of them
+ * at once, segment by segment, without copying the segments.
+ */
+public class PathTenantResolver implements TenantResolver {
+
+  private static final String TENANT = "{tenant}";
+  private static final String ANY_SEGMENT = "*";
+  private static final String ANY_SEGMENTS = "**";
+
+  private final String idPrefix;
+  // Patterns that match from the start of the path.
+  private final Node root = new Node();
+  // Patterns that start with **, which match from the start of any segment.
+  private final Node floatingRoot = new Node();
+  private boolean hasFloatingPatterns;
+
+  public PathTenantResolver(List<String> patterns, String idPrefix) {
+    this.idPrefix = idPrefix;
+    for (String pattern : patterns) {
+      add(pattern);
+    }
+  }
+
+  private void add(String pattern) {
+    if (!pattern.startsWith("/") && !pattern.startsWith(ANY_SEGMENTS + "/")) {
+      throw new IllegalArgumentException(
+          "Tenant path pattern '" + pattern + "' must start with / or **/");
+    }
+    String[] segments = pattern.split("/", -1);
+    Node node = root;
+    if (segments[0].equals(ANY_SEGMENTS)) {
+      node = floatingRoot;
+      hasFloatingPatterns = true;
+    }
+    for (int i = 1; i < segments.length; i++) {
+      String segment = segments[i];
+      if (segment.equals(TENANT)) {
+        if (i != segments.length - 1) {
+          throw new IllegalArgumentException(
+              "Tenant path pattern '" + pattern + "' must end with " + TENANT);
+        }
+        node.tenant = true;
+        return;
+      }
+      if (segment.equals(ANY_SEGMENTS) || segment.contains(TENANT)) {
+        throw new IllegalArgumentException(
+            "Tenant path pattern '" + pattern + "' has an unsupported segment '" + segment + "'");
+      }
+      node = node.child(segment);
+    }
+    throw new IllegalArgumentException(
+        "Tenant path pattern '" + pattern + "' must end with " + TENANT);
+  }
+
+  @Override
+  public String resolve(Request request) {
+    return resolve(request.getHttpURI().getPath());
+  }
+
+  /**
+   * @return the tenant ID in the path, or null if there is none.
+   */
+  public String resolve(String path) {
+    if (path == null || path.isEmpty() || path.charAt(0) != '/') {
+      return null;
+    }
+    String tenantId = match(root, path, 0);
+    if (tenantId != null || !hasFloatingPatterns) {
+      return tenantId;
+    }
+    for (int slash = 0; slash >= 0; slash = path.indexOf('/', slash + 1)) {
+      tenantId = match(floatingRoot, path, slash);
+      if (tenantId != null) {
+        return tenantId;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Matches the segments of the path after the slash at {@code slash} against the patterns
+   * below {@code node}.
+   */
+  private String match(Node node, String path, int slash) {
+    int start = slash + 1;
+    int end = path.indexOf('/', start);
+    if (end < 0) {
+      end = path.length();
+    }
+    if (node.tenant) {
+      String tenantId = TenantIds.extract(path, start, end, idPrefix);
+      if (tenantId != null) {
+        return tenantId;
+      }
+    }
+    if (end == path.length()) {
+      // No segments left for the patterns below.
+      return null;
+    }
+    int length = end - start;
+    for (int i = 0; i < node.segments.size(); i++) {
+      String segment = node.segments.get(i);
+      if (segment.length() == length && path.regionMatches(start, segment, 0, length)) {
+        String tenantId = match(node.children.get(i), path, end);
+        if (tenantId != null) {
+          return tenantId;
+        }
+      }
+    }
+    return node.anySegment != null ? match(node.anySegment, path, end) : null;
+  }
+
+  private static final class Node {
+
+    private final List<String> segments = new ArrayList<>();
+    private final List<Node> children = new ArrayList<>();
+    private Node anySegment;
+    // Whether the next segment is the tenant ID.
+    private boolean tenant;
+
+    Node child(String segment) {
+      if (segment.equals(ANY_SEGMENT)) {
+        if (anySegment == null) {
+          anySegment = new Node();
+        }
+        return anySegment;
+      }
+      int index = segments.indexOf(segment);
+      if (index >= 0) {
+        return children.get(index);
+      }
+      Node child = new Node();
+      segments.add(segment);
+      children.add(child);
+      return child;
+    }
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.tenant;
+
+import io.confluent.rest.customizer.ProxyCustomizer;
+import io.confluent.rest.customizer.TlvProvider;
+import io.confluent.rest.tenant.TenantIds.CachedTenant;
+import java.nio.charset.StandardCharsets;
+import org.eclipse.jetty.server.ConnectionMetaData;
+import org.eclipse.jetty.server.Request;
+
+/**
+ * Tells the tenant from a TLV of the PROXY protocol header of the connection, as made available
+ * by the {@link ProxyCustomizer}. The tenant is kept on the connection, since its PROXY header
+ * does not change.
+ */
+public class ProxyTlvTenantResolver implements TenantResolver {
+
+  private static final String CONNECTION_ATTRIBUTE = "io.confluent.rest.tenant.proxy.tlv";
+
+  private final int tlvType;
+  private final String idPrefix;
+
+  public ProxyTlvTenantResolver(int tlvType, String idPrefix) {
+    this.tlvType = tlvType;
+    this.idPrefix = idPrefix;
+  }
+
+  @Override
+  public String resolve(Request request) {
+    Object tlvProvider = request.getAttribute(ProxyCustomizer.TLV_PROVIDER_ATTRIBUTE_NAME);
+    if (!(tlvProvider instanceof TlvProvider)) {
+      return null;
+    }
+    ConnectionMetaData connection = request.getConnectionMetaData();
+    if (connection == null) {
+      return resolve((TlvProvider) tlvProvider);
+    }
+    CachedTenant cached = TenantIds.cached(connection, CONNECTION_ATTRIBUTE, tlvType);
+    if (cached != null) {
+      return cached.tenantId;
+    }
+    return TenantIds.cache(
+        connection, CONNECTION_ATTRIBUTE, tlvType, resolve((TlvProvider) tlvProvider));
+  }
+
+  private String resolve(TlvProvider tlvProvider) {
+    byte[] tlv = tlvProvider.getTlv(tlvType);
+    if (tlv == null) {
+      return null;
+    }
+    String value = new String(tlv, StandardCharsets.US_ASCII);
+    return TenantIds.extract(value, 0, value.length(), idPrefix);
+  }
+}
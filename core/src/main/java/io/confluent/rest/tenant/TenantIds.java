@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.tenant;
+
+import java.util.Objects;
+import org.eclipse.jetty.server.ConnectionMetaData;
+
+/**
+ * Helpers shared by the built-in {@link TenantResolver}s.
+ */
+final class TenantIds {
+
+  private TenantIds() {}
+
+  /**
+   * Extracts the tenant ID at {@code start} of {@code value}: the {@code prefix} followed by at
+   * least one letter or digit, up to the first other character or {@code end}. E.g.
+   * {@code lkc-6787w2} from {@code lkc-6787w2-env5qj75n.us-west-2.aws.confluent.cloud}.
+   *
+   * @return the tenant ID, or null if there is none at {@code start}.
+   */
+  static String extract(String value, int start, int end, String prefix) {
+    if (!value.startsWith(prefix, start)) {
+      return null;
+    }
+    int idEnd = start + prefix.length();
+    while (idEnd < end && Character.isLetterOrDigit(value.charAt(idEnd))) {
+      idEnd++;
+    }
+    if (idEnd == start + prefix.length()) {
+      return null;
+    }
+    return value.substring(start, idEnd);
+  }
+
+  /**
+   * @return the tenant kept on the connection by {@link #cache} under {@code attribute} for the
+   *     same {@code key}, or null if there is none.
+   */
+  static CachedTenant cached(ConnectionMetaData connection, String attribute, Object key) {
+    Object cached = connection.getAttribute(attribute);
+    if (cached instanceof CachedTenant && Objects.equals(((CachedTenant) cached).key, key)) {
+      return (CachedTenant) cached;
+    }
+    return null;
+  }
+
+  /**
+   * Keeps the tenant on the connection, along with the {@code key} it was resolved from, e.g. the
+   * hostname of the request or the client certificate of the connection.
+   */
+  static String cache(
+      ConnectionMetaData connection, String attribute, Object key, String tenantId) {
+    connection.setAttribute(attribute, new CachedTenant(key, tenantId));
+    return tenantId;
+  }
+
+  static final class CachedTenant {
+
+    private final Object key;
+    // null if the connection does not tell the tenant
+    final String tenantId;
+
+    private CachedTenant(Object key, String tenantId) {
+      this.key = key;
+      this.tenantId = tenantId;
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.tenant;
+
+import java.util.List;
+import org.eclipse.jetty.server.Request;
+
+/**
+ * Tells the tenant of a request, e.g. from its hostname or path. Resolvers are called for every
+ * request, from any thread, so they should be thread safe and cheap.
+ *
+ * <p>Implementations named in {@code tenant.resolvers} by class name need a public no-argument
+ * constructor, and are configured with the application configuration if they implement
+ * {@link org.apache.kafka.common.Configurable}.
+ */
+@FunctionalInterface
+public interface TenantResolver {
+
+  /**
+   * The context attribute the tenant resolver of an application is kept in.
+   */
+  String ATTRIBUTE = TenantResolver.class.getName();
+
+  /**
+   * @return the tenant ID of the request, or null if the request does not tell.
+   */
+  String resolve(Request request);
+
+  /**
+   * @return a resolver that tries the {@code resolvers} in order, until one tells the tenant.
+   */
+  static TenantResolver firstOf(List<TenantResolver> resolvers) {
+    TenantResolver[] chain = resolvers.toArray(new TenantResolver[0]);
+    if (chain.length == 1) {
+      return chain[0];
+    }
+    return request -> {
+      for (TenantResolver resolver : chain) {
+        String tenantId = resolver.resolve(request);
+        if (tenantId != null) {
+          return tenantId;
+        }
+      }
+      return null;
+    };
+  }
+}
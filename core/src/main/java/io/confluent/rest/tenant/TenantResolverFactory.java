@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.tenant;
+
+import io.confluent.rest.RestConfig;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.kafka.common.Configurable;
+import org.apache.kafka.common.config.ConfigException;
+import org.apache.kafka.common.utils.Utils;
+
+public final class TenantResolverFactory {
+
+  public static final String HOSTNAME = "hostname";
+  public static final String PATH = "path";
+  public static final String HEADER = "header";
+  public static final String PROXY_TLV = "proxy.tlv";
+  public static final String CLIENT_CERTIFICATE = "client.certificate";
+
+  private TenantResolverFactory() {
+    // prevent instantiation
+  }
+
+  /**
+   * Creates the resolver that tries the resolvers in {@code tenant.resolvers} in order, each
+   * either one of the built-in ones or the class name of a {@link TenantResolver}.
+   */
+  public static TenantResolver create(RestConfig restConfig) {
+    String idPrefix = restConfig.getTenantIdPrefix();
+    List<TenantResolver> resolvers = new ArrayList<>();
+    for (String name : restConfig.getTenantResolvers()) {
+      switch (name) {
+        case HOSTNAME:
+          resolvers.add(new HostnameTenantResolver(idPrefix));
+          break;
+        case PATH:
+          try {
+            resolvers.add(new PathTenantResolver(restConfig.getTenantPathPatterns(), idPrefix));
+          } catch (IllegalArgumentException e) {
+            throw new ConfigException(e.getMessage());
+          }
+          break;
+        case HEADER:
+          if (restConfig.getTenantHeaderName().isEmpty()) {
+            throw new ConfigException("The header tenant resolver needs a header name");
+          }
+          resolvers.add(new HeaderTenantResolver(restConfig.getTenantHeaderName(), idPrefix));
+          break;
+        case PROXY_TLV:
+          resolvers.add(new ProxyTlvTenantResolver(restConfig.getTenantProxyTlvType(), idPrefix));
+          break;
+        case CLIENT_CERTIFICATE:
+          resolvers.add(new ClientCertificateTenantResolver(idPrefix));
+          break;
+        default:
+          resolvers.add(newInstance(name, restConfig));
+      }
+    }
+    return TenantResolver.firstOf(resolvers);
+  }
+
+  private static TenantResolver newInstance(String className, RestConfig restConfig) {
+    TenantResolver resolver;
+    try {
+      resolver = Utils.newInstance(className, TenantResolver.class);
+    } catch (ClassNotFoundException | RuntimeException e) {
+      throw new ConfigException("Unknown tenant resolver '" + className + "': " + e.getMessage());
+    }
+    if (resolver instanceof Configurable) {
+      ((Configurable) resolver).configure(restConfig.originals());
+    }
+    return resolver;
+  }
+}
@@ -16,20 +16,29 @@
 
 package io.confluent.rest.validation;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
 import com.fasterxml.jackson.jakarta.rs.json.JacksonXmlBindJsonProvider;
+import io.confluent.rest.entities.JsonArrayStream;
+import io.confluent.rest.exceptions.RestException;
+import io.confluent.rest.exceptions.RestRequestEntityTooLargeException;
 import io.confluent.rest.exceptions.RestTimeoutException;
 
 import jakarta.validation.ConstraintViolationException;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.ext.Provider;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.concurrent.TimeoutException;
 
@@ -38,16 +47,33 @@ import java.util.concurrent.TimeoutException;
  * validation of entities during parsing that don't fit well with the standard validation framework
  * (e.g. decoding of encoded fields to avoid storing the original and repeated decoding if the field
  * is accessed multiple times).
+ *
+ * <p>Entities of resource methods taking a {@link JsonArrayStream} are read as the resource method
+ * iterates over them, and entities larger than the maximum size given are rejected with status 413
+ * as soon as that many bytes have been read.
  */
 @Provider
 public class JacksonMessageBodyProvider extends JacksonXmlBindJsonProvider {
 
+  public static final long UNLIMITED_ENTITY_SIZE = -1;
+
+  private final long maxEntitySize;
+
   public JacksonMessageBodyProvider() {
-    setMapper(new ObjectMapper());
+    this(new ObjectMapper());
   }
 
   public JacksonMessageBodyProvider(ObjectMapper mapper) {
+    this(mapper, UNLIMITED_ENTITY_SIZE);
+  }
+
+  /**
+   * @param maxEntitySize the maximum size of request entities in bytes, or
+   *                      {@link #UNLIMITED_ENTITY_SIZE}.
+   */
+  public JacksonMessageBodyProvider(ObjectMapper mapper, long maxEntitySize) {
     setMapper(mapper);
+    this.maxEntitySize = maxEntitySize;
   }
 
   @Override
@@ -69,6 +95,13 @@ public class JacksonMessageBodyProvider extends JacksonXmlBindJsonProvider {
                          MediaType mediaType,
                          MultivaluedMap<String, String> httpHeaders,
                          InputStream entityStream) throws IOException {
+    if (maxEntitySize != UNLIMITED_ENTITY_SIZE) {
+      checkContentLength(httpHeaders);
+      entityStream = new SizeLimitedInputStream(entityStream, maxEntitySize);
+    }
+    if (JsonArrayStream.class.equals(type)) {
+      return readStream(genericType, mediaType, entityStream);
+    }
     try {
       return super.readFrom(type, genericType, annotations, mediaType, httpHeaders, entityStream);
     } catch (UnrecognizedPropertyException e) {
@@ -86,6 +119,10 @@ public class JacksonMessageBodyProvider extends JacksonXmlBindJsonProvider {
       if (cause instanceof ConstraintViolationException) {
         throw (ConstraintViolationException) cause;
       }
+      if (cause instanceof RestException) {
+        // E.g. the entity was too large, found while reading a property.
+        throw (RestException) cause;
+      }
       throw e;
     } catch (IOException e) {
       Throwable cause = e.getCause();
@@ -98,4 +135,96 @@ public class JacksonMessageBodyProvider extends JacksonXmlBindJsonProvider {
       throw e;
     }
   }
+
+  private JsonArrayStream<Object> readStream(Type genericType, MediaType mediaType,
+                                             InputStream entityStream) throws IOException {
+    Type elementType = genericType instanceof ParameterizedType
+        ? ((ParameterizedType) genericType).getActualTypeArguments()[0] : Object.class;
+    ObjectMapper mapper = locateMapper(JsonArrayStream.class, mediaType);
+    JsonParser parser = mapper.getFactory().createParser(entityStream);
+    try {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        throw MismatchedInputException.from(parser, JsonArrayStream.class,
+            "Expected a JSON array");
+      }
+    } catch (IOException e) {
+      parser.close();
+      throw e;
+    }
+    return new JsonArrayStream<>(parser,
+        mapper.readerFor(mapper.getTypeFactory().constructType(elementType)));
+  }
+
+  private void checkContentLength(MultivaluedMap<String, String> httpHeaders) {
+    String contentLength = httpHeaders != null
+        ? httpHeaders.getFirst(HttpHeaders.CONTENT_LENGTH) : null;
+    if (contentLength == null) {
+      return;
+    }
+    try {
+      if (Long.parseLong(contentLength.trim()) > maxEntitySize) {
+        throw tooLarge(maxEntitySize);
+      }
+    } catch (NumberFormatException e) {
+      // Left to the container, and the limit is still enforced while reading.
+    }
+  }
+
+  private static RestRequestEntityTooLargeException tooLarge(long maxEntitySize) {
+    return new RestRequestEntityTooLargeException(
+        "Request entity is larger than " + maxEntitySize + " bytes",
+        RestRequestEntityTooLargeException.DEFAULT_ERROR_CODE);
+  }
+
+  /**
+   * Fails reads once more than the maximum size of entities was read, rather than counting on the
+   * Content-Length header, which chunked requests do not have.
+   */
+  private static final class SizeLimitedInputStream extends FilterInputStream {
+
+    private final long maxSize;
+    private long size;
+
+    SizeLimitedInputStream(InputStream in, long maxSize) {
+      super(in);
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = super.read();
+      if (b >= 0) {
+        count(1);
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] bytes, int off, int len) throws IOException {
+      int read = super.read(bytes, off, len);
+      if (read > 0) {
+        count(read);
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      long skipped = super.skip(n);
+      count(skipped);
+      return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    private void count(long read) {
+      size += read;
+      if (size > maxSize) {
+        throw tooLarge(maxSize);
+      }
+    }
+  }
 }
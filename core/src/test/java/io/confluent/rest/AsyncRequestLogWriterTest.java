@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.metrics.Metrics;
+import org.eclipse.jetty.server.RequestLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncRequestLogWriterTest {
+
+  private Metrics metrics;
+  private BlockingWriter delegate;
+
+  @BeforeEach
+  public void setUp() {
+    metrics = new Metrics();
+    delegate = new BlockingWriter();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    delegate.release();
+    metrics.close();
+  }
+
+  @Test
+  public void testWritesEntriesInOrder() throws Exception {
+    delegate.release();
+    AsyncRequestLogWriter writer = newWriter(16, true);
+    writer.start();
+    for (int i = 0; i < 100; i++) {
+      writer.write("entry-" + i);
+    }
+    writer.stop();
+
+    assertEquals(100, delegate.written.size());
+    for (int i = 0; i < 100; i++) {
+      assertEquals("entry-" + i, delegate.written.get(i));
+    }
+    assertEquals(0.0, metricValue("request-log-dropped-total"), 0.0);
+  }
+
+  @Test
+  public void testRoundsCapacityUpToPowerOfTwo() {
+    assertEquals(2, newWriter(1, false).getCapacity());
+    assertEquals(8, newWriter(5, false).getCapacity());
+    assertEquals(8, newWriter(8, false).getCapacity());
+  }
+
+  @Test
+  public void testDropsEntriesWhenFull() throws Exception {
+    AsyncRequestLogWriter writer = newWriter(2, false);
+    writer.start();
+    writer.write("entry-0");
+    // The writer thread is stuck writing the first entry, so two more fill the buffer.
+    assertTrue(delegate.writing.await(5, TimeUnit.SECONDS));
+    writer.write("entry-1");
+    writer.write("entry-2");
+    assertEquals(2, writer.getQueuedEntries());
+    assertEquals(2.0, metricValue("request-log-queue-size"), 0.0);
+
+    writer.write("entry-3");
+    assertEquals(1.0, metricValue("request-log-dropped-total"), 0.0);
+
+    delegate.release();
+    writer.stop();
+    assertEquals(Arrays.asList("entry-0", "entry-1", "entry-2"), delegate.written);
+    assertEquals(0.0, metricValue("request-log-queue-size"), 0.0);
+  }
+
+  @Test
+  public void testBlocksWhenFull() throws Exception {
+    AsyncRequestLogWriter writer = newWriter(2, true);
+    writer.start();
+    writer.write("entry-0");
+    assertTrue(delegate.writing.await(5, TimeUnit.SECONDS));
+    writer.write("entry-1");
+    writer.write("entry-2");
+
+    CountDownLatch written = new CountDownLatch(1);
+    Thread request = new Thread(() -> {
+      try {
+        writer.write("entry-3");
+        written.countDown();
+      } catch (Exception e) {
+        throw new RuntimeException(e);
+      }
+    });
+    request.start();
+    assertFalse(written.await(100, TimeUnit.MILLISECONDS));
+
+    delegate.release();
+    assertTrue(written.await(5, TimeUnit.SECONDS));
+    writer.stop();
+    assertEquals(Arrays.asList("entry-0", "entry-1", "entry-2", "entry-3"), delegate.written);
+    assertEquals(0.0, metricValue("request-log-dropped-total"), 0.0);
+  }
+
+  @Test
+  public void testDropsEntriesWhenFullAfterStopping() throws Exception {
+    delegate.release();
+    AsyncRequestLogWriter writer = newWriter(2, true);
+    writer.start();
+    writer.stop();
+    // With nothing left to make room, requests do not wait.
+    writer.write("entry-0");
+    writer.write("entry-1");
+    writer.write("entry-2");
+    assertEquals(Collections.emptyList(), delegate.written);
+    assertEquals(1.0, metricValue("request-log-dropped-total"), 0.0);
+  }
+
+  private AsyncRequestLogWriter newWriter(int capacity, boolean blockWhenFull) {
+    return new AsyncRequestLogWriter(delegate, capacity, blockWhenFull, metrics,
+        Collections.emptyMap());
+  }
+
+  private double metricValue(String name) {
+    return ((Number) metrics.metric(metrics.metricName(name, "jetty-metrics")).metricValue())
+        .doubleValue();
+  }
+
+  private static final class BlockingWriter implements RequestLog.Writer {
+
+    private final List<String> written = new CopyOnWriteArrayList<>();
+    private final CountDownLatch writing = new CountDownLatch(1);
+    private final CountDownLatch released = new CountDownLatch(1);
+
+    @Override
+    public void write(String entry) {
+      writing.countDown();
+      try {
+        released.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      written.add(entry);
+    }
+
+    void release() {
+      released.countDown();
+    }
+  }
+}
@@ -79,6 +79,48 @@ public class DosFilterTest {
     server.stop();
   }
 
+  @Test
+  public void dosFilterEnabled_tokenBucketTracking_throttlesRequestsPerIp() throws Exception {
+    FooApplication application =
+        new FooApplication(
+            new FooConfig(
+                ImmutableMap.of(
+                    "listeners", "http://localhost:0",
+                    "dos.filter.enabled", "true",
+                    "dos.filter.rate.tracker", "token_bucket",
+                    "dos.filter.max.requests.per.connection.per.sec", "1",
+                    "dos.filter.max.requests.per.sec", "1000",
+                    "dos.filter.delay.ms", "-1")));
+    Server server = application.createServer();
+    server.start();
+
+    HttpGet request = createRequest(server.getURI());
+
+    CloseableHttpClient ephemeralClient = createEphemeralClient();
+
+    // Request should succeed.
+    CloseableHttpResponse response1 = ephemeralClient.execute(request);
+    assertEquals(Status.OK.getStatusCode(), response1.getStatusLine().getStatusCode());
+    response1.close();
+
+    // Following requests should all be throttled.
+    for (int i = 0; i < 100; i++) {
+      CloseableHttpResponse response2 = ephemeralClient.execute(request);
+      assertEquals(
+          Status.TOO_MANY_REQUESTS.getStatusCode(), response2.getStatusLine().getStatusCode());
+      response2.close();
+    }
+
+    Thread.sleep(1000);
+
+    // Request should succeed again once the bucket has refilled.
+    CloseableHttpResponse response3 = ephemeralClient.execute(request);
+    assertEquals(Status.OK.getStatusCode(), response3.getStatusLine().getStatusCode());
+    response3.close();
+
+    server.stop();
+  }
+
   @Test
   public void dosFilterDisabled_doesNotThrottleRequests() throws Exception {
     FooApplication application =
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.Response;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceModel;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.junit.jupiter.api.Test;
+
+public class JacksonPrewarmListenerTest {
+
+  @Test
+  public void testPrewarmsEntityTypesOfResourceMethods() {
+    ObjectMapper mapper = new ObjectMapper().registerModule(new BlackbirdModule());
+    DefaultSerializerProvider serializers =
+        (DefaultSerializerProvider) mapper.getSerializerProviderInstance();
+    assertEquals(0, serializers.cachedSerializersCount());
+
+    new JacksonPrewarmListener(mapper).onEvent(initializationFinished(EmptyResource.class));
+    // Error messages are prewarmed whatever the resource methods.
+    int errorSerializers = serializers.cachedSerializersCount();
+    assertTrue(errorSerializers > 0);
+
+    new JacksonPrewarmListener(mapper).onEvent(initializationFinished(TestResource.class));
+    assertTrue(serializers.cachedSerializersCount() > errorSerializers);
+  }
+
+  @Test
+  public void testIgnoresOtherEvents() {
+    ObjectMapper mapper = new ObjectMapper();
+    ApplicationEvent event = mock(ApplicationEvent.class);
+    when(event.getType()).thenReturn(ApplicationEvent.Type.INITIALIZATION_START);
+
+    new JacksonPrewarmListener(mapper).onEvent(event);
+
+    assertEquals(0,
+        ((DefaultSerializerProvider) mapper.getSerializerProviderInstance())
+            .cachedSerializersCount());
+  }
+
+  private static ApplicationEvent initializationFinished(Class<?> resourceClass) {
+    ApplicationEvent event = mock(ApplicationEvent.class);
+    when(event.getType()).thenReturn(ApplicationEvent.Type.INITIALIZATION_FINISHED);
+    when(event.getResourceModel()).thenReturn(new ResourceModel.Builder(
+        Collections.singletonList(Resource.from(resourceClass)), false).build());
+    return event;
+  }
+
+  public static class Topic {
+
+    @JsonProperty
+    public String name;
+
+    @JsonProperty
+    public int partitions;
+  }
+
+  @Path("/")
+  public static class EmptyResource {
+
+    @GET
+    public Response get() {
+      return Response.ok().build();
+    }
+  }
+
+  @Path("/topics")
+  public static class TestResource {
+
+    @GET
+    public List<Topic> list() {
+      return Collections.emptyList();
+    }
+
+    @GET
+    @Path("/{name}")
+    public CompletableFuture<Topic> get() {
+      return CompletableFuture.completedFuture(new Topic());
+    }
+
+    @POST
+    public Response create(Topic topic) {
+      return Response.ok().build();
+    }
+
+    @POST
+    @Path("/{name}/async")
+    public void createAsync(@Suspended AsyncResponse response, Topic topic) {
+      response.resume(topic);
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.confluent.rest.entities.ErrorMessage;
+import io.confluent.rest.entities.JsonArrayStream;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.Configurable;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import java.util.Properties;
+import org.eclipse.jetty.server.Server;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that resource methods can read request entities as they go, within the maximum size.
+ */
+public class JsonArrayStreamIntegrationTest {
+
+  private Server server;
+  private StreamApplication application;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    Properties props = new Properties();
+    props.setProperty("listeners", "http://localhost:0");
+    props.setProperty("json.request.max.size", "4096");
+    application = new StreamApplication(new TestRestConfig(props));
+    server = application.createServer();
+    server.start();
+  }
+
+  @AfterEach
+  public void tearDown() throws Exception {
+    server.stop();
+    server.join();
+  }
+
+  @Test
+  public void testStreamsArray() {
+    Response response = post("[1, 2, 3, 4]");
+
+    assertEquals(200, response.getStatus());
+    assertEquals("10", response.readEntity(String.class));
+  }
+
+  @Test
+  public void testRejectsInvalidElement() {
+    Response response = post("[1, 2, \"three\"]");
+
+    assertEquals(400, response.getStatus());
+    assertEquals(400, response.readEntity(ErrorMessage.class).getErrorCode());
+  }
+
+  @Test
+  public void testRejectsEntityLargerThanMaxSize() {
+    StringBuilder body = new StringBuilder("[0");
+    for (int i = 0; i < 2048; i++) {
+      body.append(",1");
+    }
+    Response response = post(body.append(']').toString());
+
+    assertEquals(413, response.getStatus());
+    assertEquals(413, response.readEntity(ErrorMessage.class).getErrorCode());
+  }
+
+  private Response post(String body) {
+    return ClientBuilder.newClient(application.resourceConfig.getConfiguration())
+        .target(server.getURI())
+        .path("/sum")
+        .request()
+        .post(Entity.entity(body, MediaType.APPLICATION_JSON_TYPE));
+  }
+
+  private static class StreamApplication extends Application<TestRestConfig> {
+
+    Configurable<?> resourceConfig;
+
+    StreamApplication(TestRestConfig props) {
+      super(props);
+    }
+
+    @Override
+    public void setupResources(Configurable<?> config, TestRestConfig appConfig) {
+      resourceConfig = config;
+      config.register(SumResource.class);
+    }
+  }
+
+  @Produces(MediaType.APPLICATION_JSON)
+  @Path("/")
+  public static class SumResource {
+
+    @POST
+    @Path("/sum")
+    public long sum(JsonArrayStream<Integer> values) {
+      long sum = 0;
+      while (values.hasNext()) {
+        sum += values.next();
+      }
+      return sum;
+    }
+  }
+}
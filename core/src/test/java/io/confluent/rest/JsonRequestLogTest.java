@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpURI;
+import org.eclipse.jetty.server.ConnectionMetaData;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.junit.jupiter.api.Test;
+
+public class JsonRequestLogTest {
+
+  private final List<String> entries = new ArrayList<>();
+
+  @Test
+  public void testLogsJsonRecords() {
+    JsonRequestLog requestLog =
+        new JsonRequestLog(entries::add, "ms", true, request -> "lkc-abc123", null);
+    Request request = request("http://localhost:8080/v3/clusters?name=a\"b", 0);
+    when(request.getHeaders()).thenReturn(HttpFields.build()
+        .add(HttpHeader.USER_AGENT, "curl/8.5.0\n"));
+
+    requestLog.log(request, response(404));
+
+    assertEquals(1, entries.size());
+    String entry = entries.get(0);
+    assertTrue(entry.matches("\\{\"time\":\\d+,.*}"), entry);
+    assertTrue(entry.contains(",\"client\":\"10.0.0.1\",\"method\":\"GET\","
+        + "\"uri\":\"/v3/clusters?name=a\\\"b\",\"protocol\":\"HTTP/1.1\",\"status\":404,"
+        + "\"bytes\":-1,\"user_agent\":\"curl/8.5.0\\n\",\"latency_ms\":"), entry);
+    assertTrue(entry.endsWith(",\"tenant\":\"lkc-abc123\"}"), entry);
+  }
+
+  @Test
+  public void testLogsLatencyInMicroseconds() {
+    JsonRequestLog requestLog = new JsonRequestLog(entries::add, "us", false, null, null);
+
+    requestLog.log(request("http://localhost:8080/", TimeUnit.MILLISECONDS.toNanos(5)),
+        response(200));
+
+    assertTrue(entries.get(0).matches(".*,\"latency_us\":\\d{4,}}"), entries.get(0));
+  }
+
+  @Test
+  public void testSamplesByStatusClass() {
+    RequestLogSampler sampler = new RequestLogSampler(rates(2, 0.0, 3, 0.5),
+        Collections.emptyMap(), -1, null);
+    JsonRequestLog requestLog = new JsonRequestLog(entries::add, "ms", false, null, sampler);
+
+    for (int i = 0; i < 100; i++) {
+      requestLog.log(request("http://localhost:8080/", 0), response(200));
+      requestLog.log(request("http://localhost:8080/", 0), response(500));
+    }
+
+    assertEquals(100, entries.size());
+    assertTrue(entries.stream().allMatch(entry -> entry.contains("\"status\":500")));
+  }
+
+  @Test
+  public void testLogsSlowRequests() {
+    RequestLogSampler sampler = new RequestLogSampler(rates(2, 0.0),
+        Collections.emptyMap(), 10, null);
+
+    assertFalse(sampler.sample(request("http://localhost:8080/", 0), response(200)));
+    assertTrue(sampler.sample(
+        request("http://localhost:8080/", TimeUnit.MILLISECONDS.toNanos(20)), response(200)));
+  }
+
+  @Test
+  public void testSamplesByTenant() {
+    Map<String, Double> tenantRates = new HashMap<>();
+    tenantRates.put("lkc-abc123", 1.0);
+    tenantRates.put("lkc-def456", 0.0);
+    RequestLogSampler sampler = new RequestLogSampler(rates(2, 0.0, 4, 0.0), tenantRates, -1,
+        request -> request.getHttpURI().getPath().substring(1));
+
+    assertTrue(sampler.sample(request("http://localhost:8080/lkc-abc123", 0), response(200)));
+    assertFalse(sampler.sample(request("http://localhost:8080/lkc-def456", 0), response(200)));
+    assertFalse(sampler.sample(request("http://localhost:8080/lkc-ghi789", 0), response(200)));
+    // Tenant rates only apply to the status classes sampled.
+    assertTrue(sampler.sample(request("http://localhost:8080/lkc-def456", 0), response(500)));
+  }
+
+  private static Map<Integer, Double> rates(Object... statusClassesAndRates) {
+    Map<Integer, Double> rates = new HashMap<>();
+    for (int i = 0; i < statusClassesAndRates.length; i += 2) {
+      rates.put((Integer) statusClassesAndRates[i], (Double) statusClassesAndRates[i + 1]);
+    }
+    return rates;
+  }
+
+  private static Request request(String uri, long ageNanos) {
+    Request request = mock(Request.class);
+    Map<String, Object> attributes = new HashMap<>();
+    when(request.getHttpURI()).thenReturn(HttpURI.from(uri));
+    when(request.getMethod()).thenReturn("GET");
+    when(request.getHeaders()).thenReturn(HttpFields.EMPTY);
+    long beginNanos = System.nanoTime() - ageNanos;
+    when(request.getBeginNanoTime()).thenReturn(beginNanos);
+    when(request.getHeadersNanoTime()).thenReturn(beginNanos);
+    when(request.getAttribute(anyString())).thenAnswer(
+        invocation -> attributes.get(invocation.<String>getArgument(0)));
+    doAnswer(invocation -> attributes.put(invocation.getArgument(0), invocation.getArgument(1)))
+        .when(request).setAttribute(anyString(), any());
+    ConnectionMetaData connection = mock(ConnectionMetaData.class);
+    when(connection.getProtocol()).thenReturn("HTTP/1.1");
+    when(connection.getRemoteSocketAddress()).thenReturn(new InetSocketAddress("10.0.0.1", 1234));
+    when(request.getConnectionMetaData()).thenReturn(connection);
+    return request;
+  }
+
+  private static Response response(int status) {
+    Response response = mock(Response.class);
+    when(response.getStatus()).thenReturn(status);
+    return response;
+  }
+}
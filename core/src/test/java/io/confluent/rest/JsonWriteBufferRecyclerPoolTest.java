@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+public class JsonWriteBufferRecyclerPoolTest {
+
+  @Test
+  public void testWritesInChunksOfBufferSize() throws Exception {
+    List<String> values = Collections.nCopies(10_000, "value");
+    ObjectMapper mapper = new ObjectMapper();
+    mapper.getFactory().setRecyclerPool(new JsonWriteBufferRecyclerPool(64 * 1024));
+
+    RecordingOutputStream output = new RecordingOutputStream();
+    mapper.writeValue(output, values);
+
+    assertArrayEquals(new ObjectMapper().writeValueAsBytes(values), output.toByteArray());
+    assertEquals(2, output.writes.size());
+    assertEquals(64 * 1024, output.writes.get(0));
+  }
+
+  @Test
+  public void testSharesRecyclersBetweenThreads() throws Exception {
+    JsonWriteBufferRecyclerPool pool = new JsonWriteBufferRecyclerPool(64 * 1024);
+    BufferRecycler recycler = pool.acquireAndLinkPooled();
+    recycler.releaseToPool();
+
+    CompletableFuture<BufferRecycler> other =
+        CompletableFuture.supplyAsync(pool::acquireAndLinkPooled);
+
+    assertSame(recycler, other.get());
+  }
+
+  @Test
+  public void testKeepsAtMostCapacityRecyclers() {
+    JsonWriteBufferRecyclerPool pool = new JsonWriteBufferRecyclerPool(64 * 1024, 2);
+    List<BufferRecycler> recyclers = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      recyclers.add(pool.acquireAndLinkPooled());
+    }
+    recyclers.forEach(BufferRecycler::releaseToPool);
+
+    assertEquals(2, pool.pooledCount());
+  }
+
+  private static final class RecordingOutputStream extends ByteArrayOutputStream {
+
+    private final List<Integer> writes = new ArrayList<>();
+
+    @Override
+    public synchronized void write(byte[] bytes, int off, int len) {
+      writes.add(len);
+      super.write(bytes, off, len);
+    }
+  }
+}
@@ -102,6 +102,12 @@ public class RateLimitNetworkTrafficListenerTest {
       if (testInfo.getDisplayName().contains("Resilience4j")) {
         props.put(RestConfig.NETWORK_TRAFFIC_RATE_LIMIT_BACKEND_CONFIG, "Resilience4j");
       }
+      if (testInfo.getDisplayName().contains("TokenBucket")) {
+        props.put(RestConfig.NETWORK_TRAFFIC_RATE_LIMIT_BACKEND_CONFIG, "token_bucket");
+      }
+      if (testInfo.getDisplayName().contains("NonBlocking")) {
+        props.put(RestConfig.NETWORK_TRAFFIC_RATE_LIMIT_NON_BLOCKING_ENABLE_CONFIG, "true");
+      }
     }
     TestRestConfig config = new TestRestConfig(props);
     return new TestApp(config, name);
@@ -213,6 +219,66 @@ public class RateLimitNetworkTrafficListenerTest {
     }
   }
 
+  @Test
+  @DisplayName("NetworkTrafficRateLimitEnabled_TokenBucket")
+  public void testNetworkTrafficRateLimitEnabled_TokenBucket_slowdown() throws Exception {
+    { // validate for external endpoint
+      long startTime = System.nanoTime();
+      // send 1000 POST requests in 1 second
+      int response200s = hammerAtConstantRate(URI.create(externEndpoint), "/resource",
+          Duration.ofMillis(1), 10,
+          1000);
+      assertEquals(1000 - 10, response200s);
+      double durationMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+      // with rate limiting, 1000 requests should finish in more than 10 seconds
+      assertThat("Duration must be greater than 10 seconds",
+          durationMillis >= Duration.ofSeconds(10).toMillis());
+    }
+
+    { // validate for internal endpoint
+      long startTime = System.nanoTime();
+      // send 1000 POST requests in 1 second
+      int response200s = hammerAtConstantRate(URI.create(internEndpoint), "/resource",
+          Duration.ofMillis(1), 10,
+          1000);
+      assertEquals(1000 - 10, response200s);
+      double durationMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+      // with no rate limit, 1000 requests should finish less than 2 seconds
+      assertThat("Duration must be greater than 1 second", durationMillis >= 1000);
+      assertThat("Duration must be smaller than 2 seconds", durationMillis < 2000);
+    }
+  }
+
+  @Test
+  @DisplayName("NetworkTrafficRateLimitEnabled_Resilience4j_NonBlocking")
+  public void testNetworkTrafficRateLimitEnabled_NonBlocking_slowdown() throws Exception {
+    { // validate for external endpoint
+      long startTime = System.nanoTime();
+      // send 1000 POST requests in 1 second
+      int response200s = hammerAtConstantRate(URI.create(externEndpoint), "/resource",
+          Duration.ofMillis(1), 10,
+          1000);
+      assertEquals(1000 - 10, response200s);
+      double durationMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+      // with rate limiting, 1000 requests should finish in more than 10 seconds
+      assertThat("Duration must be greater than 10 seconds",
+          durationMillis >= Duration.ofSeconds(10).toMillis());
+    }
+
+    { // validate for internal endpoint
+      long startTime = System.nanoTime();
+      // send 1000 POST requests in 1 second
+      int response200s = hammerAtConstantRate(URI.create(internEndpoint), "/resource",
+          Duration.ofMillis(1), 10,
+          1000);
+      assertEquals(1000 - 10, response200s);
+      double durationMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+      // with no rate limit, 1000 requests should finish less than 2 seconds
+      assertThat("Duration must be greater than 1 second", durationMillis >= 1000);
+      assertThat("Duration must be smaller than 2 seconds", durationMillis < 2000);
+    }
+  }
+
   // Send many concurrent requests and return the number of requests with "200" status
   private int hammerAtConstantRate(URI server,
       String path, Duration rate, int warmupRequests, int totalRequests) {
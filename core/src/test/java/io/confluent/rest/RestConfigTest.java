@@ -136,6 +136,50 @@ public class RestConfigTest {
     assertEquals(doLog, config.getDoLog());
   }
 
+  @Test
+  public void testFairQueueTenantWeights() {
+    Map<String, Object> props = new HashMap<>();
+    props.put("request.fair.queue.tenant.weights", "lkc-1:3,lkc-2:1");
+    RestConfig config = new RestConfig(RestConfig.baseConfigDef(), props);
+    Map<String, Integer> weights = config.getRequestFairQueueTenantWeights();
+    assertEquals(2, weights.size());
+    assertEquals(3, weights.get("lkc-1"));
+    assertEquals(1, weights.get("lkc-2"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"lkc-1:0", "lkc-1:heavy"})
+  public void testInvalidFairQueueTenantWeights(String weights) {
+    Map<String, Object> props = new HashMap<>();
+    props.put("request.fair.queue.tenant.weights", weights);
+    RestConfig config = new RestConfig(RestConfig.baseConfigDef(), props);
+    assertThrows(ConfigException.class,
+        () -> config.getRequestFairQueueTenantWeights());
+  }
+
+  @Test
+  public void testRequestLoggerSampleRates() {
+    Map<String, Object> props = new HashMap<>();
+    props.put("request.logger.sample.rates", "2xx:0.01,3xx:0");
+    props.put("request.logger.sample.tenant.rates", "lkc-1:1.0");
+    RestConfig config = new RestConfig(RestConfig.baseConfigDef(), props);
+    Map<Integer, Double> rates = config.getRequestLoggerSampleRates();
+    assertEquals(2, rates.size());
+    assertEquals(0.01, rates.get(2));
+    assertEquals(0.0, rates.get(3));
+    assertEquals(1.0, config.getRequestLoggerSampleTenantRates().get("lkc-1"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"2xx:1.5", "2xx:-0.1", "2xx:some", "200:0.5", "6xx:0.5"})
+  public void testInvalidRequestLoggerSampleRates(String rates) {
+    Map<String, Object> props = new HashMap<>();
+    props.put("request.logger.sample.rates", rates);
+    RestConfig config = new RestConfig(RestConfig.baseConfigDef(), props);
+    assertThrows(ConfigException.class,
+        () -> config.getRequestLoggerSampleRates());
+  }
+
   // getInstanceConfig tests
 
   public static final String CONFIG_PREFIX = "my.config.prefix.";
@@ -528,4 +572,36 @@ public class RestConfigTest {
     assertTrue(namedListenerConfig.getSniCheckEnable());
     assertEquals(doLog, namedListenerConfig.getDoLog());
   }
+
+  @Test
+  public void testNonBlockingNetworkTrafficRateLimitRejectsGuava() {
+    RestConfig guava = new RestConfig(RestConfig.baseConfigDef(),
+        ImmutableMap.of(RestConfig.NETWORK_TRAFFIC_RATE_LIMIT_NON_BLOCKING_ENABLE_CONFIG, "true"),
+        false);
+    assertThrows(ConfigException.class, guava::getNetworkTrafficRateLimitNonBlockingEnable);
+
+    RestConfig tokenBucket = new RestConfig(RestConfig.baseConfigDef(),
+        ImmutableMap.of(
+            RestConfig.NETWORK_TRAFFIC_RATE_LIMIT_NON_BLOCKING_ENABLE_CONFIG, "true",
+            RestConfig.NETWORK_TRAFFIC_RATE_LIMIT_BACKEND_CONFIG, "token_bucket"),
+        false);
+    assertTrue(tokenBucket.getNetworkTrafficRateLimitNonBlockingEnable());
+  }
+
+  @Test
+  public void testMetricsLatencySloSlaMicros() {
+    RestConfig restConfig = new RestConfig(RestConfig.baseConfigDef(),
+        ImmutableMap.of(RestConfig.METRICS_LATENCY_SLO_MS_CONFIG, "2"), false);
+    assertEquals(2000, restConfig.getMetricsLatencySloMicros());
+    assertEquals(50000, restConfig.getMetricsLatencySlaMicros());
+
+    restConfig = new RestConfig(RestConfig.baseConfigDef(),
+        ImmutableMap.of(
+            RestConfig.METRICS_LATENCY_SLO_MS_CONFIG, "2",
+            RestConfig.METRICS_LATENCY_SLO_US_CONFIG, "250",
+            RestConfig.METRICS_LATENCY_SLA_US_CONFIG, "900"),
+        false);
+    assertEquals(250, restConfig.getMetricsLatencySloMicros());
+    assertEquals(900, restConfig.getMetricsLatencySlaMicros());
+  }
 }
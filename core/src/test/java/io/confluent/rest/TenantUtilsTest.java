@@ -19,10 +19,20 @@ package io.confluent.rest;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.util.HashMap;
+import java.util.Map;
+import org.eclipse.jetty.http.HttpURI;
+import org.eclipse.jetty.server.ConnectionMetaData;
+import org.eclipse.jetty.server.Request;
 import org.junit.jupiter.api.Test;
 
 public class TenantUtilsTest {
@@ -234,6 +244,55 @@ public class TenantUtilsTest {
     assertFalse(TenantUtils.isHealthCheckRequest(null));
   }
 
+  @Test
+  public void testExtractTenantId_CachedOnRequest() {
+    HttpServletRequest request = mock(HttpServletRequest.class);
+    when(request.getAttribute(TenantUtils.TENANT_ID_ATTRIBUTE)).thenReturn("lkc-abc123");
+
+    assertEquals("lkc-abc123", TenantUtils.extractTenantId(request));
+    verify(request, never()).getServerName();
+    verify(request, never()).getRequestURI();
+  }
+
+  @Test
+  public void testExtractTenantId_SetsRequestAttribute() {
+    HttpServletRequest request = mock(HttpServletRequest.class);
+    when(request.getServerName()).thenReturn("lkc-abc123-env456.domain.com");
+
+    assertEquals("lkc-abc123", TenantUtils.extractTenantId(request));
+    verify(request).setAttribute(TenantUtils.TENANT_ID_ATTRIBUTE, "lkc-abc123");
+  }
+
+  @Test
+  public void testExtractTenantId_HostnameCachedOnConnection() {
+    Map<String, Object> connectionAttributes = new HashMap<>();
+    ConnectionMetaData connection = mock(ConnectionMetaData.class);
+    when(connection.getAttribute(anyString()))
+        .thenAnswer(invocation -> connectionAttributes.get(invocation.getArgument(0)));
+    when(connection.setAttribute(anyString(), any()))
+        .thenAnswer(invocation -> connectionAttributes.put(
+            invocation.getArgument(0), invocation.getArgument(1)));
+
+    assertEquals("lkc-abc123", TenantUtils.extractTenantId(
+        request(connection, "https://lkc-abc123-env456.domain.com/kafka/v3/clusters")));
+    assertEquals("lkc-abc123", TenantUtils.extractTenantId(
+        request(connection, "https://lkc-abc123-env456.domain.com/kafka/v3/topics")));
+    verify(connection, times(1)).setAttribute(anyString(), any());
+
+    // Another hostname on the same connection is not mistaken for the first.
+    assertEquals("lkc-def456", TenantUtils.extractTenantId(
+        request(connection, "https://lkc-def456-env456.domain.com/kafka/v3/topics")));
+    assertEquals(TenantUtils.UNKNOWN_TENANT, TenantUtils.extractTenantId(
+        request(connection, "https://api.confluent.cloud/kafka/v3/topics")));
+  }
+
+  private Request request(ConnectionMetaData connection, String uri) {
+    Request request = mock(Request.class);
+    when(request.getConnectionMetaData()).thenReturn(connection);
+    when(request.getHttpURI()).thenReturn(HttpURI.from(uri));
+    return request;
+  }
+
   private void assertTenantExtraction(HttpServletRequest request, String requestURI,
       String serverName, String expectedTenantId) {
     when(request.getRequestURI()).thenReturn(requestURI);
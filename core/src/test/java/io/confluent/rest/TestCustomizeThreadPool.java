@@ -39,6 +39,7 @@ import jakarta.ws.rs.core.Configurable;
 import jakarta.ws.rs.core.MediaType;
 import org.eclipse.jetty.http.HttpStatus;
 import org.eclipse.jetty.http.HttpStatus.Code;
+import org.eclipse.jetty.util.VirtualThreads;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,6 +49,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 public class TestCustomizeThreadPool {
 
@@ -163,6 +166,64 @@ public class TestCustomizeThreadPool {
     }
   }
 
+  @Test
+  public void testJettyThreadPoolMetricsWithVirtualThreads() throws Exception {
+    assumeTrue(VirtualThreads.areSupported(), "Virtual threads are not supported by this JVM");
+    RestResource.latch = new CountDownLatch(1);
+    Properties props = createVirtualThreadsProps();
+    TestCustomizeThreadPoolApplication app = new TestCustomizeThreadPoolApplication(props);
+    String uri = app.getUri();
+    Thread[] threads = new Thread[0];
+    try {
+      app.start();
+
+      // More requests than the pool has threads and queue capacity, all handled at once.
+      int numThread = 30;
+      threads = sendRequests(uri + "/custom/resource", numThread);
+      TestUtils.waitForCondition(() -> app.server.getBusyThreads() >= numThread,
+          "Requests are not all being handled");
+      assertEquals(0, getIntMetricValue(app.metrics, "request-queue-size"));
+      assertTrue(getIntMetricValue(app.metrics, "busy-thread-count") >= numThread);
+      assertTrue(getDoubleMetricValue(app.metrics, "thread-pool-usage") < 1);
+    } finally {
+      RestResource.latch.countDown();
+      for (Thread thread : threads) {
+        thread.join();
+      }
+      RestResource.latch = null;
+      app.stop();
+    }
+  }
+
+  @Test
+  public void testVirtualThreadsNotSupported() throws Exception {
+    assumeFalse(VirtualThreads.areSupported(), "Virtual threads are supported by this JVM");
+    RestResource.latch = new CountDownLatch(0);
+    TestCustomizeThreadPoolApplication app =
+        new TestCustomizeThreadPoolApplication(createVirtualThreadsProps());
+    String uri = app.getUri();
+    try {
+      app.start();
+      sendRequests(uri + "/custom/resource", 1)[0].join();
+      assertTrue(getDoubleMetricValue(app.metrics, "thread-pool-usage") < 1);
+    } finally {
+      RestResource.latch = null;
+      app.stop();
+    }
+  }
+
+  private static Properties createVirtualThreadsProps() {
+    Properties props = new Properties();
+    props.put(RestConfig.LISTENERS_CONFIG, "http://localhost:8080");
+    props.put(RestConfig.THREAD_POOL_MIN_CONFIG, "2");
+    props.put(RestConfig.THREAD_POOL_MAX_CONFIG, "10");
+    props.put(RestConfig.REQUEST_QUEUE_CAPACITY_INITIAL_CONFIG, "2");
+    props.put(RestConfig.REQUEST_QUEUE_CAPACITY_CONFIG, "8");
+    props.put(RestConfig.REQUEST_QUEUE_CAPACITY_GROWBY_CONFIG, "2");
+    props.put(RestConfig.THREAD_POOL_VIRTUAL_THREADS_ENABLE_CONFIG, "true");
+    return props;
+  }
+
   public static int getIntMetricValue(Metrics metrics, String attribute) {
     Map<MetricName, KafkaMetric> allMetrics = metrics.metrics();
     Optional<KafkaMetric> metric = allMetrics.entrySet().stream().filter((m) -> {
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.metrics.stats.CumulativeCount;
+import org.apache.kafka.common.metrics.stats.Max;
+import org.apache.kafka.common.utils.Time;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TimedRequestQueueTest {
+
+  private Metrics metrics;
+  private Time time;
+  private TimedRequestQueue queue;
+
+  @BeforeEach
+  public void setUp() {
+    metrics = new Metrics();
+    time = mock(Time.class);
+    queue = new TimedRequestQueue(1, 1, 2, time);
+    Sensor waitTimeSensor = metrics.sensor("wait-time");
+    waitTimeSensor.add(metrics.metricName("wait-time-max", "test"), new Max());
+    Sensor rejectedSensor = metrics.sensor("rejected");
+    rejectedSensor.add(metrics.metricName("rejected-total", "test"), new CumulativeCount());
+    queue.addSensors(waitTimeSensor, rejectedSensor);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    metrics.close();
+  }
+
+  @Test
+  public void testRecordsWaitTime() throws Exception {
+    Runnable first = () -> { };
+    Runnable second = () -> { };
+    when(time.nanoseconds()).thenReturn(0L);
+    assertTrue(queue.offer(first));
+    when(time.nanoseconds()).thenReturn(TimeUnit.MICROSECONDS.toNanos(500));
+    assertTrue(queue.offer(second));
+    assertSame(first, queue.peek());
+
+    when(time.nanoseconds()).thenReturn(TimeUnit.MILLISECONDS.toNanos(3));
+    assertSame(first, queue.poll());
+    assertEquals(3.0, metricValue("wait-time-max"), 0.0);
+    assertSame(second, queue.poll(1, TimeUnit.MILLISECONDS));
+    assertEquals(3.0, metricValue("wait-time-max"), 0.0);
+    assertNull(queue.poll());
+  }
+
+  @Test
+  public void testCountsRejectedJobs() {
+    when(time.nanoseconds()).thenReturn(0L);
+    assertTrue(queue.offer(() -> { }));
+    assertTrue(queue.offer(() -> { }));
+    assertFalse(queue.offer(() -> { }));
+    assertFalse(queue.offer(() -> { }));
+
+    assertEquals(2, queue.size());
+    assertEquals(2.0, metricValue("rejected-total"), 0.0);
+  }
+
+  private double metricValue(String name) {
+    return (Double) metrics.metric(metrics.metricName(name, "test", Collections.emptyMap()))
+        .metricValue();
+  }
+}
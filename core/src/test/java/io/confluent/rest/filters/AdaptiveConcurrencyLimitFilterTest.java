@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.filters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.confluent.rest.filters.AdaptiveConcurrencyLimit.Algorithm;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.utils.Time;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveConcurrencyLimitFilterTest {
+
+  private Metrics metrics;
+  private AdaptiveConcurrencyLimit limit;
+  private AdaptiveConcurrencyLimitFilter filter;
+  private HttpServletRequest request;
+  private HttpServletResponse response;
+
+  @BeforeEach
+  public void setUp() {
+    metrics = new Metrics();
+    limit = AdaptiveConcurrencyLimit.create(Algorithm.GRADIENT, 1, 1, 1);
+    filter = new AdaptiveConcurrencyLimitFilter(
+        limit, Time.SYSTEM, 429, metrics, Collections.emptyMap());
+    request = mock(HttpServletRequest.class);
+    response = mock(HttpServletResponse.class);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    metrics.close();
+  }
+
+  @Test
+  public void testRejectsRequestsOverLimit() throws Exception {
+    AtomicInteger inFlightDuringRequest = new AtomicInteger();
+    FilterChain chain = (req, resp) -> {
+      inFlightDuringRequest.set(metricValue("adaptive-concurrency-in-flight"));
+      // A concurrent request while this one holds the only slot.
+      HttpServletResponse rejected = mock(HttpServletResponse.class);
+      FilterChain nested = mock(FilterChain.class);
+      filter.doFilter(request, rejected, nested);
+      verify(rejected).sendError(429);
+      verify(nested, never()).doFilter(any(), any());
+    };
+
+    filter.doFilter(request, response, chain);
+
+    assertEquals(1, inFlightDuringRequest.get());
+    assertEquals(0, metricValue("adaptive-concurrency-in-flight"));
+    assertEquals(1, metricValue("adaptive-concurrency-limit"));
+    assertEquals(1.0, metrics.metrics().entrySet().stream()
+        .filter(e -> e.getKey().name().equals("adaptive-concurrency-rejected-total"))
+        .findFirst().get().getValue().metricValue());
+  }
+
+  @Test
+  public void testReleasesOnException() throws Exception {
+    FilterChain chain = mock(FilterChain.class);
+    doAnswer(invocation -> {
+      throw new ServletException("boom");
+    }).when(chain).doFilter(request, response);
+
+    assertThrows(ServletException.class, () -> filter.doFilter(request, response, chain));
+
+    assertEquals(0, limit.getInFlight());
+  }
+
+  @Test
+  public void testReleasesAsyncRequestsOnComplete() throws Exception {
+    AsyncContext asyncContext = mock(AsyncContext.class);
+    when(request.isAsyncStarted()).thenReturn(true);
+    when(request.getAsyncContext()).thenReturn(asyncContext);
+    doAnswer(invocation -> {
+      AsyncListener listener = invocation.getArgument(0);
+      assertEquals(1, limit.getInFlight());
+      listener.onComplete(new AsyncEvent(asyncContext, request, response));
+      return null;
+    }).when(asyncContext).addListener(any());
+
+    filter.doFilter(request, response, mock(FilterChain.class));
+
+    verify(asyncContext).addListener(any());
+    assertEquals(0, limit.getInFlight());
+  }
+
+  private int metricValue(String name) {
+    return (Integer) metrics.metrics().entrySet().stream()
+        .filter(e -> e.getKey().name().equals(name))
+        .findFirst().get().getValue().metricValue();
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.filters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.confluent.rest.filters.AdaptiveConcurrencyLimit.Algorithm;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+public class AdaptiveConcurrencyLimitTest {
+
+  private static final long BASE_LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+  @ParameterizedTest
+  @EnumSource(Algorithm.class)
+  public void testAdmitsUpToLimit(Algorithm algorithm) {
+    AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.create(algorithm, 3, 1, 10);
+
+    assertEquals(1, limit.tryAcquire());
+    assertEquals(2, limit.tryAcquire());
+    assertEquals(3, limit.tryAcquire());
+    assertEquals(0, limit.tryAcquire());
+    assertEquals(3, limit.getInFlight());
+
+    limit.onIgnore();
+    assertEquals(3, limit.tryAcquire());
+  }
+
+  @ParameterizedTest
+  @EnumSource(Algorithm.class)
+  public void testGrowsWhileLatencyIsFlat(Algorithm algorithm) {
+    AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.create(algorithm, 20, 1, 1000);
+
+    for (int i = 0; i < 200; i++) {
+      sampleAtLimit(limit, BASE_LATENCY_NANOS);
+    }
+
+    assertTrue(limit.getLimit() > 20, "limit " + limit.getLimit());
+  }
+
+  @ParameterizedTest
+  @EnumSource(Algorithm.class)
+  public void testShrinksWhenLatencyRises(Algorithm algorithm) {
+    AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.create(algorithm, 100, 1, 1000);
+    for (int i = 0; i < 100; i++) {
+      sampleAtLimit(limit, BASE_LATENCY_NANOS);
+    }
+    int limitBefore = limit.getLimit();
+
+    for (int i = 0; i < 100; i++) {
+      sampleAtLimit(limit, 10 * BASE_LATENCY_NANOS);
+    }
+
+    assertTrue(limit.getLimit() < limitBefore,
+        "limit " + limit.getLimit() + " not below " + limitBefore);
+  }
+
+  @ParameterizedTest
+  @EnumSource(Algorithm.class)
+  public void testShrinksOnDrops(Algorithm algorithm) {
+    AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.create(algorithm, 100, 1, 1000);
+    sampleAtLimit(limit, BASE_LATENCY_NANOS);
+    int limitBefore = limit.getLimit();
+
+    for (int i = 0; i < 10; i++) {
+      limit.tryAcquire();
+      limit.onSample(BASE_LATENCY_NANOS, limit.getLimit(), true);
+    }
+
+    assertTrue(limit.getLimit() < limitBefore);
+  }
+
+  @ParameterizedTest
+  @EnumSource(Algorithm.class)
+  public void testStaysWithinBounds(Algorithm algorithm) {
+    AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.create(algorithm, 50, 20, 60);
+
+    for (int i = 0; i < 1000; i++) {
+      sampleAtLimit(limit, BASE_LATENCY_NANOS);
+    }
+    assertEquals(60, limit.getLimit());
+
+    for (int i = 0; i < 1000; i++) {
+      limit.tryAcquire();
+      limit.onSample(100 * BASE_LATENCY_NANOS, limit.getLimit(), true);
+    }
+    assertEquals(20, limit.getLimit());
+  }
+
+  @ParameterizedTest
+  @EnumSource(Algorithm.class)
+  public void testIgnoresLatencyWhenMostlyIdle(Algorithm algorithm) {
+    AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.create(algorithm, 100, 1, 1000);
+    sampleAtLimit(limit, BASE_LATENCY_NANOS);
+    int limitBefore = limit.getLimit();
+
+    for (int i = 0; i < 100; i++) {
+      limit.tryAcquire();
+      limit.onSample(10 * BASE_LATENCY_NANOS, 1, false);
+    }
+
+    assertEquals(limitBefore, limit.getLimit());
+  }
+
+  private static void sampleAtLimit(AdaptiveConcurrencyLimit limit, long latencyNanos) {
+    limit.tryAcquire();
+    limit.onSample(latencyNanos, limit.getLimit(), false);
+  }
+}
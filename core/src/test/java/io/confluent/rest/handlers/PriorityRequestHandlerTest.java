@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.confluent.rest.handlers.PriorityRequestHandler.Priority;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.util.Callback;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+public class PriorityRequestHandlerTest extends SchedulingHandlerTest {
+
+  private static final long MAX_WAIT_MS = 30000;
+  private static final long STARVATION_MS = 1000;
+
+  private final Function<Request, Priority> classifier =
+      PriorityRequestHandler.pathAndListenerClassifier(
+          Collections.singletonList("/admin"), Collections.singletonList("/bulk"),
+          Collections.singletonList("control"), Collections.emptyList());
+
+  private PriorityRequestHandler handler;
+
+  @BeforeEach
+  public void setUp() {
+    handler = new PriorityRequestHandler(classifier, 1, 2, MAX_WAIT_MS, STARVATION_MS, time,
+        metrics, Collections.emptyMap());
+    handler.setHandler(next);
+  }
+
+  @Test
+  public void testClassifier() {
+    assertEquals(Priority.HIGH, classifier.apply(request("/kafka/health", "external")));
+    assertEquals(Priority.HIGH, classifier.apply(request("/admin/config", "external")));
+    assertEquals(Priority.HIGH, classifier.apply(request("/bulk/records", "control")));
+    assertEquals(Priority.LOW, classifier.apply(request("/bulk/records", "external")));
+    assertEquals(Priority.NORMAL, classifier.apply(request("/v3/topics", "external")));
+  }
+
+  @Test
+  public void testHandlesWaitingRequestsByPriority() throws Exception {
+    Request first = request("/v3/topics", "external");
+    Request bulk = request("/bulk/records", "external");
+    Request healthCheck = request("/kafka/health", "external");
+
+    assertTrue(handler.handle(first, mock(Response.class), mock(Callback.class)));
+    assertTrue(handler.handle(bulk, mock(Response.class), mock(Callback.class)));
+    assertTrue(handler.handle(healthCheck, mock(Response.class), mock(Callback.class)));
+    assertEquals(Collections.singletonList(first), next.requests);
+    assertEquals(1, handler.getQueuedRequests(Priority.LOW));
+    assertEquals(1, handler.getQueuedRequests(Priority.HIGH));
+
+    next.callbacks.get(0).succeeded();
+    assertEquals(healthCheck, next.requests.get(1));
+    next.callbacks.get(1).succeeded();
+    assertEquals(bulk, next.requests.get(2));
+    next.callbacks.get(2).succeeded();
+    assertEquals(0, handler.getActiveRequests());
+  }
+
+  @Test
+  public void testLowPriorityRequestsDoNotStarve() throws Exception {
+    Request bulk = request("/bulk/records", "external");
+    Request healthCheck = request("/kafka/health", "external");
+
+    when(time.nanoseconds()).thenReturn(0L);
+    handler.handle(request("/v3/topics", "external"), mock(Response.class), mock(Callback.class));
+    handler.handle(bulk, mock(Response.class), mock(Callback.class));
+    // Waited long enough to move up past the normal priority, and above the high priority.
+    when(time.nanoseconds()).thenReturn(TimeUnit.MILLISECONDS.toNanos(3 * STARVATION_MS));
+    handler.handle(healthCheck, mock(Response.class), mock(Callback.class));
+
+    next.callbacks.get(0).succeeded();
+    assertEquals(bulk, next.requests.get(1));
+  }
+
+  @Test
+  public void testRejectsWhenTooManyWaitOrWaitTooLong() throws Exception {
+    handler.handle(request("/v3/topics", "external"), mock(Response.class), mock(Callback.class));
+    Request expiring = request("/v3/topics", "external");
+    Response expiringResponse = mock(Response.class);
+    Callback expiringCallback = mock(Callback.class);
+    handler.handle(expiring, expiringResponse, expiringCallback);
+    handler.handle(request("/v3/topics", "external"), mock(Response.class), mock(Callback.class));
+
+    try (MockedStatic<Response> mockedResponse = Mockito.mockStatic(Response.class)) {
+      Request rejected = request("/v3/topics", "external");
+      Response rejectedResponse = mock(Response.class);
+      Callback rejectedCallback = mock(Callback.class);
+      assertTrue(handler.handle(rejected, rejectedResponse, rejectedCallback));
+      mockedResponse.verify(() -> Response.writeError(
+          rejected, rejectedResponse, rejectedCallback, HttpStatus.SERVICE_UNAVAILABLE_503));
+
+      ArgumentCaptor<Runnable> timeout = ArgumentCaptor.forClass(Runnable.class);
+      verify(scheduler, Mockito.times(2))
+          .schedule(timeout.capture(), eq(MAX_WAIT_MS), eq(TimeUnit.MILLISECONDS));
+      timeout.getAllValues().get(0).run();
+      mockedResponse.verify(() -> Response.writeError(
+          expiring, expiringResponse, expiringCallback, HttpStatus.SERVICE_UNAVAILABLE_503));
+    }
+    assertEquals(1, handler.getQueuedRequests(Priority.NORMAL));
+    assertEquals(2.0, metrics.metrics().entrySet().stream()
+        .filter(e -> e.getKey().name().equals("priority-rejected-total"))
+        .findFirst().get().getValue().metricValue());
+  }
+}
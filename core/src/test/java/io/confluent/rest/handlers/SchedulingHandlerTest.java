@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.handlers;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.utils.Time;
+import org.eclipse.jetty.http.HttpURI;
+import org.eclipse.jetty.server.Components;
+import org.eclipse.jetty.server.ConnectionMetaData;
+import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.Context;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.util.Callback;
+import org.eclipse.jetty.util.thread.Scheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+
+/**
+ * The fixture shared by the tests of {@link SchedulingHandler}s: a mock time, a scheduler whose
+ * timeouts never fire unless run by the test, requests that are dispatched on the calling thread
+ * and a next handler that holds on to the requests it is given until the test completes them.
+ */
+abstract class SchedulingHandlerTest {
+
+  Metrics metrics;
+  Time time;
+  Scheduler scheduler;
+  CapturingHandler next;
+
+  @BeforeEach
+  public void setUpScheduling() {
+    metrics = new Metrics();
+    time = mock(Time.class);
+    scheduler = mock(Scheduler.class);
+    when(scheduler.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+        .thenReturn(mock(Scheduler.Task.class));
+    next = new CapturingHandler();
+  }
+
+  @AfterEach
+  public void tearDownScheduling() {
+    metrics.close();
+  }
+
+  Request request(String path) {
+    Request request = mock(Request.class);
+    when(request.getHttpURI()).thenReturn(HttpURI.from("http://localhost" + path));
+    Components components = mock(Components.class);
+    when(request.getComponents()).thenReturn(components);
+    when(components.getScheduler()).thenReturn(scheduler);
+    Context context = mock(Context.class);
+    when(request.getContext()).thenReturn(context);
+    doAnswer(invocation -> {
+      ((Runnable) invocation.getArgument(0)).run();
+      return null;
+    }).when(context).execute(any(Runnable.class));
+    return request;
+  }
+
+  Request request(String path, String listener) {
+    Request request = request(path);
+    ConnectionMetaData connectionMetaData = mock(ConnectionMetaData.class);
+    Connector connector = mock(Connector.class);
+    when(request.getConnectionMetaData()).thenReturn(connectionMetaData);
+    when(connectionMetaData.getConnector()).thenReturn(connector);
+    when(connector.getName()).thenReturn(listener);
+    return request;
+  }
+
+  static class CapturingHandler extends Handler.Abstract {
+    final List<Request> requests = new ArrayList<>();
+    final List<Callback> callbacks = new ArrayList<>();
+
+    @Override
+    public boolean handle(Request request, Response response, Callback callback) {
+      requests.add(request);
+      callbacks.add(callback);
+      return true;
+    }
+
+    List<String> paths() {
+      return requests.stream()
+          .map(request -> request.getHttpURI().getPath())
+          .collect(Collectors.toList());
+    }
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.util.Callback;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+public class TenantFairQueueHandlerTest extends SchedulingHandlerTest {
+
+  // The tenant is the first segment of the path in these tests.
+  private static final Function<Request, String> TENANT_EXTRACTOR =
+      request -> request.getHttpURI().getPath().split("/")[1];
+
+  private TenantFairQueueHandler handler(Map<String, Integer> weights) {
+    return handler(weights, 100, 100);
+  }
+
+  private TenantFairQueueHandler handler(Map<String, Integer> weights, int maxQueuedRequests,
+      int maxMetricsTenants) {
+    TenantFairQueueHandler handler = new TenantFairQueueHandler(TENANT_EXTRACTOR, 1,
+        maxQueuedRequests, 3, 30000, weights, maxMetricsTenants, time, metrics,
+        Collections.emptyMap());
+    handler.setHandler(next);
+    return handler;
+  }
+
+  @Test
+  public void testServesTenantsInTurn() throws Exception {
+    TenantFairQueueHandler handler = handler(Collections.emptyMap());
+    for (String path : Arrays.asList("/a/1", "/a/2", "/a/3", "/a/4", "/b/1", "/b/2")) {
+      handler.handle(request(path), mock(Response.class), mock(Callback.class));
+    }
+    assertEquals(3, handler.getQueuedRequests("a"));
+    assertEquals(2, handler.getQueuedRequests("b"));
+    assertEquals(2, handler.getQueuedTenants());
+
+    assertEquals(Arrays.asList("/a/1", "/a/2", "/b/1", "/a/3", "/b/2", "/a/4"), handleAll());
+    assertEquals(0, handler.getQueuedTenants());
+    assertEquals(0, handler.getActiveRequests());
+  }
+
+  @Test
+  public void testServesTenantsByWeight() throws Exception {
+    TenantFairQueueHandler handler = handler(Collections.singletonMap("a", 2));
+    for (String path : Arrays.asList("/a/1", "/a/2", "/a/3", "/a/4", "/b/1", "/b/2")) {
+      handler.handle(request(path), mock(Response.class), mock(Callback.class));
+    }
+
+    assertEquals(Arrays.asList("/a/1", "/a/2", "/a/3", "/b/1", "/a/4", "/b/2"), handleAll());
+  }
+
+  @Test
+  public void testBoundsTheQueueOfEachTenant() throws Exception {
+    TenantFairQueueHandler handler = handler(Collections.emptyMap());
+    for (String path : Arrays.asList("/a/1", "/a/2", "/a/3", "/a/4")) {
+      handler.handle(request(path), mock(Response.class), mock(Callback.class));
+    }
+
+    try (MockedStatic<Response> mockedResponse = Mockito.mockStatic(Response.class)) {
+      Request rejected = request("/a/5");
+      Response response = mock(Response.class);
+      Callback callback = mock(Callback.class);
+      assertTrue(handler.handle(rejected, response, callback));
+      mockedResponse.verify(() -> Response.writeError(
+          rejected, response, callback, HttpStatus.SERVICE_UNAVAILABLE_503));
+
+      // Other tenants still get queued.
+      handler.handle(request("/b/1"), mock(Response.class), mock(Callback.class));
+      assertEquals(1, handler.getQueuedRequests("b"));
+    }
+  }
+
+  @Test
+  public void testBoundsTheQueuedRequestsOfAllTenants() throws Exception {
+    TenantFairQueueHandler handler = handler(Collections.emptyMap(), 3, 100);
+    for (String path : Arrays.asList("/a/1", "/a/2", "/b/1", "/c/1")) {
+      handler.handle(request(path), mock(Response.class), mock(Callback.class));
+    }
+    assertEquals(3, handler.getQueuedRequests());
+
+    try (MockedStatic<Response> mockedResponse = Mockito.mockStatic(Response.class)) {
+      Request rejected = request("/d/1");
+      Response response = mock(Response.class);
+      Callback callback = mock(Callback.class);
+      assertTrue(handler.handle(rejected, response, callback));
+      mockedResponse.verify(() -> Response.writeError(
+          rejected, response, callback, HttpStatus.SERVICE_UNAVAILABLE_503));
+      assertEquals(3, handler.getQueuedRequests());
+    }
+  }
+
+  @Test
+  public void testBoundsTheTenantsWithMetrics() throws Exception {
+    TenantFairQueueHandler handler = handler(Collections.emptyMap(), 100, 2);
+    when(time.nanoseconds()).thenReturn(0L);
+    for (String path : Arrays.asList("/a/1", "/a/2", "/b/1", "/c/1", "/d/1")) {
+      handler.handle(request(path), mock(Response.class), mock(Callback.class));
+    }
+
+    assertEquals(2, handler.getMetricsTenants());
+    assertEquals(Arrays.asList("a", "b", TenantFairQueueHandler.OVERFLOW_TENANT),
+        depthTenants());
+
+    // Once the tenants have been idle for the whole sample window, new tenants take their place.
+    handleAll();
+    when(time.nanoseconds()).thenReturn(TimeUnit.MINUTES.toNanos(2));
+    handler.handle(request("/e/1"), mock(Response.class), mock(Callback.class));
+    handler.handle(request("/e/2"), mock(Response.class), mock(Callback.class));
+
+    assertEquals(1, handler.getMetricsTenants());
+    assertEquals(Arrays.asList("e", TenantFairQueueHandler.OVERFLOW_TENANT), depthTenants());
+  }
+
+  private List<String> depthTenants() {
+    return metrics.metrics().keySet().stream()
+        .filter(name -> name.name().equals("fair-queue-depth"))
+        .map(name -> name.tags().get("tenant"))
+        .sorted()
+        .collect(Collectors.toList());
+  }
+
+  @Test
+  public void testHandlesHealthChecksRightAway() throws Exception {
+    TenantFairQueueHandler handler = handler(Collections.emptyMap());
+    handler.handle(request("/a/1"), mock(Response.class), mock(Callback.class));
+    handler.handle(request("/kafka/health"), mock(Response.class), mock(Callback.class));
+
+    assertEquals(2, next.paths().size());
+    assertEquals(1, handler.getActiveRequests());
+  }
+
+  @Test
+  public void testRecordsWaitTimePerTenant() throws Exception {
+    TenantFairQueueHandler handler = handler(Collections.emptyMap());
+    when(time.nanoseconds()).thenReturn(0L);
+    handler.handle(request("/a/1"), mock(Response.class), mock(Callback.class));
+    handler.handle(request("/a/2"), mock(Response.class), mock(Callback.class));
+    when(time.nanoseconds()).thenReturn(TimeUnit.MILLISECONDS.toNanos(20));
+    handleAll();
+
+    assertEquals(20.0, metrics.metrics().entrySet().stream()
+        .filter(e -> e.getKey().name().equals("fair-queue-wait-time-max")
+            && "a".equals(e.getKey().tags().get("tenant")))
+        .findFirst().get().getValue().metricValue());
+  }
+
+  /**
+   * Completes the requests being handled until none are left.
+   */
+  private List<String> handleAll() {
+    for (int i = 0; i < next.callbacks.size(); i++) {
+      next.callbacks.get(i).succeeded();
+    }
+    return next.paths();
+  }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.jetty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.confluent.rest.jetty.DoSFilter.GcraRateTracker;
+import io.confluent.rest.jetty.DoSFilter.RateTracker;
+import io.confluent.rest.jetty.DoSFilter.RateType;
+import io.confluent.rest.jetty.DoSFilter.SlidingWindowCounterRateTracker;
+import io.confluent.rest.jetty.DoSFilter.TokenBucketRateTracker;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.jetty.util.NanoTime;
+import org.junit.jupiter.api.Test;
+
+public class DoSFilterRateTrackerTest {
+
+  @Test
+  public void tokenBucket_allowsUpToLimitThenRejects() {
+    RateTracker tracker = new TokenBucketRateTracker(null, "dos", "id", RateType.IP, 10);
+    long now = NanoTime.now();
+
+    for (int i = 0; i < 10; i++) {
+      assertNull(tracker.isRateExceeded(now));
+    }
+    assertNotNull(tracker.isRateExceeded(now));
+  }
+
+  @Test
+  public void tokenBucket_refillsOverTime() {
+    RateTracker tracker = new TokenBucketRateTracker(null, "dos", "id", RateType.IP, 10);
+    long now = NanoTime.now();
+
+    for (int i = 0; i < 10; i++) {
+      assertNull(tracker.isRateExceeded(now));
+    }
+    assertNotNull(tracker.isRateExceeded(now));
+
+    // 100ms later exactly one token is available again.
+    long later = now + TimeUnit.MILLISECONDS.toNanos(100);
+    assertNull(tracker.isRateExceeded(later));
+    assertNotNull(tracker.isRateExceeded(later));
+
+    // A long idle period never refills above the limit.
+    long muchLater = later + TimeUnit.SECONDS.toNanos(60);
+    for (int i = 0; i < 10; i++) {
+      assertNull(tracker.isRateExceeded(muchLater));
+    }
+    assertNotNull(tracker.isRateExceeded(muchLater));
+  }
+
+  @Test
+  public void tokenBucket_concurrentRequestsNeverExceedLimit() throws Exception {
+    int limit = 1000;
+    RateTracker tracker = new TokenBucketRateTracker(null, "dos", "id", RateType.IP, limit);
+    long now = NanoTime.now();
+    AtomicInteger allowed = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      Thread thread = new Thread(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        for (int i = 0; i < 500; i++) {
+          if (tracker.isRateExceeded(now) == null) {
+            allowed.incrementAndGet();
+          }
+        }
+      });
+      thread.start();
+      threads.add(thread);
+    }
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(limit, allowed.get());
+  }
+
+  @Test
+  public void gcra_allowsUpToLimitThenSpacesRequests() {
+    RateTracker tracker = new GcraRateTracker(null, "dos", "id", RateType.IP, 10);
+    long now = NanoTime.now();
+
+    for (int i = 0; i < 10; i++) {
+      assertNull(tracker.isRateExceeded(now));
+    }
+    assertNotNull(tracker.isRateExceeded(now));
+
+    // One emission interval later exactly one more request is admitted.
+    long later = now + TimeUnit.MILLISECONDS.toNanos(100);
+    assertNull(tracker.isRateExceeded(later));
+    assertNotNull(tracker.isRateExceeded(later));
+  }
+
+  @Test
+  public void slidingWindowCounter_weighsPreviousWindow() {
+    RateTracker tracker = new SlidingWindowCounterRateTracker(null, "dos", "id", RateType.IP, 10);
+    long second = TimeUnit.SECONDS.toNanos(1);
+    long windowStart = Math.floorDiv(NanoTime.now(), second) * second;
+
+    for (int i = 0; i < 10; i++) {
+      assertNull(tracker.isRateExceeded(windowStart));
+    }
+    assertNotNull(tracker.isRateExceeded(windowStart));
+
+    // Halfway through the next window half of the previous window's requests still count.
+    long halfway = windowStart + second + second / 2;
+    for (int i = 0; i < 5; i++) {
+      assertNull(tracker.isRateExceeded(halfway));
+    }
+    assertNotNull(tracker.isRateExceeded(halfway));
+
+    // Two windows later the earlier requests no longer count at all.
+    long twoWindowsLater = windowStart + 3 * second;
+    for (int i = 0; i < 10; i++) {
+      assertNull(tracker.isRateExceeded(twoWindowsLater));
+    }
+    assertNotNull(tracker.isRateExceeded(twoWindowsLater));
+  }
+
+  @Test
+  public void constantMemoryTrackers_doNotGrowWithLimit() {
+    assertEquals(
+        new TokenBucketRateTracker(null, "dos", "id", RateType.IP, 10).estimatedHeapBytes(),
+        new TokenBucketRateTracker(null, "dos", "id", RateType.IP, 50_000).estimatedHeapBytes());
+    assertEquals(
+        new GcraRateTracker(null, "dos", "id", RateType.IP, 10).estimatedHeapBytes(),
+        new GcraRateTracker(null, "dos", "id", RateType.IP, 50_000).estimatedHeapBytes());
+    assertEquals(
+        new SlidingWindowCounterRateTracker(null, "dos", "id", RateType.IP, 10)
+            .estimatedHeapBytes(),
+        new SlidingWindowCounterRateTracker(null, "dos", "id", RateType.IP, 50_000)
+            .estimatedHeapBytes());
+    assertTrue(new RateTracker(null, "dos", "id", RateType.IP, 50_000).estimatedHeapBytes()
+        > 8L * 50_000);
+  }
+
+  @Test
+  public void idleTrackers_areEvictedInBulkBySweeper() throws Exception {
+    FilterConfig filterConfig = mock(FilterConfig.class);
+    when(filterConfig.getFilterName()).thenReturn("dos");
+    when(filterConfig.getInitParameter(DoSFilter.MAX_IDLE_TRACKER_MS_INIT_PARAM))
+        .thenReturn("500");
+    AtomicInteger evicted = new AtomicInteger();
+    DoSFilter filter = new DoSFilter();
+    filter.setListener(new DoSFilter.Listener() {
+      @Override
+      public void onRateTrackersEvicted(int count, DoSFilter dosFilter) {
+        evicted.addAndGet(count);
+      }
+    });
+    List<HttpServletRequest> requests = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      HttpServletRequest request = mock(HttpServletRequest.class);
+      when(request.getRemoteAddr()).thenReturn("10.0.0." + i);
+      requests.add(request);
+    }
+    filter.init(filterConfig);
+    try {
+      for (HttpServletRequest request : requests) {
+        filter.getRateTracker(request);
+      }
+      assertEquals(100, filter.getRateTrackerCount());
+      assertTrue(filter.getRateTrackersHeapBytes() > 0);
+
+      // Nothing was recorded by the trackers, so they are evicted on their first check.
+      long deadline = System.currentTimeMillis() + 10_000;
+      while (evicted.get() < 100 && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+
+      assertEquals(0, filter.getRateTrackerCount());
+      assertEquals(0, filter.getRateTrackersHeapBytes());
+      assertEquals(100, filter.getRateTrackersEvicted());
+      assertEquals(100, evicted.get());
+    } finally {
+      filter.destroy();
+    }
+  }
+
+  @Test
+  public void idleTrackers_followChangesOfMaxIdleTrackerMs() throws Exception {
+    FilterConfig filterConfig = mock(FilterConfig.class);
+    when(filterConfig.getFilterName()).thenReturn("dos");
+    when(filterConfig.getInitParameter(DoSFilter.MAX_IDLE_TRACKER_MS_INIT_PARAM))
+        .thenReturn("60000");
+    AtomicInteger evicted = new AtomicInteger();
+    DoSFilter filter = new DoSFilter();
+    filter.setListener(new DoSFilter.Listener() {
+      @Override
+      public void onRateTrackersEvicted(int count, DoSFilter dosFilter) {
+        evicted.addAndGet(count);
+      }
+    });
+    filter.init(filterConfig);
+    try {
+      // Ticks of 60000 / 32 ms would only check the trackers after almost two seconds.
+      filter.setMaxIdleTrackerMs(500);
+      filter.getRateTracker(request("10.0.0.1"));
+      waitForEvicted(evicted, 1, 10_000);
+
+      // From the next tick on, the trackers are checked about when they become idle.
+      long start = System.nanoTime();
+      filter.getRateTracker(request("10.0.0.2"));
+      waitForEvicted(evicted, 2, 10_000);
+      long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+      assertTrue(elapsedMs < 1200, "Evicted after " + elapsedMs + "ms");
+    } finally {
+      filter.destroy();
+    }
+  }
+
+  private static HttpServletRequest request(String remoteAddr) {
+    HttpServletRequest request = mock(HttpServletRequest.class);
+    when(request.getRemoteAddr()).thenReturn(remoteAddr);
+    return request;
+  }
+
+  private static void waitForEvicted(AtomicInteger evicted, int count, long timeoutMs)
+      throws InterruptedException {
+    long deadline = System.currentTimeMillis() + timeoutMs;
+    while (evicted.get() < count && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(count, evicted.get());
+  }
+}
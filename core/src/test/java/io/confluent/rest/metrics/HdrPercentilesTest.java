@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.CompoundStat.NamedMeasurable;
+import org.apache.kafka.common.metrics.MetricConfig;
+import org.apache.kafka.common.metrics.stats.Percentile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class HdrPercentilesTest {
+
+  private final MetricConfig config =
+      new MetricConfig().samples(2).timeWindow(30, TimeUnit.SECONDS);
+  private HdrPercentiles percentiles;
+  private NamedMeasurable p50;
+  private NamedMeasurable p99;
+
+  @BeforeEach
+  public void setUp() {
+    percentiles = new HdrPercentiles(percentile("p50", 50), percentile("p99", 99));
+    List<NamedMeasurable> stats = percentiles.stats();
+    p50 = stats.get(0);
+    p99 = stats.get(1);
+  }
+
+  @Test
+  public void testSubMillisecondAccuracy() {
+    // 990 requests at 0.2ms and 10 at 0.8ms, which linear buckets up to 10s cannot tell apart.
+    for (int i = 0; i < 990; i++) {
+      percentiles.record(config, 0.2, 0);
+    }
+    for (int i = 0; i < 10; i++) {
+      percentiles.record(config, 0.8, 0);
+    }
+
+    assertWithinBucket(0.2, measure(p50, 0));
+    assertWithinBucket(0.2, measure(p99, 0));
+    percentiles.record(config, 0.8, 0);
+    assertWithinBucket(0.8, measure(p99, 0));
+  }
+
+  @Test
+  public void testClampsToRange() {
+    percentiles.record(config, 0.0001, 0);
+    assertEquals(0.001, measure(p50, 0), 0.0);
+
+    percentiles.record(config, TimeUnit.MINUTES.toMillis(10), 0);
+    percentiles.record(config, TimeUnit.MINUTES.toMillis(10), 0);
+    double max = TimeUnit.SECONDS.toMillis(60);
+    assertWithinBucket(max, measure(p99, 0));
+  }
+
+  @Test
+  public void testOnlyCoversRecentWindows() {
+    assertTrue(Double.isNaN(measure(p50, 0)));
+
+    percentiles.record(config, 100, 0);
+    assertWithinBucket(100, measure(p50, 0));
+
+    // Still covered by the two samples.
+    percentiles.record(config, 5, TimeUnit.SECONDS.toMillis(30));
+    percentiles.record(config, 5, TimeUnit.SECONDS.toMillis(31));
+    assertWithinBucket(100, measure(p99, TimeUnit.SECONDS.toMillis(31)));
+
+    // The first window expired.
+    assertWithinBucket(5, measure(p99, TimeUnit.SECONDS.toMillis(61)));
+
+    assertTrue(Double.isNaN(measure(p50, TimeUnit.SECONDS.toMillis(200))));
+  }
+
+  @Test
+  public void testCombinesWindows() {
+    // 60 requests at 1ms in the first window and 40 at 10ms in the second.
+    for (int i = 0; i < 60; i++) {
+      percentiles.record(config, 1, 0);
+    }
+    for (int i = 0; i < 40; i++) {
+      percentiles.record(config, 10, TimeUnit.SECONDS.toMillis(30));
+    }
+
+    assertWithinBucket(1, measure(p50, TimeUnit.SECONDS.toMillis(30)));
+    assertWithinBucket(10, measure(p99, TimeUnit.SECONDS.toMillis(30)));
+  }
+
+  @Test
+  public void testBucketsStayWithinOneSixteenth() {
+    // Exact below 16µs, then 8 buckets per power of two.
+    assertEquals(0, HdrPercentiles.bucket(0));
+    assertEquals(15, HdrPercentiles.bucket(15));
+    assertEquals(15.0, HdrPercentiles.middle(15), 0.0);
+    assertEquals(16, HdrPercentiles.bucket(16));
+    assertEquals(16, HdrPercentiles.bucket(17));
+    assertEquals(23, HdrPercentiles.bucket(31));
+    assertEquals(24, HdrPercentiles.bucket(32));
+
+    for (long micros = 1; micros <= TimeUnit.SECONDS.toMicros(60); micros += 1 + micros / 100) {
+      double middle = HdrPercentiles.middle(HdrPercentiles.bucket(micros));
+      assertTrue(Math.abs(middle - micros) <= micros / 16.0, micros + " -> " + middle);
+    }
+    assertEquals(HdrPercentiles.NUM_BUCKETS - 1,
+        HdrPercentiles.bucket(TimeUnit.SECONDS.toMicros(60)));
+    assertTrue(HdrPercentiles.NUM_BUCKETS * Integer.BYTES <= 800);
+  }
+
+  private static void assertWithinBucket(double expected, double actual) {
+    assertEquals(expected, actual, expected / 16);
+  }
+
+  private double measure(NamedMeasurable stat, long now) {
+    return stat.stat().measure(config, now);
+  }
+
+  private static Percentile percentile(String name, double percentile) {
+    return new Percentile(new MetricName(name, "group", "", Collections.emptyMap()), percentile);
+  }
+}
@@ -21,6 +21,7 @@ import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.handler.ErrorHandler;
 import org.eclipse.jetty.ee10.servlet.ServletContextHandler;
 import org.eclipse.jetty.util.Callback;
+import org.glassfish.jersey.server.ChunkedOutput;
 import org.glassfish.jersey.server.ServerProperties;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,9 +30,15 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -79,6 +86,18 @@ public class MetricsResourceMethodApplicationListenerIntegrationTest {
     if (info.getDisplayName().contains("WithGlobalStatsRequestTagsEnabled")) {
       props.put(RestConfig.METRICS_GLOBAL_STATS_REQUEST_TAGS_ENABLE_CONFIG, "true");
     }
+    if (info.getDisplayName().contains("WithHighResolutionLatency")) {
+      props.put(RestConfig.METRICS_LATENCY_SLO_SLA_ENABLE_CONFIG, "true");
+      props.put(RestConfig.METRICS_LATENCY_HIGH_RESOLUTION_ENABLE_CONFIG, "true");
+      props.put(RestConfig.METRICS_LATENCY_SLO_US_CONFIG, "1");
+      props.put(RestConfig.METRICS_LATENCY_SLA_US_CONFIG, "10000000");
+    }
+    if (info.getDisplayName().contains("WithHdrLatencyPercentiles")) {
+      props.put(RestConfig.METRICS_LATENCY_PERCENTILES_HDR_ENABLE_CONFIG, "true");
+    }
+    if (info.getDisplayName().contains("WithLatencyPhases")) {
+      props.put(RestConfig.METRICS_LATENCY_PHASES_ENABLE_CONFIG, "true");
+    }
 
     config = new TestRestConfig(props);
     app = new ApplicationWithFilter(config);
@@ -584,6 +603,27 @@ public class MetricsResourceMethodApplicationListenerIntegrationTest {
     assertEquals(0, Double.valueOf(allMetrics.get("hello.response-above-latency-sla-total")).intValue());
   }
 
+  @Test
+  public void testMetricLatencySloSla_WithHighResolutionLatency() throws Exception {
+    makeSuccessfulCall();
+
+    // Metrics recording in the Jersey listener may lag behind the HTTP response.
+    waitForJerseyMetric("request-total", 1);
+
+    Map<String, String> allMetrics = TestMetricsReporter.getMetricTimeseries()
+        .stream()
+        .collect(Collectors.toMap(
+            x -> x.metricName().name(),
+            x -> x.metricValue().toString(),
+          (a, b) -> Double.valueOf(a).compareTo(Double.valueOf(b)) > 0 ? a : b));
+
+    // No request completes within a microsecond, and the latency is no longer whole ms.
+    assertEquals(1, Double.valueOf(allMetrics.get("hello.response-above-latency-slo-total")).intValue());
+    assertEquals(1, Double.valueOf(allMetrics.get("hello.response-below-latency-sla-total")).intValue());
+    double latency = Double.parseDouble(allMetrics.get("hello.request-latency-max"));
+    assertTrue(latency > 0 && latency != Math.rint(latency), "latency " + latency);
+  }
+
   @Test
   public void testGlobalLatencyMetricsForErrorsBeforeResourceMatching() throws Exception {
     // call service that fails before resource matching
@@ -610,6 +650,83 @@ public class MetricsResourceMethodApplicationListenerIntegrationTest {
     }
   }
 
+  @Test
+  public void testLatencyPercentiles_WithHdrLatencyPercentiles() throws Exception {
+    long start = System.currentTimeMillis();
+    makeSuccessfulCall();
+    long elapsed = System.currentTimeMillis() - start + 100; // add buffer of a 100 ms
+
+    // Metrics recording in the Jersey listener may lag behind the HTTP response.
+    waitForJerseyMetric("request-total", 1);
+
+    int percentiles = 0;
+    for (KafkaMetric metric : TestMetricsReporter.getMetricTimeseries()) {
+      if (metric.metricName().group().equals("jersey-metrics")) {
+        switch (metric.metricName().name()) {
+          case "request-latency-95":
+          case "request-latency-99":
+          case "hello.request-latency-95":
+          case "hello.request-latency-99":
+            double value = (Double) metric.metricValue();
+            assertTrue(value > 0 && value < elapsed, metric.metricName() + ": " + value);
+            percentiles++;
+            break;
+        }
+      }
+    }
+    assertEquals(4, percentiles);
+  }
+
+  @Test
+  public void testRequestPhases_WithLatencyPhases() throws Exception {
+    long start = System.currentTimeMillis();
+    makeSuccessfulCall();
+    long elapsed = System.currentTimeMillis() - start + 100; // add buffer of a 100 ms
+
+    // Metrics recording in the Jersey listener may lag behind the HTTP response.
+    waitForJerseyMetric("request-total", 1);
+
+    Map<String, Double> phaseMetrics = new HashMap<>();
+    for (KafkaMetric metric : TestMetricsReporter.getMetricTimeseries()) {
+      String name = metric.metricName().name();
+      if (metric.metricName().group().equals("jersey-metrics")
+          && name.startsWith("hello.") && name.endsWith("-latency-max")) {
+        phaseMetrics.put(name, (Double) metric.metricValue());
+      }
+    }
+    for (String phase : Arrays.asList("handlers", "filters", "matching", "request-filters",
+        "resource-method", "response-filters", "response-write")) {
+      Double value = phaseMetrics.get("hello." + phase + "-latency-max");
+      assertNotNull(value, phase);
+      assertTrue(value >= 0 && value < elapsed, phase + ": " + value);
+    }
+    // A GET has no entity to read.
+    assertTrue(Double.isNaN(phaseMetrics.get("hello.entity-read-latency-max")));
+  }
+
+  @Test
+  public void testChunkedResponseWrittenAfterRequestFinished() throws Exception {
+    PublicResource.chunksWritable = new CountDownLatch(1);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<String> chunked = executor.submit(() ->
+          ClientBuilder.newClient(app.resourceConfig.getConfiguration())
+              .target(server.getURI())
+              .path("/public/chunked")
+              .request(MediaType.APPLICATION_JSON_TYPE)
+              .get(String.class));
+      // The chunked request finished in Jersey before its chunks are written, and the server
+      // threads go on to handle other requests meanwhile.
+      waitForJerseyMetric("chunked.request-total", 1);
+      IntStream.range(0, 10).forEach((i) -> makeSuccessfulCall());
+      PublicResource.chunksWritable.countDown();
+
+      assertEquals("chunk-1chunk-2", chunked.get(30, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   private void makeSuccessfulCall() {
     Response response = ClientBuilder.newClient(app.resourceConfig.getConfiguration())
         .target(server.getURI())
@@ -762,6 +879,26 @@ public class MetricsResourceMethodApplicationListenerIntegrationTest {
   @Path("/public/")
   public static class PublicResource {
 
+    static volatile CountDownLatch chunksWritable = new CountDownLatch(0);
+
+    @GET
+    @Path("/chunked")
+    @PerformanceMetric("chunked")
+    public ChunkedOutput<String> chunked() {
+      ChunkedOutput<String> output = new ChunkedOutput<>(String.class);
+      CountDownLatch writable = chunksWritable;
+      new Thread(() -> {
+        try (ChunkedOutput<String> out = output) {
+          writable.await();
+          out.write("chunk-1");
+          out.write("chunk-2");
+        } catch (Exception e) {
+          throw new RuntimeException(e);
+        }
+      }).start();
+      return output;
+    }
+
     @GET
     @Path("/caught")
     @PerformanceMetric("caught")
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.utils.Time;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.ExtendedUriInfo;
+import org.glassfish.jersey.server.model.ResourceModel;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class MetricsResourceMethodApplicationListenerTest {
+
+  private Metrics metrics;
+  private MetricsResourceMethodApplicationListener applicationListener;
+
+  @BeforeEach
+  public void setUp() {
+    metrics = new Metrics();
+    applicationListener = new MetricsResourceMethodApplicationListener(metrics, "test",
+        Collections.emptyMap(), Time.SYSTEM, false, 0L, 0L, 10000.0, false, false);
+    ApplicationEvent initialized = mock(ApplicationEvent.class);
+    when(initialized.getType()).thenReturn(ApplicationEvent.Type.INITIALIZATION_FINISHED);
+    ResourceModel resourceModel = mock(ResourceModel.class);
+    when(resourceModel.getResources()).thenReturn(Collections.emptyList());
+    when(initialized.getResourceModel()).thenReturn(resourceModel);
+    applicationListener.onEvent(initialized);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    metrics.close();
+  }
+
+  @Test
+  public void testClosesResponseOfEveryRequestOfRecycledListener() throws Exception {
+    RequestEventListener first = null;
+    for (int i = 0; i < 3; i++) {
+      RequestEventListener listener = applicationListener.onRequest(mock(RequestEvent.class));
+      if (first == null) {
+        first = listener;
+      }
+      assertSame(first, listener);
+
+      AtomicInteger closes = new AtomicInteger();
+      ByteArrayOutputStream entity = new ByteArrayOutputStream() {
+        @Override
+        public void close() {
+          closes.incrementAndGet();
+        }
+      };
+      ContainerResponse response = mock(ContainerResponse.class);
+      when(response.getEntityStream()).thenReturn(entity);
+
+      listener.onEvent(event(RequestEvent.Type.RESOURCE_METHOD_START, response));
+      listener.onEvent(event(RequestEvent.Type.RESP_FILTERS_START, response));
+      ArgumentCaptor<OutputStream> counting = ArgumentCaptor.forClass(OutputStream.class);
+      verify(response).setEntityStream(counting.capture());
+      counting.getValue().write(new byte[] {1, 2, 3});
+      counting.getValue().close();
+      listener.onEvent(event(RequestEvent.Type.FINISHED, response));
+
+      assertEquals(3, entity.size());
+      assertEquals(1, closes.get());
+    }
+  }
+
+  private static RequestEvent event(RequestEvent.Type type, ContainerResponse response) {
+    RequestEvent event = mock(RequestEvent.class);
+    when(event.getType()).thenReturn(type);
+    when(event.getContainerRequest()).thenReturn(mock(ContainerRequest.class));
+    when(event.getContainerResponse()).thenReturn(response);
+    when(event.getUriInfo()).thenReturn(mock(ExtendedUriInfo.class));
+    return event;
+  }
+}
@@ -80,6 +80,10 @@ public class RequestScopedMetricsIntegrationTest {
     assertEquals(numMetrics,
         app.numMetrics(),
         "numMetrics=" + numMetrics + ", app.numMetrics=" + app.numMetrics());
+
+    // the number of request tag combinations is not capped, so it is not reported either
+    assertTrue(app.getMetrics().metrics().keySet().stream()
+        .noneMatch(name -> name.name().endsWith("request-tags-cardinality")));
   }
 
   public class SimpleApplication extends Application<TestRestConfig> {
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.confluent.rest.Application;
+import io.confluent.rest.RestConfig;
+import io.confluent.rest.TestRestConfig;
+import io.confluent.rest.metrics.RequestScopedMetricsIntegrationTest.TimestampResource;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.Configurable;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import org.apache.kafka.common.utils.MockTime;
+import org.apache.kafka.common.utils.Time;
+import org.apache.kafka.test.TestUtils;
+import org.eclipse.jetty.server.Server;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The request tag combinations of a resource method capped at two, with metrics sampled over two
+ * windows of one second of a mock time, so that tags go idle without waiting.
+ */
+public class RequestScopedMetricsMaxCardinalityIntegrationTest {
+
+  private static final String TAG_HEADER = "X-Runtime-Tag";
+
+  private final MockTime time = new MockTime();
+  private SimpleApplication app;
+  private Server server;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    Properties props = new Properties();
+    props.setProperty("debug", "false");
+    props.put(RestConfig.METRICS_REQUEST_TAGS_MAX_CARDINALITY_CONFIG, "2");
+    props.put(RestConfig.METRICS_SAMPLE_WINDOW_MS_CONFIG, "1000");
+    props.put(RestConfig.METRICS_NUM_SAMPLES_CONFIG, "2");
+    TestRestConfig config = new TestRestConfig(props) {
+      @Override
+      public Time getTime() {
+        return time;
+      }
+    };
+    app = new SimpleApplication(config);
+    server = app.createServer();
+    server.start();
+  }
+
+  @AfterEach
+  public void tearDown() throws Exception {
+    server.stop();
+    server.join();
+  }
+
+  @Test
+  @Tag("IntegrationTest")
+  public void testOverflowsAndEvictsIdleTags() throws Exception {
+    makeCall("a");
+    makeCall("b");
+    // no room left, and a and b were recorded within the sample window
+    makeCall("c");
+    makeCall("d");
+    waitForRequestTotal(MetricsResourceMethodApplicationListener.OVERFLOW_REQUEST_TAGS, 2.0);
+
+    assertEquals(2, metricValue("public.ts.request-tags-cardinality", Collections.emptyMap()));
+    assertEquals(1.0, metricValue("public.ts.request-total", tags("a")));
+    assertEquals(1.0, metricValue("public.ts.request-total", tags("b")));
+
+    // a and b have been idle for the whole sample window, b is recorded again, and a makes
+    // room for c
+    time.sleep(2000);
+    makeCall("b");
+    makeCall("c");
+    waitForRequestTotal(tags("c"), 1.0);
+
+    assertEquals(2, metricValue("public.ts.request-tags-cardinality", Collections.emptyMap()));
+    assertNull(metricValue("public.ts.request-total", tags("a")));
+    assertEquals(2.0, metricValue("public.ts.request-total", tags("b")));
+  }
+
+  private void makeCall(String tag) {
+    Response response = ClientBuilder.newClient(app.resourceConfig.getConfiguration())
+        .target(server.getURI())
+        .path("/public/ts")
+        .request(MediaType.APPLICATION_JSON_TYPE)
+        .header(TAG_HEADER, tag)
+        .get();
+    assertEquals(200, response.getStatus());
+  }
+
+  // Metrics are recorded once the request finished, which may be after the client got the
+  // response.
+  private void waitForRequestTotal(Map<String, String> requestTags, double expected)
+      throws Exception {
+    TestUtils.waitForCondition(
+        () -> Objects.equals(expected, metricValue("public.ts.request-total", requestTags)),
+        "public.ts.request-total of " + requestTags + " never reached " + expected);
+  }
+
+  private Object metricValue(String name, Map<String, String> requestTags) {
+    return app.getMetrics().metrics().entrySet().stream()
+        .filter(e -> e.getKey().name().equals(name)
+            && e.getKey().tags().entrySet().containsAll(requestTags.entrySet())
+            && e.getKey().tags().size() == requestTags.size())
+        .map(e -> e.getValue().metricValue())
+        .findFirst()
+        .orElse(null);
+  }
+
+  private static Map<String, String> tags(String tag) {
+    return Collections.singletonMap("runtime_tag-1", tag);
+  }
+
+  private static class SimpleApplication extends Application<TestRestConfig> {
+
+    Configurable<?> resourceConfig;
+
+    SimpleApplication(TestRestConfig config) {
+      super(config);
+    }
+
+    @Override
+    public void setupResources(Configurable<?> config, TestRestConfig appConfig) {
+      resourceConfig = config;
+      config.register(TimestampResource.class);
+      config.register(new TagHeaderFilter());
+    }
+  }
+
+  // Tags each request with the value of its TAG_HEADER header.
+  private static class TagHeaderFilter implements ContainerRequestFilter {
+
+    @Override
+    public void filter(ContainerRequestContext context) {
+      context.setProperty(MetricsResourceMethodApplicationListener.REQUEST_TAGS_PROP_KEY,
+          tags(context.getHeaderString(TAG_HEADER)));
+    }
+  }
+}
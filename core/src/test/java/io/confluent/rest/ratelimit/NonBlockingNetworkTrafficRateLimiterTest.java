@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Reserves bytes the way {@link RateLimitNetworkTrafficServerConnector} does: connections keep
+ * reading while they are not paused, and pause for as long as each reservation asks. The guava
+ * backend cannot reserve bytes, and is rejected for non-blocking rate limiting.
+ */
+public class NonBlockingNetworkTrafficRateLimiterTest {
+
+  private static final int BYTES_PER_SECOND = 100_000;
+  private static final int READ_SIZE = 1000;
+  private static final int CONNECTIONS = 4;
+  private static final long DURATION_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+  @ParameterizedTest
+  @EnumSource(value = NetworkTrafficRateLimitBackend.class, names = "GUAVA",
+      mode = EnumSource.Mode.EXCLUDE)
+  public void reserve_chargesEveryByteRead(NetworkTrafficRateLimitBackend backend)
+      throws Exception {
+    NetworkTrafficRateLimiter limiter = create(backend);
+    long[] resumeNanos = new long[CONNECTIONS];
+    long bytesRead = 0;
+
+    long start = System.nanoTime();
+    long now = start;
+    while (now - start < DURATION_NANOS) {
+      for (int i = 0; i < CONNECTIONS; i++) {
+        if (now - resumeNanos[i] >= 0) {
+          bytesRead += READ_SIZE;
+          resumeNanos[i] = now + limiter.reserve(READ_SIZE);
+        }
+      }
+      Thread.sleep(0, 100_000);
+      now = System.nanoTime();
+    }
+
+    double seconds = (now - start) / (double) TimeUnit.SECONDS.toNanos(1);
+    // Up to one second worth of bytes may be allowed in a burst before the rate applies.
+    double maxBytes = BYTES_PER_SECOND * (seconds + 1) + CONNECTIONS * READ_SIZE;
+    assertTrue(bytesRead <= maxBytes,
+        backend + " read " + bytesRead + " bytes in " + seconds + "s, more than " + maxBytes);
+    // The connections were paused, not stopped.
+    double minBytes = BYTES_PER_SECOND * seconds * 0.8;
+    assertTrue(bytesRead >= minBytes,
+        backend + " read " + bytesRead + " bytes in " + seconds + "s, fewer than " + minBytes);
+  }
+
+  private static NetworkTrafficRateLimiter create(NetworkTrafficRateLimitBackend backend) {
+    switch (backend) {
+      case RESILIENCE4J:
+        return NetworkTrafficRateLimiterFactory.Resilience4JNetworkTrafficRateLimiter
+            .createNonBlocking(BYTES_PER_SECOND);
+      case TOKEN_BUCKET:
+        return NetworkTrafficRateLimiterFactory.TokenBucketNetworkTrafficRateLimiter
+            .create(BYTES_PER_SECOND);
+      default:
+        throw new AssertionError("Unknown enum constant: " + backend);
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import org.junit.jupiter.api.Test;
+
+public class PerClientNetworkTrafficRateLimiterTest {
+
+  private static Socket socket(String host, int port) {
+    Socket socket = mock(Socket.class);
+    when(socket.getRemoteSocketAddress()).thenReturn(new InetSocketAddress(host, port));
+    return socket;
+  }
+
+  private static PerClientNetworkTrafficRateLimiter perClient(int maxClients) {
+    return new PerClientNetworkTrafficRateLimiter(
+        () -> mock(NetworkTrafficRateLimiter.class), maxClients);
+  }
+
+  @Test
+  public void connectionsFromSameAddress_shareLimiter() {
+    PerClientNetworkTrafficRateLimiter perClient = perClient(100);
+
+    assertSame(perClient.limiterFor(socket("10.0.0.1", 1000)),
+        perClient.limiterFor(socket("10.0.0.1", 2000)));
+    assertNotSame(perClient.limiterFor(socket("10.0.0.1", 1000)),
+        perClient.limiterFor(socket("10.0.0.2", 1000)));
+    assertEquals(2, perClient.size());
+  }
+
+  @Test
+  public void connectionsBoundToSameTenant_shareLimiter() {
+    PerClientNetworkTrafficRateLimiter perClient = perClient(100);
+    Socket first = socket("10.0.0.1", 1000);
+    Socket second = socket("10.0.0.2", 1000);
+    NetworkTrafficRateLimiter addressLimiter = perClient.limiterFor(first);
+    perClient.open(first);
+    perClient.open(second);
+
+    perClient.bindTenant(first.getRemoteSocketAddress(), "lkc-1");
+    perClient.bindTenant(second.getRemoteSocketAddress(), "lkc-1");
+
+    assertSame(perClient.limiterFor(first), perClient.limiterFor(second));
+    assertNotSame(addressLimiter, perClient.limiterFor(first));
+
+    // Once unbound, the connection is charged to its address again.
+    perClient.unbind(first);
+    assertSame(addressLimiter, perClient.limiterFor(first));
+  }
+
+  @Test
+  public void openedLimiter_followsTenantBinding() {
+    PerClientNetworkTrafficRateLimiter perClient = perClient(100);
+    Socket socket = socket("10.0.0.1", 1000);
+    NetworkTrafficRateLimiter connection = perClient.open(socket);
+
+    connection.reserve(10);
+    verify(perClient.limiterFor(socket)).reserve(10);
+
+    perClient.bindTenant(socket.getRemoteSocketAddress(), "lkc-1");
+    NetworkTrafficRateLimiter tenantLimiter = perClient.limiterFor(socket);
+    connection.reserve(20);
+    verify(tenantLimiter).reserve(20);
+    connection.rateLimit(30);
+    verify(tenantLimiter).rateLimit(30);
+  }
+
+  @Test
+  public void bindTenant_ignoresConnectionsNotOpen() {
+    PerClientNetworkTrafficRateLimiter perClient = perClient(100);
+    Socket socket = socket("10.0.0.1", 1000);
+    NetworkTrafficRateLimiter addressLimiter = perClient.limiterFor(socket);
+
+    perClient.bindTenant(socket.getRemoteSocketAddress(), "lkc-1");
+
+    assertSame(addressLimiter, perClient.limiterFor(socket));
+  }
+
+  @Test
+  public void limiters_areBoundedByMaxClients() {
+    PerClientNetworkTrafficRateLimiter perClient = perClient(10);
+
+    for (int i = 0; i < 100; i++) {
+      perClient.limiterFor(socket("10.0.0." + i, 1000));
+    }
+
+    assertTrue(perClient.size() <= 10);
+  }
+}
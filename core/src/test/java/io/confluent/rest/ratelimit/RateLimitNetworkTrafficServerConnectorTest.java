@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.util.Callback;
+import org.eclipse.jetty.util.Promise;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RateLimitNetworkTrafficServerConnectorTest {
+
+  private static final int BYTES_PER_SECOND = 10_000;
+
+  private Server server;
+  private RateLimitNetworkTrafficServerConnector connector;
+  private PerClientNetworkTrafficRateLimiter perClient;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    server = new Server();
+    // A single selector serves every connection.
+    connector = new RateLimitNetworkTrafficServerConnector(
+        server, null, null, null, 1, 1, new HttpConnectionFactory());
+    connector.setHost("localhost");
+    perClient = new PerClientNetworkTrafficRateLimiter(
+        () -> NetworkTrafficRateLimiterFactory.TokenBucketNetworkTrafficRateLimiter
+            .create(BYTES_PER_SECOND), 100);
+    connector.setPerClientNetworkTrafficRateLimiter(perClient);
+    server.addConnector(connector);
+    // Reads the request without blocking, so that the selector itself delivers its content.
+    server.setHandler(new Handler.Abstract.NonBlocking() {
+      @Override
+      public boolean handle(Request request, Response response, Callback callback) {
+        Content.Source.asString(request, StandardCharsets.UTF_8, Promise.from(body -> {
+          response.getHeaders().put(HttpHeader.CONTENT_TYPE, "text/plain");
+          Content.Sink.write(response, true, String.valueOf(body.length()), callback);
+        }, callback::failed));
+        return true;
+      }
+    });
+    server.start();
+  }
+
+  @AfterEach
+  public void tearDown() throws Exception {
+    server.stop();
+  }
+
+  @Test
+  public void pausedConnection_doesNotHoldUpOtherConnections() throws Exception {
+    try (Socket uploader = connect(); Socket other = connect()) {
+      waitForOpenConnections(2);
+      // The uploader gets a budget of its own, which its upload takes 10 seconds to get through.
+      perClient.bindTenant(uploader.getLocalSocketAddress(), "uploader");
+      CompletableFuture<String> upload = CompletableFuture.supplyAsync(
+          () -> post(uploader, 10 * BYTES_PER_SECOND));
+      // Let the uploader use up its budget and be paused.
+      Thread.sleep(1500);
+      assertFalse(upload.isDone());
+
+      long start = System.nanoTime();
+      String response = post(other, 100);
+      long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+      assertTrue(response.startsWith("HTTP/1.1 200"), response);
+      assertTrue(response.endsWith("100"), response);
+      assertTrue(elapsedMillis < 1000, "Took " + elapsedMillis + "ms");
+      assertFalse(upload.isDone());
+    }
+  }
+
+  private void waitForOpenConnections(int connections) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (perClient.openConnections() < connections && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(connections, perClient.openConnections());
+  }
+
+  private Socket connect() throws IOException {
+    return new Socket("localhost", connector.getLocalPort());
+  }
+
+  private static String post(Socket socket, int size) {
+    try {
+      OutputStream out = socket.getOutputStream();
+      out.write(("POST / HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n"
+          + "Content-Length: " + size + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+      byte[] chunk = new byte[1000];
+      for (int written = 0; written < size; written += chunk.length) {
+        out.write(chunk, 0, Math.min(chunk.length, size - written));
+      }
+      out.flush();
+      InputStream in = socket.getInputStream();
+      return new String(in.readAllBytes(), StandardCharsets.US_ASCII);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class TokenBucketNetworkTrafficRateLimiterTest {
+
+  private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+  private NetworkTrafficRateLimiter newLimiter(int bytesPerSecond) {
+    return new NetworkTrafficRateLimiterFactory.TokenBucketNetworkTrafficRateLimiter(
+        bytesPerSecond, clock::get);
+  }
+
+  @Test
+  public void fullBucket_allowsOneSecondOfBytes() {
+    NetworkTrafficRateLimiter limiter = newLimiter(1000);
+
+    assertEquals(0, limiter.reserve(1000));
+    // The next byte is owed for the time it takes to refill it.
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(1), limiter.reserve(1));
+  }
+
+  @Test
+  public void bucket_refillsContinuously() {
+    NetworkTrafficRateLimiter limiter = newLimiter(1000);
+    assertEquals(0, limiter.reserve(1000));
+
+    // 100ms later exactly 100 bytes are available again, without waiting for a full second.
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+    assertEquals(0, limiter.reserve(100));
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(100), limiter.reserve(100));
+  }
+
+  @Test
+  public void idleTime_neverRefillsAboveOneSecondOfBytes() {
+    NetworkTrafficRateLimiter limiter = newLimiter(1000);
+
+    clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+
+    assertEquals(0, limiter.reserve(1000));
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(500), limiter.reserve(500));
+  }
+
+  @Test
+  public void costSmallerThanOneNanosecond_isRoundedUp() {
+    NetworkTrafficRateLimiter limiter = newLimiter(Integer.MAX_VALUE);
+    assertEquals(0, limiter.reserve(Integer.MAX_VALUE));
+
+    // A byte takes less than a nanosecond to refill at this rate, but is still charged.
+    assertEquals(1, limiter.reserve(1));
+    assertEquals(2, limiter.reserve(1));
+    assertEquals(3, limiter.reserve(2));
+  }
+
+  @Test
+  public void owedBytes_accumulate() {
+    NetworkTrafficRateLimiter limiter = newLimiter(1000);
+    assertEquals(0, limiter.reserve(1000));
+
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(200), limiter.reserve(200));
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(500), limiter.reserve(300));
+
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(1), limiter.reserve(1));
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.tenant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class PathTenantResolverTest {
+
+  @Test
+  public void testAnchoredPattern() {
+    PathTenantResolver resolver = new PathTenantResolver(
+        Collections.singletonList("/kafka/v3/clusters/{tenant}"), "lkc-");
+
+    assertEquals("lkc-abc123", resolver.resolve("/kafka/v3/clusters/lkc-abc123"));
+    assertEquals("lkc-abc123", resolver.resolve("/kafka/v3/clusters/lkc-abc123/topics"));
+    // The tenant ID ends at the first character other than a letter or digit.
+    assertEquals("lkc-abc123", resolver.resolve("/kafka/v3/clusters/lkc-abc123.x/topics"));
+    assertNull(resolver.resolve("/kafka/v3/clusters/pkc-abc123/topics"));
+    assertNull(resolver.resolve("/kafka/v3/clusters/lkc-/topics"));
+    assertNull(resolver.resolve("/kafka/v3/clusters"));
+    assertNull(resolver.resolve("/kafka/v3/clusters/"));
+    assertNull(resolver.resolve("/rest/kafka/v3/clusters/lkc-abc123"));
+    assertNull(resolver.resolve("kafka/v3/clusters/lkc-abc123"));
+    assertNull(resolver.resolve(""));
+    assertNull(resolver.resolve((String) null));
+  }
+
+  @Test
+  public void testFloatingPattern() {
+    PathTenantResolver resolver = new PathTenantResolver(
+        Collections.singletonList("**/kafka/v3/clusters/{tenant}"), "lkc-");
+
+    assertEquals("lkc-abc123", resolver.resolve("/kafka/v3/clusters/lkc-abc123/topics"));
+    assertEquals("lkc-abc123", resolver.resolve("/rest/kafka/v3/clusters/lkc-abc123/topics"));
+    assertEquals("lkc-abc123",
+        resolver.resolve("/kafka/v3/kafka/v3/clusters/lkc-abc123/topics"));
+    assertNull(resolver.resolve("/rest/kafka/v3/clusters/topics/lkc-abc123"));
+  }
+
+  @Test
+  public void testManyPatterns() {
+    PathTenantResolver resolver = new PathTenantResolver(Arrays.asList(
+        "/kafka/v3/clusters/{tenant}",
+        "/kafka/v3/*/{tenant}",
+        "/kafka/v4/{tenant}",
+        "/{tenant}"), "lkc-");
+
+    assertEquals("lkc-a1", resolver.resolve("/kafka/v3/clusters/lkc-a1/topics"));
+    assertEquals("lkc-a2", resolver.resolve("/kafka/v3/links/lkc-a2"));
+    assertEquals("lkc-a3", resolver.resolve("/kafka/v4/lkc-a3/topics"));
+    assertEquals("lkc-a4", resolver.resolve("/lkc-a4/kafka"));
+    assertNull(resolver.resolve("/kafka/v4/topics/lkc-a5"));
+  }
+
+  @Test
+  public void testIdPrefix() {
+    PathTenantResolver resolver = new PathTenantResolver(
+        Collections.singletonList("/tenants/{tenant}"), "");
+
+    assertEquals("abc123", resolver.resolve("/tenants/abc123/topics"));
+    assertNull(resolver.resolve("/tenants/-abc123/topics"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "kafka/v3/clusters/{tenant}",
+      "/kafka/v3/clusters",
+      "/kafka/v3/clusters/{tenant}/topics",
+      "/kafka/**/{tenant}",
+      "/kafka/v3/clusters/x{tenant}"})
+  public void testInvalidPatterns(String pattern) {
+    assertThrows(IllegalArgumentException.class,
+        () -> new PathTenantResolver(Collections.singletonList(pattern), "lkc-"));
+  }
+}
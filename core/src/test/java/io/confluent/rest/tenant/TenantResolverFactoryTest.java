@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.tenant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.confluent.rest.RestConfig;
+import io.confluent.rest.customizer.ProxyCustomizer;
+import io.confluent.rest.customizer.TlvProvider;
+import java.nio.charset.StandardCharsets;
+import java.security.cert.X509Certificate;
+import java.util.HashMap;
+import java.util.Map;
+import javax.security.auth.x500.X500Principal;
+import org.apache.kafka.common.Configurable;
+import org.apache.kafka.common.config.ConfigException;
+import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.http.HttpURI;
+import org.eclipse.jetty.io.EndPoint;
+import org.eclipse.jetty.server.Request;
+import org.junit.jupiter.api.Test;
+
+public class TenantResolverFactoryTest {
+
+  @Test
+  public void testDefaultResolvers() {
+    TenantResolver resolver = create(new HashMap<>());
+
+    assertEquals("lkc-abc123",
+        resolver.resolve(request("https://lkc-abc123-env456.domain.com/kafka/v3/clusters")));
+    assertEquals("lkc-def456", resolver.resolve(
+        request("https://api.confluent.cloud/kafka/v3/clusters/lkc-def456/topics")));
+    assertNull(resolver.resolve(request("https://api.confluent.cloud/v1/metadata")));
+  }
+
+  @Test
+  public void testResolversTriedInOrder() {
+    Map<String, Object> props = new HashMap<>();
+    props.put("tenant.resolvers", "header,path");
+    props.put("tenant.header.name", "X-Tenant");
+    props.put("tenant.path.patterns", "/v1/{tenant}");
+    TenantResolver resolver = create(props);
+
+    Request request = request("https://lkc-abc123.domain.com/v1/lkc-def456");
+    assertEquals("lkc-def456", resolver.resolve(request));
+    when(request.getHeaders()).thenReturn(HttpFields.build().add("X-Tenant", "lkc-ghi789"));
+    assertEquals("lkc-ghi789", resolver.resolve(request));
+  }
+
+  @Test
+  public void testProxyTlvResolver() {
+    Map<String, Object> props = new HashMap<>();
+    props.put("tenant.resolvers", "proxy.tlv");
+    props.put("tenant.proxy.tlv.type", "234");
+    TenantResolver resolver = create(props);
+
+    Request request = request("https://api.confluent.cloud/");
+    assertNull(resolver.resolve(request));
+    TlvProvider tlvProvider =
+        type -> type == 234 ? "lkc-abc123".getBytes(StandardCharsets.US_ASCII) : null;
+    when(request.getAttribute(ProxyCustomizer.TLV_PROVIDER_ATTRIBUTE_NAME))
+        .thenReturn(tlvProvider);
+    assertEquals("lkc-abc123", resolver.resolve(request));
+  }
+
+  @Test
+  public void testClientCertificateResolver() {
+    Map<String, Object> props = new HashMap<>();
+    props.put("tenant.resolvers", "client.certificate");
+    TenantResolver resolver = create(props);
+
+    Request request = request("https://api.confluent.cloud/");
+    assertNull(resolver.resolve(request));
+    X509Certificate certificate = mock(X509Certificate.class);
+    when(certificate.getSubjectX500Principal())
+        .thenReturn(new X500Principal("CN=lkc-abc123, OU=Kafka, O=Confluent"));
+    EndPoint.SslSessionData sslSessionData = mock(EndPoint.SslSessionData.class);
+    when(sslSessionData.peerCertificates()).thenReturn(new X509Certificate[] {certificate});
+    when(request.getAttribute(EndPoint.SslSessionData.ATTRIBUTE)).thenReturn(sslSessionData);
+    assertEquals("lkc-abc123", resolver.resolve(request));
+  }
+
+  @Test
+  public void testCustomResolver() {
+    Map<String, Object> props = new HashMap<>();
+    props.put("tenant.resolvers", FixedTenantResolver.class.getName());
+    props.put("fixed.tenant", "lkc-fixed");
+
+    assertEquals("lkc-fixed", create(props).resolve(request("https://api.confluent.cloud/")));
+  }
+
+  @Test
+  public void testInvalidResolvers() {
+    Map<String, Object> props = new HashMap<>();
+    props.put("tenant.resolvers", "unknown");
+    assertThrows(ConfigException.class, () -> create(props));
+
+    props.put("tenant.resolvers", "header");
+    assertThrows(ConfigException.class, () -> create(props));
+
+    props.put("tenant.resolvers", "path");
+    props.put("tenant.path.patterns", "/kafka/v3/clusters");
+    assertThrows(ConfigException.class, () -> create(props));
+  }
+
+  private static TenantResolver create(Map<String, Object> props) {
+    return TenantResolverFactory.create(new RestConfig(RestConfig.baseConfigDef(), props));
+  }
+
+  private static Request request(String uri) {
+    Request request = mock(Request.class);
+    when(request.getHttpURI()).thenReturn(HttpURI.from(uri));
+    when(request.getHeaders()).thenReturn(HttpFields.EMPTY);
+    return request;
+  }
+
+  public static class FixedTenantResolver implements TenantResolver, Configurable {
+
+    private String tenantId;
+
+    @Override
+    public void configure(Map<String, ?> configs) {
+      tenantId = (String) configs.get("fixed.tenant");
+    }
+
+    @Override
+    public String resolve(Request request) {
+      return tenantId;
+    }
+  }
+}
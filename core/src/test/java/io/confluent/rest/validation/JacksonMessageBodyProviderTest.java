@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.confluent.rest.entities.JsonArrayStream;
+import io.confluent.rest.exceptions.RestException;
+import io.confluent.rest.exceptions.RestRequestEntityTooLargeException;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import java.io.ByteArrayInputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+
+public class JacksonMessageBodyProviderTest {
+
+  private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+  private static final Type RECORD_STREAM_TYPE =
+      new TypeReference<JsonArrayStream<Record>>() { }.getType();
+
+  public static class Record {
+
+    @JsonProperty
+    public String key;
+
+    @JsonProperty
+    public int partition;
+  }
+
+  @Test
+  public void testReadsArrayStream() throws Exception {
+    JsonArrayStream<Record> records = readStream(new JacksonMessageBodyProvider(),
+        "[{\"key\":\"a\",\"partition\":1}, {\"key\":\"b\",\"partition\":2}]");
+
+    assertTrue(records.hasNext());
+    assertTrue(records.hasNext());
+    assertEquals("a", records.next().key);
+    Record record = records.next();
+    assertEquals("b", record.key);
+    assertEquals(2, record.partition);
+    assertFalse(records.hasNext());
+    assertThrows(NoSuchElementException.class, records::next);
+    records.close();
+  }
+
+  @Test
+  public void testReadsEmptyArrayStream() throws Exception {
+    assertFalse(readStream(new JacksonMessageBodyProvider(), "[]").hasNext());
+  }
+
+  @Test
+  public void testRejectsStreamOtherThanArray() {
+    assertThrows(JsonMappingException.class,
+        () -> readStream(new JacksonMessageBodyProvider(), "{\"key\":\"a\"}"));
+  }
+
+  @Test
+  public void testInvalidElementsOfArrayStream() throws Exception {
+    JsonArrayStream<Record> records = readStream(new JacksonMessageBodyProvider(),
+        "[{\"key\":\"a\"}, {\"partition\":\"first\"}");
+
+    assertEquals("a", records.next().key);
+    RestException e = assertThrows(RestException.class, records::next);
+    assertEquals(400, e.getStatus());
+  }
+
+  @Test
+  public void testTruncatedArrayStream() throws Exception {
+    JsonArrayStream<Record> records =
+        readStream(new JacksonMessageBodyProvider(), "[{\"key\":\"a\"}");
+
+    assertEquals("a", records.next().key);
+    RestException e = assertThrows(RestException.class, records::hasNext);
+    assertEquals(400, e.getStatus());
+  }
+
+  @Test
+  public void testRejectsEntityLargerThanMaxSizeWhileReading() throws Exception {
+    JacksonMessageBodyProvider provider = new JacksonMessageBodyProvider(new ObjectMapper(), 16);
+
+    assertEquals("a", read(provider, "{\"key\":\"a\"}").key);
+    RestRequestEntityTooLargeException e = assertThrows(
+        RestRequestEntityTooLargeException.class,
+        () -> read(provider, "{\"key\":\"" + "a".repeat(10_000) + "\"}"));
+    assertEquals(413, e.getStatus());
+  }
+
+  @Test
+  public void testRejectsArrayStreamLargerThanMaxSizeWhileIterating() throws Exception {
+    StringBuilder body = new StringBuilder("[");
+    for (int i = 0; i < 10_000; i++) {
+      body.append(i > 0 ? "," : "").append("{\"key\":\"").append(i).append("\"}");
+    }
+    JsonArrayStream<Record> records = readStream(
+        new JacksonMessageBodyProvider(new ObjectMapper(), 64 * 1024), body.append(']').toString());
+
+    int[] read = {0};
+    assertThrows(RestRequestEntityTooLargeException.class, () -> {
+      while (records.hasNext()) {
+        records.next();
+        read[0]++;
+      }
+    });
+    // The elements before the limit was reached were processed already.
+    assertTrue(read[0] > 0, "Read " + read[0] + " records");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testRejectsContentLengthLargerThanMaxSize() {
+    JacksonMessageBodyProvider provider = new JacksonMessageBodyProvider(new ObjectMapper(), 16);
+    MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+    headers.putSingle(HttpHeaders.CONTENT_LENGTH, "17");
+
+    assertThrows(RestRequestEntityTooLargeException.class, () -> provider.readFrom(
+        (Class<Object>) (Class<?>) Record.class, Record.class, NO_ANNOTATIONS,
+        MediaType.APPLICATION_JSON_TYPE, headers, entity("{}")));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Record read(JacksonMessageBodyProvider provider, String body) throws Exception {
+    return (Record) provider.readFrom((Class<Object>) (Class<?>) Record.class, Record.class,
+        NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE, new MultivaluedHashMap<>(), entity(body));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static JsonArrayStream<Record> readStream(JacksonMessageBodyProvider provider,
+      String body) throws Exception {
+    return (JsonArrayStream<Record>) provider.readFrom(
+        (Class<Object>) (Class<?>) JsonArrayStream.class, RECORD_STREAM_TYPE, NO_ANNOTATIONS,
+        MediaType.APPLICATION_JSON_TYPE, new MultivaluedHashMap<>(), entity(body));
+  }
+
+  private static ByteArrayInputStream entity(String body) {
+    return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+  }
+}
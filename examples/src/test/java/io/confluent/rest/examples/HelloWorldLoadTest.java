@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest.examples;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import io.confluent.rest.EmbeddedServerTestHarness;
+import io.confluent.rest.LoadTest;
+import io.confluent.rest.LoadTestResult;
+import io.confluent.rest.RestConfig;
+import io.confluent.rest.examples.helloworld.HelloWorldApplication;
+import io.confluent.rest.examples.helloworld.HelloWorldRestConfig;
+import io.confluent.rest.examples.helloworld.HelloWorldResource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This runs a short load test against the whole application, as started by its server. At a
+ * target rate, every request due within the measured duration is recorded, so the counts do not
+ * depend on how fast the server answers.
+ */
+public class HelloWorldLoadTest
+    extends EmbeddedServerTestHarness<HelloWorldRestConfig, HelloWorldApplication> {
+
+  public HelloWorldLoadTest() {
+    super(new HelloWorldRestConfig(
+        Collections.singletonMap(RestConfig.LISTENERS_CONFIG, "http://localhost:0")));
+    addResource(new HelloWorldResource(config));
+  }
+
+  @Test
+  public void testRecordsEveryRequestDueAtTargetRate() throws Exception {
+    // Two workers each sending every 10ms, alternating between the endpoints.
+    LoadTest loadTest = LoadTest.builder()
+        .concurrency(2)
+        .connections(2)
+        .targetRequestsPerSec(200)
+        .warmup(Duration.ofMillis(200))
+        .duration(Duration.ofSeconds(1))
+        .get("hello", "/hello?name=load")
+        .get("missing", "/missing")
+        .build();
+
+    LoadTestResult result = runLoadTest(loadTest);
+
+    assertEquals(Duration.ofSeconds(1), result.getElapsed());
+    assertEquals(2, result.getEndpoints().size());
+
+    LoadTestResult.EndpointResult hello = result.getEndpoint("hello");
+    assertEquals(100, hello.getHistogram().getTotalCount());
+    assertEquals(0, hello.getErrors());
+    assertEquals(100.0, hello.getRequestsPerSec(), 0.001);
+    assertTrue(hello.getHistogram().getMinValue() > 0);
+    assertTrue(hello.getLatencyMicros(50) <= hello.getLatencyMicros(99));
+    assertTrue(hello.getLatencyMicros(99) <= hello.getHistogram().getMaxValue());
+
+    // Responses other than 2xx are recorded as errors.
+    LoadTestResult.EndpointResult missing = result.getEndpoint("missing");
+    assertEquals(100, missing.getHistogram().getTotalCount());
+    assertEquals(100, missing.getErrors());
+
+    assertTrue(result.toString().contains("hello"));
+    assertTrue(result.toString().contains("missing"));
+  }
+}
@@ -16,6 +16,7 @@
 
 package io.confluent.rest;
 
+import org.eclipse.jetty.server.Server;
 import org.glassfish.jersey.client.ClientConfig;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.test.JerseyTest;
@@ -27,6 +28,7 @@ import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.core.Application;
 
 import java.lang.reflect.InvocationTargetException;
+import java.net.URI;
 import java.util.List;
 import java.util.Vector;
 
@@ -139,6 +141,30 @@ public abstract class
     return test;
   }
 
+  /**
+   * Starts a separate instance of the application on a real {@link ApplicationServer}, drives it
+   * with the given load and returns the latencies and throughput measured per endpoint.
+   *
+   * <p>Unlike the requests sent through {@link #request}, this exercises the full server: the
+   * connectors, the filter chain and the resources registered by the application's
+   * {@code setupResources}. The server listens on the {@code listeners} of the configuration, so
+   * use port 0 there to get a free port. Compare configurations, e.g. {@code http2.enabled},
+   * {@code compression.enable} or the DoS filter settings, by running the same load test with
+   * each of them.
+   */
+  protected LoadTestResult runLoadTest(LoadTest loadTest) throws Exception {
+    T loadTestApp = createApplication();
+    Server server = loadTestApp.createServer();
+    server.start();
+    try {
+      URI serverUri = server.getURI();
+      return new LoadGenerator(loadTest, serverUri).run();
+    } finally {
+      server.stop();
+      server.join();
+    }
+  }
+
   protected Invocation.Builder request(String target, String mediatype) {
     Invocation.Builder builder = getJerseyTest().target(target).request();
     if (mediatype != null) {
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Recorder;
+import org.eclipse.jetty.client.BytesRequestContent;
+import org.eclipse.jetty.client.ContentResponse;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.Request;
+import org.eclipse.jetty.client.transport.HttpClientTransportOverHTTP;
+import org.eclipse.jetty.http2.client.HTTP2Client;
+import org.eclipse.jetty.http2.client.transport.HttpClientTransportOverHTTP2;
+
+/**
+ * Runs a {@link LoadTest} against a started server.
+ */
+final class LoadGenerator {
+
+  private static final int HISTOGRAM_SIGNIFICANT_DIGITS = 3;
+  private static final long REQUEST_TIMEOUT_SECONDS = 30;
+
+  private final LoadTest loadTest;
+  private final URI serverUri;
+  private final Map<String, Recorder> recorders = new LinkedHashMap<>();
+  private final Map<String, LongAdder> errors = new LinkedHashMap<>();
+
+  LoadGenerator(LoadTest loadTest, URI serverUri) {
+    this.loadTest = loadTest;
+    this.serverUri = serverUri;
+    for (LoadTest.Endpoint endpoint : loadTest.getEndpoints()) {
+      recorders.putIfAbsent(endpoint.getName(), new Recorder(HISTOGRAM_SIGNIFICANT_DIGITS));
+      errors.putIfAbsent(endpoint.getName(), new LongAdder());
+    }
+  }
+
+  LoadTestResult run() throws Exception {
+    HttpClient client = newClient();
+    client.setMaxConnectionsPerDestination(loadTest.getConnections());
+    client.start();
+
+    int concurrency = loadTest.getConcurrency();
+    AtomicInteger workerIds = new AtomicInteger();
+    ExecutorService workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+      Thread thread = new Thread(runnable, "load-test-worker-" + workerIds.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    });
+    try {
+      long startNanos = System.nanoTime();
+      long recordFromNanos = startNanos + loadTest.getWarmup().toNanos();
+      long endNanos = recordFromNanos + loadTest.getDuration().toNanos();
+
+      List<Future<?>> futures = new ArrayList<>();
+      for (int worker = 0; worker < concurrency; worker++) {
+        final int workerId = worker;
+        futures.add(workers.submit(() -> {
+          runWorker(client, workerId, startNanos, recordFromNanos, endNanos);
+          return null;
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      workers.shutdownNow();
+      client.stop();
+    }
+
+    Map<String, LoadTestResult.EndpointResult> results = new LinkedHashMap<>();
+    recorders.forEach((name, recorder) -> results.put(name, new LoadTestResult.EndpointResult(
+        recorder.getIntervalHistogram(), errors.get(name).sum(), loadTest.getDuration())));
+    return new LoadTestResult(loadTest.getDuration(), results);
+  }
+
+  private HttpClient newClient() {
+    switch (loadTest.getProtocol()) {
+      case HTTP_1_1:
+        return new HttpClient(new HttpClientTransportOverHTTP());
+      case HTTP_2:
+        return new HttpClient(new HttpClientTransportOverHTTP2(new HTTP2Client()));
+      default:
+        throw new AssertionError("Unknown enum constant: " + loadTest.getProtocol());
+    }
+  }
+
+  private void runWorker(HttpClient client, int workerId, long startNanos, long recordFromNanos,
+      long endNanos) throws InterruptedException {
+    List<LoadTest.Endpoint> endpoints = loadTest.getEndpoints();
+    int concurrency = loadTest.getConcurrency();
+    long intervalNanos = loadTest.getTargetRequestsPerSec() > 0
+        ? TimeUnit.SECONDS.toNanos(concurrency) / loadTest.getTargetRequestsPerSec()
+        : 0;
+    // Spread the workers over the interval rather than having them all send at once.
+    long dueNanos = startNanos + intervalNanos * workerId / concurrency;
+    int next = workerId % endpoints.size();
+
+    while (!Thread.currentThread().isInterrupted()) {
+      long sentNanos;
+      if (intervalNanos > 0) {
+        sentNanos = dueNanos;
+        dueNanos += intervalNanos;
+        for (long wait = sentNanos - System.nanoTime(); wait > 0;
+            wait = sentNanos - System.nanoTime()) {
+          LockSupport.parkNanos(wait);
+        }
+      } else {
+        sentNanos = System.nanoTime();
+      }
+      if (sentNanos - endNanos >= 0) {
+        return;
+      }
+
+      LoadTest.Endpoint endpoint = endpoints.get(next);
+      next = next + 1 == endpoints.size() ? 0 : next + 1;
+      boolean succeeded = send(client, endpoint);
+      long latencyNanos = System.nanoTime() - sentNanos;
+
+      if (sentNanos - recordFromNanos >= 0) {
+        recorders.get(endpoint.getName()).recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        if (!succeeded) {
+          errors.get(endpoint.getName()).increment();
+        }
+      }
+    }
+  }
+
+  private boolean send(HttpClient client, LoadTest.Endpoint endpoint)
+      throws InterruptedException {
+    Request request = client.newRequest(serverUri.resolve(endpoint.getPath()))
+        .method(endpoint.getMethod())
+        .timeout(REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    if (endpoint.getBody() != null) {
+      request.body(new BytesRequestContent(endpoint.getContentType(), endpoint.getBody()));
+    }
+    try {
+      ContentResponse response = request.send();
+      return response.getStatus() / 100 == 2;
+    } catch (ExecutionException | TimeoutException e) {
+      return false;
+    }
+  }
+}
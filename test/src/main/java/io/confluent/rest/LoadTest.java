@@ -0,0 +1,225 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Describes the load {@link EmbeddedServerTestHarness#runLoadTest} drives an application with:
+ * which endpoints to call, over which protocol, with how many connections and concurrent
+ * requests, and for how long.
+ *
+ * <p>Each of the {@code concurrency} workers sends its requests one after the other, cycling
+ * through the endpoints. Without a target rate the workers send as fast as the server answers,
+ * which measures throughput but under-reports tail latency whenever the server stalls. With a
+ * target rate each worker sends on a fixed schedule and latency is measured from the time a
+ * request was due, so stalls show up in the percentiles as they would for production clients.
+ */
+public final class LoadTest {
+
+  public enum Protocol {
+    HTTP_1_1,
+    /** HTTP/2 over cleartext with prior knowledge, i.e. h2c without an upgrade. */
+    HTTP_2
+  }
+
+  private final Protocol protocol;
+  private final int connections;
+  private final int concurrency;
+  private final Duration warmup;
+  private final Duration duration;
+  private final int targetRequestsPerSec;
+  private final List<Endpoint> endpoints;
+
+  private LoadTest(Builder builder) {
+    this.protocol = builder.protocol;
+    this.connections = builder.connections;
+    this.concurrency = builder.concurrency;
+    this.warmup = builder.warmup;
+    this.duration = builder.duration;
+    this.targetRequestsPerSec = builder.targetRequestsPerSec;
+    this.endpoints = Collections.unmodifiableList(new ArrayList<>(builder.endpoints));
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public Protocol getProtocol() {
+    return protocol;
+  }
+
+  public int getConnections() {
+    return connections;
+  }
+
+  public int getConcurrency() {
+    return concurrency;
+  }
+
+  public Duration getWarmup() {
+    return warmup;
+  }
+
+  public Duration getDuration() {
+    return duration;
+  }
+
+  /**
+   * Returns the rate all workers together send requests at, or 0 to send as fast as possible.
+   */
+  public int getTargetRequestsPerSec() {
+    return targetRequestsPerSec;
+  }
+
+  public List<Endpoint> getEndpoints() {
+    return endpoints;
+  }
+
+  /**
+   * A request to send repeatedly. Results are reported per endpoint name.
+   */
+  public static final class Endpoint {
+
+    private final String name;
+    private final String method;
+    private final String path;
+    private final String contentType;
+    private final byte[] body;
+
+    public Endpoint(String name, String method, String path) {
+      this(name, method, path, null, null);
+    }
+
+    public Endpoint(String name, String method, String path, String contentType, byte[] body) {
+      this.name = Objects.requireNonNull(name);
+      this.method = Objects.requireNonNull(method);
+      this.path = Objects.requireNonNull(path);
+      this.contentType = contentType;
+      this.body = body;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public String getMethod() {
+      return method;
+    }
+
+    public String getPath() {
+      return path;
+    }
+
+    public String getContentType() {
+      return contentType;
+    }
+
+    public byte[] getBody() {
+      return body;
+    }
+  }
+
+  public static final class Builder {
+
+    private Protocol protocol = Protocol.HTTP_1_1;
+    private int connections = 8;
+    private int concurrency = 8;
+    private Duration warmup = Duration.ofSeconds(5);
+    private Duration duration = Duration.ofSeconds(30);
+    private int targetRequestsPerSec = 0;
+    private final List<Endpoint> endpoints = new ArrayList<>();
+
+    private Builder() {
+    }
+
+    public Builder protocol(Protocol protocol) {
+      this.protocol = Objects.requireNonNull(protocol);
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of connections the client pool opens to the server.
+     */
+    public Builder connections(int connections) {
+      if (connections < 1) {
+        throw new IllegalArgumentException("connections must be at least 1");
+      }
+      this.connections = connections;
+      return this;
+    }
+
+    /**
+     * Sets the number of requests in flight at any time.
+     */
+    public Builder concurrency(int concurrency) {
+      if (concurrency < 1) {
+        throw new IllegalArgumentException("concurrency must be at least 1");
+      }
+      this.concurrency = concurrency;
+      return this;
+    }
+
+    /**
+     * Sets how long requests are sent before their latencies start being recorded.
+     */
+    public Builder warmup(Duration warmup) {
+      this.warmup = Objects.requireNonNull(warmup);
+      return this;
+    }
+
+    /**
+     * Sets how long latencies are recorded for, after the warmup.
+     */
+    public Builder duration(Duration duration) {
+      this.duration = Objects.requireNonNull(duration);
+      return this;
+    }
+
+    public Builder targetRequestsPerSec(int targetRequestsPerSec) {
+      if (targetRequestsPerSec < 0) {
+        throw new IllegalArgumentException("targetRequestsPerSec must not be negative");
+      }
+      this.targetRequestsPerSec = targetRequestsPerSec;
+      return this;
+    }
+
+    public Builder endpoint(Endpoint endpoint) {
+      endpoints.add(Objects.requireNonNull(endpoint));
+      return this;
+    }
+
+    public Builder get(String name, String path) {
+      return endpoint(new Endpoint(name, "GET", path));
+    }
+
+    public Builder post(String name, String path, String contentType, byte[] body) {
+      return endpoint(new Endpoint(name, "POST", path, contentType, body));
+    }
+
+    public LoadTest build() {
+      if (endpoints.isEmpty()) {
+        throw new IllegalStateException("At least one endpoint is required");
+      }
+      return new LoadTest(this);
+    }
+  }
+}
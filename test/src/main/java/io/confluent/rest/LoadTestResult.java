@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.rest;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/**
+ * The latencies and throughput measured by {@link EmbeddedServerTestHarness#runLoadTest}, per
+ * endpoint. Latencies are in microseconds.
+ */
+public final class LoadTestResult {
+
+  private final Duration elapsed;
+  private final Map<String, EndpointResult> endpoints;
+
+  LoadTestResult(Duration elapsed, Map<String, EndpointResult> endpoints) {
+    this.elapsed = elapsed;
+    this.endpoints = Collections.unmodifiableMap(new LinkedHashMap<>(endpoints));
+  }
+
+  /**
+   * Returns how long latencies were recorded for.
+   */
+  public Duration getElapsed() {
+    return elapsed;
+  }
+
+  public Map<String, EndpointResult> getEndpoints() {
+    return endpoints;
+  }
+
+  public EndpointResult getEndpoint(String name) {
+    return endpoints.get(name);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder(String.format(
+        "%-24s %10s %8s %10s %10s %10s %10s %10s %10s%n",
+        "endpoint", "req/s", "errors", "p50(us)", "p90(us)", "p99(us)", "p99.9(us)", "max(us)",
+        "count"));
+    endpoints.forEach((name, result) -> builder.append(String.format(
+        "%-24s %10.1f %8d %10d %10d %10d %10d %10d %10d%n",
+        name, result.getRequestsPerSec(), result.getErrors(),
+        result.getLatencyMicros(50), result.getLatencyMicros(90), result.getLatencyMicros(99),
+        result.getLatencyMicros(99.9), result.getHistogram().getMaxValue(),
+        result.getHistogram().getTotalCount())));
+    return builder.toString();
+  }
+
+  public static final class EndpointResult {
+
+    private final Histogram histogram;
+    private final long errors;
+    private final double requestsPerSec;
+
+    EndpointResult(Histogram histogram, long errors, Duration elapsed) {
+      this.histogram = histogram;
+      this.errors = errors;
+      this.requestsPerSec = elapsed.isZero()
+          ? 0 : histogram.getTotalCount() / (elapsed.toNanos() / 1e9);
+    }
+
+    /**
+     * Returns the latencies of all recorded requests, successful or not, in microseconds.
+     */
+    public Histogram getHistogram() {
+      return histogram;
+    }
+
+    /**
+     * Returns the number of recorded requests that failed or were not answered with a 2xx.
+     */
+    public long getErrors() {
+      return errors;
+    }
+
+    public double getRequestsPerSec() {
+      return requestsPerSec;
+    }
+
+    public long getLatencyMicros(double percentile) {
+      return histogram.getValueAtPercentile(percentile);
+    }
+  }
+}